@@ -1,8 +1,11 @@
 package org.folio.search.configuration;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.search.service.FolioExecutor;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
@@ -18,6 +21,7 @@ public class AsyncConfig {
 
   private final StreamIdsProperties streamIdsProperties;
   private final ReindexConfigurationProperties reindexConfigurationProperties;
+  private final SearchConfigurationProperties searchConfigurationProperties;
 
   @Bean("streamIdsExecutor")
   public Executor streamIdsExecutor() {
@@ -42,6 +46,41 @@ public class AsyncConfig {
     return new FolioExecutor(10, 15);
   }
 
+  @Bean("reindexConversionExecutor")
+  public FolioExecutor reindexConversionExecutor() {
+    var parallelism = reindexConfigurationProperties.getUploadConversionParallelism();
+    return new FolioExecutor(parallelism, parallelism);
+  }
+
+  @Bean("reindexMergeParsingExecutor")
+  public FolioExecutor reindexMergeParsingExecutor() {
+    var parallelism = reindexConfigurationProperties.getMergeExportParsingParallelism();
+    return new FolioExecutor(parallelism, parallelism);
+  }
+
+  @Bean("reindexMergeReaderExecutor")
+  public ExecutorService reindexMergeReaderExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("reindex-merge-reader-", 0).factory());
+  }
+
+  @Bean("subResourceProcessingExecutor")
+  public FolioExecutor subResourceProcessingExecutor() {
+    var parallelism = Math.max(1, searchConfigurationProperties.getIndexing().getSubResourceProcessingParallelism());
+    return new FolioExecutor(parallelism, parallelism);
+  }
+
+  @Bean("kafkaKeyOrderedExecutor")
+  public FolioExecutor kafkaKeyOrderedExecutor() {
+    var parallelism = Math.max(1, searchConfigurationProperties.getIndexing().getKafkaKeyOrderedParallelism());
+    return new FolioExecutor(parallelism, parallelism);
+  }
+
+  @Bean("stagingMigrationExecutor")
+  public FolioExecutor stagingMigrationExecutor() {
+    var parallelism = reindexConfigurationProperties.getMigrationParallelism();
+    return new FolioExecutor(parallelism, parallelism);
+  }
+
   @Bean("reindexPublisherExecutor")
   public FolioExecutor reindexPublisherExecutor() {
     return new FolioExecutor(
@@ -6,6 +6,7 @@ import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.integration.message.LazyPayloadDeserializer;
 import org.folio.search.model.event.IndexInstanceEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
@@ -34,10 +35,13 @@ public class InstanceResourceEventKafkaConfiguration extends KafkaConfiguration
   public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent> instanceResourceListenerContainerFactory(
     BatchInterceptor<String, ResourceEvent>[] batchInterceptors,
     @Value("#{folioKafkaProperties.listener['events'].maxPollRecords}") Integer maxPollRecords,
-    @Value("#{folioKafkaProperties.listener['events'].maxPollIntervalMs}") Integer maxPollIntervalMs) {
+    @Value("#{folioKafkaProperties.listener['events'].maxPollIntervalMs}") Integer maxPollIntervalMs,
+    @Value("${folio.search-config.indexing.lazy-event-payload-enabled:false}") boolean lazyEventPayloadEnabled) {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent>();
     factory.setBatchListener(true);
-    var deserializer = new JacksonJsonDeserializer<>(ResourceEvent.class, false);
+    var deserializer = lazyEventPayloadEnabled
+      ? new JacksonJsonDeserializer<>(ResourceEvent.class, LazyPayloadDeserializer.resourceEventMapper(), false)
+      : new JacksonJsonDeserializer<>(ResourceEvent.class, false);
     var overrideProperties = Map.<String, Object>of(MAX_POLL_RECORDS_CONFIG, maxPollRecords,
       MAX_POLL_INTERVAL_MS_CONFIG, maxPollIntervalMs);
     factory.setConsumerFactory(getConsumerFactory(deserializer, kafkaProperties, overrideProperties));
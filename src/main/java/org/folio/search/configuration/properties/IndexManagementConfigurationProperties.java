@@ -40,4 +40,56 @@ public class IndexManagementConfigurationProperties {
    * Setting to false improves performance by deferring refresh.
    */
   private Boolean deleteQueryRefresh = false;
+
+  /**
+   * Whether bulk indexing should use the pipelined asynchronous writer instead of a single synchronous bulk call.
+   */
+  private Boolean bulkPipelineEnabled = false;
+
+  /**
+   * Maximum number of documents in a single bulk request sent by the pipelined writer.
+   */
+  @Min(1)
+  private Integer bulkFlushMaxActions = 1_000;
+
+  /**
+   * Maximum estimated size in bytes of a single bulk request sent by the pipelined writer.
+   */
+  @Min(1)
+  private Long bulkFlushMaxBytes = 10L * 1024 * 1024;
+
+  /**
+   * Maximum number of bulk requests in flight per pipelined writer.
+   */
+  @Min(1)
+  private Integer bulkMaxInFlightRequests = 2;
+
+  /**
+   * Whether documents identical to the last version indexed by this module instance should be skipped.
+   */
+  private Boolean documentFingerprintEnabled = false;
+
+  /**
+   * Maximum number of document fingerprints kept in memory.
+   */
+  @Min(1)
+  private Long documentFingerprintMaxSize = 200_000L;
+
+  /**
+   * Time in minutes after which a document fingerprint expires.
+   */
+  @Min(1)
+  private Integer documentFingerprintTtl = 60;
+
+  /**
+   * Whether full and upload reindex build a new index generation behind the index alias, which is swapped to the new
+   * generation when the upload is completed, instead of dropping and recreating the live index.
+   */
+  private Boolean blueGreenReindexEnabled = false;
+
+  /**
+   * Time in seconds for which resolved index aliases of blue/green reindex are cached by the module instance.
+   */
+  @Min(1)
+  private Integer indexAliasCacheTtlSeconds = 30;
 }
@@ -33,11 +33,80 @@ public class ReindexConfigurationProperties {
   @Min(1)
   private Integer uploadRangeLevel = 3;
 
+  /**
+   * Defines the target stored size in bytes of instance upload ranges (instance with its holdings and items). If
+   * greater than 0, instance ranges are planned by the measured record weight instead of the record count, so ranges
+   * with heavy instances are narrower. Value 0 disables weighted planning.
+   */
+  @Min(0)
+  private long uploadRangeTargetBytes = 0;
+
+  /**
+   * Defines how many times a failed UUID upload range is split in halves and re-processed before the range is marked
+   * as failed. Value 0 disables re-splitting.
+   */
+  @Min(0)
+  private int uploadRangeResplitDepth = 0;
+
+  /**
+   * Defines if records of upload ranges are streamed from the database and indexed in bulk chunks as they are read,
+   * instead of loading the whole range into memory before indexing.
+   */
+  private boolean uploadRangeStreamingEnabled = false;
+
+  /**
+   * Defines the JDBC fetch size used when upload range records are streamed.
+   */
+  @Min(1)
+  private int uploadRangeFetchSize = 100;
+
+  /**
+   * Defines the number of threads used to convert records of upload ranges to search documents. The executor is
+   * shared by all upload range listeners, so it caps the total conversion concurrency. Value 1 means that records are
+   * converted sequentially on the listener thread.
+   */
+  @Min(1)
+  private int uploadConversionParallelism = 1;
+
+  /**
+   * Defines the number of records per conversion task when upload range conversion is parallel.
+   */
+  @Min(1)
+  private int uploadConversionChunkSize = 100;
+
   private Integer mergeRangeSize = 1_000;
 
   @Min(100)
   private Integer mergeExportBatchSize = 500;
 
+  /**
+   * Defines the number of threads parsing lines of exported files. The executor is shared by all file listeners.
+   * Value 1 means that a file is read, parsed and saved sequentially on the listener thread. Greater values read the
+   * file on a separate thread and parse batches concurrently, while the listener thread saves them in file order.
+   */
+  @Min(1)
+  private int mergeExportParsingParallelism = 1;
+
+  /**
+   * Defines the maximum number of batches of an exported file that are read ahead of the batch being saved when
+   * exported files are parsed concurrently.
+   */
+  @Min(1)
+  private int mergeExportPipelineCapacity = 4;
+
+  /**
+   * Defines the buffer size in bytes for reading exported files. Gzip-compressed files are detected by their header
+   * and decompressed while reading.
+   */
+  @Min(8192)
+  private int mergeExportReadBufferSize = 1_048_576;
+
+  /**
+   * Defines if merge-phase entities read from exported files are loaded using PostgreSQL COPY instead of batched
+   * inserts. Upserts to main tables go through a temporary table and a single INSERT ... SELECT statement.
+   */
+  private boolean mergeCopyEnabled = false;
+
   private Integer mergeRangePublisherCorePoolSize = 3;
 
   private Integer mergeRangePublisherMaxPoolSize = 6;
@@ -78,6 +147,21 @@ public class ReindexConfigurationProperties {
                      + "(e.g., '0', '600000', '30min', '1h')")
   private String migrationStatementTimeout = "0";
 
+  /**
+   * Defines the number of database connections used by the staging migration. Value 1 migrates all staging tables
+   * sequentially in a single transaction. Greater values run independent migration phases concurrently, with each id
+   * range chunk migrated in its own transaction.
+   */
+  @Min(1)
+  private int migrationParallelism = 1;
+
+  /**
+   * Defines the number of id range chunks that instance, holding, item and relationship migration phases are split
+   * into when the staging migration is concurrent.
+   */
+  @Min(1)
+  private int migrationChunks = 16;
+
   /**
    * Validates the configuration properties at startup.
    * This ensures that any invalid configuration fails fast during application startup.
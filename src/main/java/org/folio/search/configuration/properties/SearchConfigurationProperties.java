@@ -70,6 +70,12 @@ public class SearchConfigurationProperties {
      */
     private IndexingDataFormat dataFormat;
 
+    /**
+     * Enables writing search documents directly to the Smile/JSON generator without building an intermediate
+     * result map for each document.
+     */
+    private Boolean streamingConversionEnabled = false;
+
     private Boolean instanceChildrenIndexEnabled;
 
     /**
@@ -89,5 +95,78 @@ public class SearchConfigurationProperties {
      * Default is 10 minutes (600000 ms).
      */
     private long staleLockThresholdMs = 600_000L; // 10 minutes
+
+    /**
+     * Enables in-memory coalescing of sub-resource documents between scheduler cycles.
+     * Documents updated several times before the flush are indexed only once.
+     */
+    private boolean subResourceBufferEnabled = false;
+
+    /**
+     * Number of buffered sub-resource documents per tenant and entity type that triggers a flush.
+     */
+    private int subResourceBufferMaxSize = 1000;
+
+    /**
+     * Max time in milliseconds a sub-resource document can stay in the buffer before it is flushed.
+     * Should be significantly lower than {@link #staleLockThresholdMs}.
+     */
+    private long subResourceBufferMaxDelayMs = 120_000L;
+
+    /**
+     * Max number of documents per indexing request when flushing the sub-resource buffer.
+     */
+    private int subResourceBufferMaxBatchSize = 500;
+
+    /**
+     * Max number of tenant and entity type units processed concurrently by the sub-resource scheduler.
+     * Value 1 keeps the sequential processing.
+     */
+    private int subResourceProcessingParallelism = 1;
+
+    /**
+     * Time window in milliseconds to remember successfully indexed instances. Index instance events produced before
+     * the last indexing of the same instance within this window are dropped. Value 0 disables the compaction.
+     */
+    private long instanceEventCompactionWindowMs = 0L;
+
+    /**
+     * Tolerated clock difference in milliseconds between the event producer and consumer nodes.
+     */
+    private long instanceEventCompactionClockSkewMs = 1_000L;
+
+    /**
+     * Max number of remembered instances for the index instance event compaction.
+     */
+    private long instanceEventCompactionMaxSize = 100_000L;
+
+    /**
+     * Defines if failed Kafka message batches are split in halves recursively to isolate failing messages instead of
+     * processing all messages of the batch one by one.
+     */
+    private boolean batchFallbackBisectEnabled = false;
+
+    /**
+     * Batch size at which the bisecting fallback stops splitting and processes messages one by one with retry.
+     */
+    private int batchFallbackMinBatchSize = 1;
+
+    /**
+     * Max number of parallel lanes used to process a polled batch of instance related Kafka messages. Messages with
+     * the same key are always processed in order within one lane. Value 1 keeps the sequential processing.
+     */
+    private int kafkaKeyOrderedParallelism = 1;
+
+    /**
+     * Defines if instances referenced by inventory events are indexed directly by the inventory events listener
+     * instead of sending index instance events to Kafka. Failed instances are sent to the index instance topic.
+     */
+    private boolean directInstanceIndexingEnabled = false;
+
+    /**
+     * Defines if payloads of inventory events are kept as raw JSON and parsed only on demand. Unmodified payloads are
+     * persisted to the merge range tables without re-serialization.
+     */
+    private boolean lazyEventPayloadEnabled = false;
   }
 }
@@ -18,4 +18,47 @@ public class SearchQueryConfigurationProperties {
    * Search request timeout.
    */
   private Duration requestTimeout = Duration.ofSeconds(25);
+
+  /**
+   * Specifies if instance searches with {@code expandAll=true} write stored record sources straight to the response,
+   * without building search response objects and DTO lists.
+   */
+  private boolean rawSourceResponseEnabled = false;
+
+  /**
+   * Specifies if search responses are cached in memory until documents are written to the searched index or the
+   * cache entry expires.
+   */
+  private boolean resultCacheEnabled = false;
+
+  /**
+   * Maximum number of cached search responses.
+   */
+  private long resultCacheMaxSize = 1000;
+
+  /**
+   * Maximum estimated size of cached search responses in bytes.
+   */
+  private long resultCacheMaxBytes = 64L * 1024 * 1024;
+
+  /**
+   * Time after which a cached search response expires, aligned with the index refresh interval.
+   */
+  private Duration resultCacheTtl = Duration.ofSeconds(1);
+
+  /**
+   * Specifies if search sources converted from CQL queries are cached and copied for repeated queries.
+   */
+  private boolean queryCacheEnabled = false;
+
+  /**
+   * Maximum number of cached search sources converted from CQL queries.
+   */
+  private long queryCacheMaxSize = 1000;
+
+  /**
+   * Specifies if bool queries converted from CQL queries are simplified before they are sent. The set of matched
+   * documents stays the same, but relevance scores, and so the order of results sorted by relevance, can change.
+   */
+  private boolean boolQueryOptimizationEnabled = false;
 }
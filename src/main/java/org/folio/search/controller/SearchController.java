@@ -14,6 +14,7 @@ import org.folio.search.domain.dto.LinkedDataHubSearchResult;
 import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.domain.dto.LinkedDataWorkSearchResult;
 import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.model.service.RawInstanceSearchResult;
 import org.folio.search.rest.resource.SearchApi;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
@@ -28,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/")
 public class SearchController implements SearchApi {
 
+  private static final String INSTANCES_FIELD = "instances";
+
   private final SearchService searchService;
   private final TenantProvider tenantProvider;
 
@@ -64,6 +67,9 @@ public class SearchController implements SearchApi {
       .expandAll(expandAll)
       .includeFields(include)
       .build();
+    if (searchService.isRawSourceResponseSupported(searchRequest)) {
+      return ResponseEntity.ok(new RawInstanceSearchResult(searchService.searchRaw(searchRequest, INSTANCES_FIELD)));
+    }
     var result = searchService.search(searchRequest);
     return ResponseEntity.ok(new InstanceSearchResult()
       .instances(result.getRecords())
@@ -0,0 +1,44 @@
+package org.folio.search.converter;
+
+import java.io.IOException;
+import org.folio.search.model.service.RawInstanceSearchResult;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes {@link RawInstanceSearchResult} objects straight to the response body.
+ */
+@Component
+public class RawSearchResultHttpMessageConverter extends AbstractHttpMessageConverter<RawInstanceSearchResult> {
+
+  public RawSearchResultHttpMessageConverter() {
+    super(MediaType.APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return RawInstanceSearchResult.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected RawInstanceSearchResult readInternal(Class<? extends RawInstanceSearchResult> clazz,
+                                                 HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Raw search result cannot be read", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(RawInstanceSearchResult searchResult, HttpOutputMessage outputMessage)
+    throws IOException {
+    searchResult.writeTo(StreamUtils.nonClosing(outputMessage.getBody()));
+  }
+}
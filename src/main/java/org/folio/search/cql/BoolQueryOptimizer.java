@@ -0,0 +1,248 @@
+package org.folio.search.cql;
+
+import static org.opensearch.index.query.AbstractQueryBuilder.DEFAULT_BOOST;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Simplifies bool queries converted from CQL queries without changing the set of matched documents.
+ *
+ * <p>Queries are rewritten bottom-up:</p>
+ * <ul>
+ *   <li>nested disjunctions are flattened, and identical clauses are removed;</li>
+ *   <li>term queries for the same field in a disjunction are folded into a single terms query, so long lists of
+ *   identifiers, e.g. {@code id==(a or b or ...)}, do not run into the bool query clause limit;</li>
+ *   <li>clauses common to all conjunctions of a disjunction are hoisted out of it;</li>
+ *   <li>required terms and exists queries, which score all matching documents equally, are moved to the filter
+ *   context.</li>
+ * </ul>
+ *
+ * <p>Range queries are never moved, because browse requests rely on their position in the query.</p>
+ *
+ * <p>The rewrite keeps the set of matched documents, but not their relevance scores: folded term queries are scored
+ * as a constant instead of by term frequency, and a hoisted clause contributes to the score once instead of once per
+ * conjunction, e.g. {@code (a and b) or (a and c)} scores {@code a} once. Because of this, the optimizer is only
+ * applied when {@code folio.query.properties.bool-query-optimization-enabled} is set.</p>
+ */
+@Component
+public class BoolQueryOptimizer {
+
+  private static final List<Function<BoolQueryBuilder, List<QueryBuilder>>> CONJUNCTION_CLAUSES = List.of(
+    BoolQueryBuilder::must, BoolQueryBuilder::filter, BoolQueryBuilder::mustNot);
+
+  /**
+   * Optimizes the given query.
+   *
+   * @param query - query to optimize as {@link QueryBuilder} object
+   * @return optimized query, the given bool queries are modified in place
+   */
+  public QueryBuilder optimize(QueryBuilder query) {
+    return query instanceof BoolQueryBuilder boolQuery ? optimizeBoolQuery(boolQuery) : query;
+  }
+
+  private QueryBuilder optimizeBoolQuery(BoolQueryBuilder query) {
+    for (var clauseProvider : CONJUNCTION_CLAUSES) {
+      var clauses = clauseProvider.apply(query);
+      clauses.replaceAll(this::optimize);
+      removeDuplicates(clauses);
+    }
+    query.should().replaceAll(this::optimize);
+
+    if (isDisjunction(query)) {
+      return optimizeDisjunction(query);
+    }
+
+    moveConstantScoreClausesToFilter(query);
+    return query;
+  }
+
+  private QueryBuilder optimizeDisjunction(BoolQueryBuilder query) {
+    var clauses = query.should();
+    flattenDisjunctions(clauses);
+    removeDuplicates(clauses);
+    foldTermQueries(clauses);
+    if (!isPlain(query)) {
+      return query;
+    }
+
+    if (clauses.size() == 1) {
+      return clauses.getFirst();
+    }
+
+    var hoistedQuery = hoistCommonClauses(clauses);
+    return hoistedQuery != null ? hoistedQuery : query;
+  }
+
+  private static void flattenDisjunctions(List<QueryBuilder> clauses) {
+    var flattenedClauses = new ArrayList<QueryBuilder>(clauses.size());
+    for (var clause : clauses) {
+      if (clause instanceof BoolQueryBuilder boolQuery && isDisjunction(boolQuery) && isPlain(boolQuery)) {
+        flattenedClauses.addAll(boolQuery.should());
+      } else {
+        flattenedClauses.add(clause);
+      }
+    }
+
+    if (flattenedClauses.size() != clauses.size()) {
+      clauses.clear();
+      clauses.addAll(flattenedClauses);
+    }
+  }
+
+  private static void removeDuplicates(List<QueryBuilder> clauses) {
+    var uniqueClauses = new LinkedHashSet<>(clauses);
+    if (uniqueClauses.size() != clauses.size()) {
+      clauses.clear();
+      clauses.addAll(uniqueClauses);
+    }
+  }
+
+  /**
+   * Replaces term queries for the same field by a single terms query placed at the position of the first one.
+   */
+  private static void foldTermQueries(List<QueryBuilder> clauses) {
+    var clausesByField = new LinkedHashMap<String, List<QueryBuilder>>();
+    for (var clause : clauses) {
+      var fieldName = getFoldableFieldName(clause);
+      if (fieldName != null) {
+        clausesByField.computeIfAbsent(fieldName, field -> new ArrayList<>()).add(clause);
+      }
+    }
+
+    if (clausesByField.values().stream().allMatch(fieldClauses -> fieldClauses.size() < 2)) {
+      return;
+    }
+
+    var foldedClauses = new ArrayList<QueryBuilder>(clauses.size());
+    for (var clause : clauses) {
+      var fieldName = getFoldableFieldName(clause);
+      if (fieldName == null) {
+        foldedClauses.add(clause);
+        continue;
+      }
+
+      var fieldClauses = clausesByField.remove(fieldName);
+      if (fieldClauses != null) {
+        foldedClauses.add(fieldClauses.size() == 1 ? clause : termsQuery(fieldName, getTermValues(fieldClauses)));
+      }
+    }
+
+    clauses.clear();
+    clauses.addAll(foldedClauses);
+  }
+
+  /**
+   * Hoists clauses present in all conjunctions of a disjunction: {@code (a and b) or (a and c)} is rewritten to
+   * {@code a and (b or c)}. Range queries are not hoisted.
+   *
+   * @return rewritten query, or null if there is nothing to hoist
+   */
+  private QueryBuilder hoistCommonClauses(List<QueryBuilder> clauses) {
+    var conjunctions = new ArrayList<BoolQueryBuilder>(clauses.size());
+    for (var clause : clauses) {
+      if (!(clause instanceof BoolQueryBuilder boolQuery) || !isConjunction(boolQuery) || !isPlain(boolQuery)) {
+        return null;
+      }
+      conjunctions.add(boolQuery);
+    }
+
+    var result = boolQuery();
+    for (var clauseProvider : CONJUNCTION_CLAUSES) {
+      var commonClauses = new ArrayList<>(clauseProvider.apply(conjunctions.getFirst()));
+      commonClauses.removeIf(RangeQueryBuilder.class::isInstance);
+      conjunctions.forEach(conjunction -> commonClauses.retainAll(clauseProvider.apply(conjunction)));
+      conjunctions.forEach(conjunction -> clauseProvider.apply(conjunction).removeAll(commonClauses));
+      clauseProvider.apply(result).addAll(commonClauses);
+    }
+
+    if (!result.hasClauses()) {
+      return null;
+    }
+
+    // an empty conjunction matches all documents, so the remaining disjunction is always true
+    if (conjunctions.stream().allMatch(BoolQueryBuilder::hasClauses)) {
+      var disjunction = boolQuery();
+      conjunctions.forEach(conjunction -> disjunction.should(unwrapSingleRequiredClause(conjunction)));
+      result.must(optimize(disjunction));
+    }
+
+    moveConstantScoreClausesToFilter(result);
+    return result;
+  }
+
+  private static void moveConstantScoreClausesToFilter(BoolQueryBuilder query) {
+    var mustClauses = query.must();
+    if (mustClauses.stream().noneMatch(BoolQueryOptimizer::isConstantScoreQuery)) {
+      return;
+    }
+
+    var scoringClauses = new ArrayList<QueryBuilder>();
+    for (var clause : mustClauses) {
+      if (isConstantScoreQuery(clause)) {
+        query.filter(clause);
+      } else {
+        scoringClauses.add(clause);
+      }
+    }
+    mustClauses.clear();
+    mustClauses.addAll(scoringClauses);
+  }
+
+  private static QueryBuilder unwrapSingleRequiredClause(BoolQueryBuilder query) {
+    var mustClauses = query.must();
+    var isSingleMustClause = mustClauses.size() == 1 && query.filter().isEmpty() && query.mustNot().isEmpty();
+    return isSingleMustClause ? mustClauses.getFirst() : query;
+  }
+
+  private static List<Object> getTermValues(List<QueryBuilder> clauses) {
+    var values = new LinkedHashSet<>();
+    for (var clause : clauses) {
+      if (clause instanceof TermQueryBuilder termQuery) {
+        values.add(termQuery.value());
+      } else if (clause instanceof TermsQueryBuilder termsQuery) {
+        values.addAll(termsQuery.values());
+      }
+    }
+    return new ArrayList<>(values);
+  }
+
+  private static String getFoldableFieldName(QueryBuilder query) {
+    if (query instanceof TermQueryBuilder termQuery && !termQuery.caseInsensitive() && isPlain(termQuery)) {
+      return termQuery.fieldName();
+    }
+    if (query instanceof TermsQueryBuilder termsQuery && termsQuery.termsLookup() == null && isPlain(termsQuery)) {
+      return termsQuery.fieldName();
+    }
+    return null;
+  }
+
+  private static boolean isConstantScoreQuery(QueryBuilder query) {
+    return query instanceof TermsQueryBuilder || query instanceof ExistsQueryBuilder;
+  }
+
+  private static boolean isDisjunction(BoolQueryBuilder query) {
+    return !query.should().isEmpty() && query.must().isEmpty() && query.filter().isEmpty()
+      && query.mustNot().isEmpty() && query.minimumShouldMatch() == null;
+  }
+
+  private static boolean isConjunction(BoolQueryBuilder query) {
+    return query.should().isEmpty() && query.minimumShouldMatch() == null;
+  }
+
+  private static boolean isPlain(QueryBuilder query) {
+    return query.boost() == DEFAULT_BOOST && query.queryName() == null;
+  }
+}
@@ -5,21 +5,30 @@ import static org.folio.search.utils.SearchQueryUtils.isDisjunctionFilterQuery;
 import static org.folio.search.utils.SearchQueryUtils.isFilterQuery;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.model.types.SearchType;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.metadata.SearchFieldProvider;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.SearchModule;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Component;
 import org.z3950.zing.cql.CQLBooleanNode;
@@ -30,9 +39,16 @@ import org.z3950.zing.cql.CQLTermNode;
 /**
  * Convert a CQL query into a elasticsearch query.
  * Contextual Query Language (CQL) Specification: <a href="https://www.loc.gov/standards/sru/cql/spec.html">https://www.loc.gov/standards/sru/cql/spec.html</a>
+ *
+ * <p>With the query cache enabled, converted search sources are cached by resource and CQL query, and each call
+ * returns a deep copy of the cached search source, so callers can modify it. Queries with search terms depending on
+ * tenant configuration are not cached. Consortium filters depend on the request context and are applied to the
+ * copy.</p>
+ *
+ * <p>With bool query optimization enabled, converted queries are simplified by {@link BoolQueryOptimizer}, which
+ * keeps the set of matched documents but changes relevance scores of some queries.</p>
  */
 @Component
-@RequiredArgsConstructor
 public class CqlSearchQueryConverter {
 
   private final CqlQueryParser cqlQueryParser;
@@ -40,6 +56,32 @@ public class CqlSearchQueryConverter {
   private final SearchFieldProvider searchFieldProvider;
   private final CqlTermQueryConverter cqlTermQueryConverter;
   private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final BoolQueryOptimizer boolQueryOptimizer;
+  private final boolean boolQueryOptimizationEnabled;
+  private final Cache<CompiledQueryKey, SearchSourceBuilder> compiledQueries;
+  private final NamedWriteableRegistry writeableRegistry;
+
+  public CqlSearchQueryConverter(CqlQueryParser cqlQueryParser, CqlSortProvider cqlSortProvider,
+                                 SearchFieldProvider searchFieldProvider, CqlTermQueryConverter cqlTermQueryConverter,
+                                 ConsortiumSearchHelper consortiumSearchHelper, BoolQueryOptimizer boolQueryOptimizer,
+                                 SearchQueryConfigurationProperties searchQueryConfig) {
+    this.cqlQueryParser = cqlQueryParser;
+    this.cqlSortProvider = cqlSortProvider;
+    this.searchFieldProvider = searchFieldProvider;
+    this.cqlTermQueryConverter = cqlTermQueryConverter;
+    this.consortiumSearchHelper = consortiumSearchHelper;
+    this.boolQueryOptimizer = boolQueryOptimizer;
+    this.boolQueryOptimizationEnabled = searchQueryConfig.isBoolQueryOptimizationEnabled();
+    var queryCacheEnabled = searchQueryConfig.isQueryCacheEnabled();
+    this.compiledQueries = queryCacheEnabled
+                           ? Caffeine.newBuilder().maximumSize(searchQueryConfig.getQueryCacheMaxSize()).build()
+                           : null;
+    // the registry is only needed to copy cached search sources
+    this.writeableRegistry = queryCacheEnabled
+                             ? new NamedWriteableRegistry(
+                               new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables())
+                             : null;
+  }
 
   /**
    * Converts given CQL search query value to the elasticsearch {@link SearchSourceBuilder} object.
@@ -49,16 +91,22 @@ public class CqlSearchQueryConverter {
    * @return search source as {@link SearchSourceBuilder} object with query and sorting conditions
    */
   public SearchSourceBuilder convert(String query, ResourceType resource) {
-    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
-    var queryBuilder = new SearchSourceBuilder();
+    if (compiledQueries == null) {
+      return convert(cqlQueryParser.parseCqlQuery(query, resource), resource);
+    }
 
-    if (cqlNode instanceof CQLSortNode cqlSortNode) {
-      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
+    var key = new CompiledQueryKey(resource, query.strip());
+    var compiledQuery = compiledQueries.getIfPresent(key);
+    if (compiledQuery != null) {
+      return copySearchSource(compiledQuery);
     }
 
-    var boolQuery = convertToQuery(cqlNode, resource);
-    var enhancedQuery = enhanceQuery(boolQuery, resource);
-    return queryBuilder.query(enhancedQuery);
+    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
+    var searchSource = convert(cqlNode, resource);
+    if (isCacheable(cqlNode, resource)) {
+      compiledQueries.put(key, copySearchSource(searchSource));
+    }
+    return searchSource;
   }
 
   /**
@@ -99,6 +147,43 @@ public class CqlSearchQueryConverter {
     return sourceBuilder.query(queryBuilder);
   }
 
+  private SearchSourceBuilder convert(CQLNode cqlNode, ResourceType resource) {
+    var queryBuilder = new SearchSourceBuilder();
+
+    if (cqlNode instanceof CQLSortNode cqlSortNode) {
+      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
+    }
+
+    var boolQuery = convertToQuery(cqlNode, resource);
+    if (boolQueryOptimizationEnabled) {
+      boolQuery = boolQueryOptimizer.optimize(boolQuery);
+    }
+    var enhancedQuery = enhanceQuery(boolQuery, resource);
+    return queryBuilder.query(enhancedQuery);
+  }
+
+  private boolean isCacheable(CQLNode node, ResourceType resource) {
+    if (node instanceof CQLSortNode cqlSortNode) {
+      return isCacheable(cqlSortNode.getSubtree(), resource);
+    }
+    if (node instanceof CQLBooleanNode cqlBooleanNode) {
+      return isCacheable(cqlBooleanNode.getLeftOperand(), resource)
+        && isCacheable(cqlBooleanNode.getRightOperand(), resource);
+    }
+    return node instanceof CQLTermNode cqlTermNode && cqlTermQueryConverter.isCacheable(cqlTermNode, resource);
+  }
+
+  private SearchSourceBuilder copySearchSource(SearchSourceBuilder searchSource) {
+    try (var output = new BytesStreamOutput()) {
+      searchSource.writeTo(output);
+      try (var input = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), writeableRegistry)) {
+        return new SearchSourceBuilder(input);
+      }
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to copy search source", e);
+    }
+  }
+
   private QueryBuilder convertToQuery(CQLNode node, ResourceType resource) {
     var cqlNode = node;
     if (node instanceof CQLSortNode cqlSortNode) {
@@ -245,4 +330,6 @@ public class CqlSearchQueryConverter {
       .filter(fieldDescription -> fieldDescription.hasType(SearchType.FILTER))
       .isPresent();
   }
+
+  private record CompiledQueryKey(ResourceType resource, String query) { }
 }
@@ -106,6 +106,29 @@ public class CqlTermQueryConverter {
            : termQueryBuilder.getTermLevelQuery(searchTerm, fieldName, resource, index);
   }
 
+  /**
+   * Checks if the query for the given termNode and resource name can be cached, i.e. it does not depend on tenant
+   * configuration.
+   *
+   * @param termNode - CQL term node as {@link CQLTermNode} object
+   * @param resource - resource name as {@link String} value
+   * @return true if the query built for the term node can be cached
+   */
+  public boolean isCacheable(CQLTermNode termNode, ResourceType resource) {
+    if (isMatchAllQuery(termNode.toCQL())) {
+      return true;
+    }
+
+    var fieldIndex = searchFieldProvider.getModifiedField(termNode.getIndex(), resource);
+    var fieldsList = searchFieldProvider.getFields(resource, fieldIndex);
+    var fieldName = fieldsList.size() == 1 ? fieldsList.getFirst() : fieldIndex;
+    return searchFieldProvider.getPlainFieldByPath(resource, fieldName)
+      .map(PlainFieldDescription::getSearchTermProcessor)
+      .map(searchTermProcessors::get)
+      .map(SearchTermProcessor::isCacheable)
+      .orElse(true);
+  }
+
   private TermQueryBuilder getTermQueryBuilderOrFail(String comparator) {
     var termQueryBuilder = termQueryBuilders.get(comparator);
     if (termQueryBuilder == null) {
@@ -3,8 +3,6 @@ package org.folio.search.cql;
 import static java.lang.Integer.parseInt;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
-import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.folio.search.utils.CollectionUtils.findFirst;
@@ -32,6 +30,7 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
@@ -121,13 +120,11 @@ public class FacetQueryBuilder {
     addNestedQueryFilters(((BoolQueryBuilder) query).must(), filters);
     for (var filterQuery : filters) {
       if (isFilterQuery(filterQuery, field::equals)) {
-        getValueFromFilerQuery(filterQuery).ifPresent(facetTerms::add);
+        facetTerms.addAll(getValuesFromFilterQuery(filterQuery));
       } else if (isDisjunctionFilterQuery(filterQuery, field::equals)) {
         ((BoolQueryBuilder) filterQuery).should().stream()
-          .map(FacetQueryBuilder::getValueFromFilerQuery)
-          .filter(Optional::isPresent)
-          .map(Optional::get)
-          .forEach(facetTerms::add);
+          .map(FacetQueryBuilder::getValuesFromFilterQuery)
+          .forEach(facetTerms::addAll);
       } else {
         facetFilterQuery.filter(filterQuery);
       }
@@ -175,8 +172,15 @@ public class FacetQueryBuilder {
     return AggregationBuilders.terms(name).field(field).size(size);
   }
 
-  private static Optional<String> getValueFromFilerQuery(QueryBuilder query) {
-    return query instanceof TermQueryBuilder ? ofNullable((String) ((TermQueryBuilder) query).value()) : empty();
+  private static List<String> getValuesFromFilterQuery(QueryBuilder query) {
+    if (query instanceof TermQueryBuilder termQuery) {
+      return termQuery.value() != null ? List.of((String) termQuery.value()) : emptyList();
+    }
+    // with bool query optimization enabled, same-field term disjunctions are folded into terms queries
+    if (query instanceof TermsQueryBuilder termsQuery) {
+      return termsQuery.values().stream().map(String::valueOf).toList();
+    }
+    return emptyList();
   }
 
   private record Facet(String field, String aggregationName, Integer size) { }
@@ -24,4 +24,9 @@ public class CallNumberTypeIdSearchTermProcessor implements SearchTermProcessor
       return inputTerm;
     }
   }
+
+  @Override
+  public boolean isCacheable() {
+    return false;
+  }
 }
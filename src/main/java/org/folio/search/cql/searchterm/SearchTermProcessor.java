@@ -3,4 +3,14 @@ package org.folio.search.cql.searchterm;
 public interface SearchTermProcessor {
 
   Object getSearchTerm(String inputTerm);
+
+  /**
+   * Checks if search terms produced by this processor depend only on the input term, so queries built with them can
+   * be cached.
+   *
+   * @return true if the search term depends only on the input term, false if it depends on tenant configuration
+   */
+  default boolean isCacheable() {
+    return true;
+  }
 }
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.retry.RetryTemplate;
 import org.springframework.stereotype.Component;
@@ -22,12 +23,17 @@ public class FolioMessageBatchProcessor {
   private final Map<String, RetryTemplate> retryTemplateBeans;
   @Qualifier(value = KAFKA_RETRY_TEMPLATE_NAME)
   private final RetryTemplate defaultRetryTemplate;
+  private final SearchConfigurationProperties searchConfigurationProperties;
 
   /**
    * Consumes batch of values as list and tries to process them using the strategy with retry.
    * At first, a batch will be retried by the specified retry policy, then, if it's failing, it would be processed
    * by single value at one time, if the value would be failed to process - failedValueConsumer will be executed.
    *
+   * <p>If bisecting fallback is enabled, the failed batch is split in halves recursively instead, and each half is
+   * processed once without retries, so a single failing value costs a logarithmic number of extra calls. Halves not
+   * bigger than the configured minimal size are processed by single value with retry.</p>
+   *
    * @param batch               list of values as {@link List} object
    * @param retryBeanName       retry bean name, if it's not specified - default retry policy will be used.
    * @param batchConsumer       batch consumer as {@link Consumer} lambda function
@@ -48,6 +54,9 @@ public class FolioMessageBatchProcessor {
     } catch (Exception e) {
       if (batch.size() == 1) {
         failedValueConsumer.accept(batch.getFirst(), e);
+      } else if (isBisectFallbackEnabled()) {
+        log.warn("Failed to process batch, attempting to process resources by bisecting the batch", e);
+        processMessagesByBisection(batch, retryTemplate, batchConsumer, failedValueConsumer);
       } else {
         log.warn("Failed to process batch, attempting to process resources one by one", e);
         processMessagesOneByOne(batch, retryTemplate, batchConsumer, failedValueConsumer);
@@ -55,6 +64,26 @@ public class FolioMessageBatchProcessor {
     }
   }
 
+  private <T> void processMessagesByBisection(List<T> batch, RetryTemplate retryTemplate,
+                                              Consumer<List<T>> batchConsumer,
+                                              BiConsumer<T, Exception> failedValueConsumer) {
+    var minBatchSize = Math.max(1, searchConfigurationProperties.getIndexing().getBatchFallbackMinBatchSize());
+    if (batch.size() <= minBatchSize) {
+      processMessagesOneByOne(batch, retryTemplate, batchConsumer, failedValueConsumer);
+      return;
+    }
+
+    var middle = batch.size() / 2;
+    for (var half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+      try {
+        batchConsumer.accept(half);
+      } catch (Exception e) {
+        log.debug("Failed to process part of the batch, splitting it [size: {}]", half.size());
+        processMessagesByBisection(half, retryTemplate, batchConsumer, failedValueConsumer);
+      }
+    }
+  }
+
   private <T> void processMessagesOneByOne(List<T> batch, RetryTemplate retryTemplate,
                                            Consumer<List<T>> batchConsumer,
                                            BiConsumer<T, Exception> failedValueConsumer) {
@@ -67,6 +96,11 @@ public class FolioMessageBatchProcessor {
     }
   }
 
+  private boolean isBisectFallbackEnabled() {
+    var indexingSettings = searchConfigurationProperties.getIndexing();
+    return indexingSettings != null && indexingSettings.isBatchFallbackBisectEnabled();
+  }
+
   private <T> void executeWithRetryTemplate(RetryTemplate retryTemplate, List<T> batch, Consumer<List<T>> consumer) {
     retryTemplate.invoke(() -> consumer.accept(batch));
   }
@@ -0,0 +1,113 @@
+package org.folio.search.integration.message;
+
+import static org.folio.search.domain.dto.FolioIndexOperationResponse.StatusEnum.SUCCESS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.model.event.IndexInstanceEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses repeated index instance events across Kafka polls.
+ *
+ * <p>The time when an instance was last fetched and successfully indexed is remembered per (tenant, instance id)
+ * for the configured window. An event produced before that time is already covered by the indexed document: the
+ * inventory entities are persisted before the index instance event is sent, so the fetch has read the state the
+ * event refers to. Such events are dropped before the fetch. Events are never held back, so Kafka offsets are
+ * committed only for processed or covered events.</p>
+ */
+@Log4j2
+@Component
+public class IndexInstanceEventCompactor {
+
+  private final long clockSkewMs;
+  private final LongSupplier clock;
+  private final Cache<IndexInstanceEvent, Long> indexedAt;
+
+  @Autowired
+  public IndexInstanceEventCompactor(SearchConfigurationProperties searchConfigurationProperties) {
+    this(searchConfigurationProperties.getIndexing(), System::currentTimeMillis);
+  }
+
+  IndexInstanceEventCompactor(SearchConfigurationProperties.IndexingSettings indexingSettings, LongSupplier clock) {
+    var windowMs = indexingSettings.getInstanceEventCompactionWindowMs();
+    this.clockSkewMs = Math.max(0L, indexingSettings.getInstanceEventCompactionClockSkewMs());
+    this.clock = clock;
+    this.indexedAt = windowMs > 0
+                     ? Caffeine.newBuilder()
+                       .expireAfterWrite(Duration.ofMillis(windowMs))
+                       .maximumSize(Math.max(1L, indexingSettings.getInstanceEventCompactionMaxSize()))
+                       .build()
+                     : null;
+  }
+
+  /**
+   * Returns index instance events that need to be processed.
+   *
+   * <p>If compaction is enabled, duplicates are removed and events produced before the last successful indexing
+   * of the same instance are dropped.</p>
+   *
+   * @param consumerRecords - consumer records with {@link IndexInstanceEvent} values
+   * @return list of {@link IndexInstanceEvent} objects to process
+   */
+  public List<IndexInstanceEvent> compact(List<ConsumerRecord<String, IndexInstanceEvent>> consumerRecords) {
+    if (indexedAt == null) {
+      return consumerRecords.stream().map(ConsumerRecord::value).toList();
+    }
+
+    var result = new LinkedHashSet<IndexInstanceEvent>(consumerRecords.size());
+    for (var consumerRecord : consumerRecords) {
+      var event = consumerRecord.value();
+      if (!isCovered(event, consumerRecord.timestamp())) {
+        result.add(event);
+      }
+    }
+
+    if (result.size() < consumerRecords.size()) {
+      log.debug("compact:: collapsed index instance events [received: {}, remaining: {}]",
+        consumerRecords.size(), result.size());
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Wraps the indexing function to remember instances that were successfully indexed.
+   *
+   * @param indexer - function fetching and indexing instances
+   * @return batch consumer for the {@link FolioMessageBatchProcessor}
+   */
+  public Consumer<List<IndexInstanceEvent>> recording(
+    Function<List<IndexInstanceEvent>, FolioIndexOperationResponse> indexer) {
+    if (indexedAt == null) {
+      return indexer::apply;
+    }
+
+    return events -> {
+      var startedAt = clock.getAsLong();
+      var response = indexer.apply(events);
+      if (response == null || response.getStatus() == SUCCESS) {
+        events.forEach(event -> indexedAt.asMap().merge(event, startedAt, Math::max));
+      }
+    };
+  }
+
+  private boolean isCovered(IndexInstanceEvent event, long producedAt) {
+    if (event == null || producedAt < 0) {
+      return false;
+    }
+    var lastIndexedAt = indexedAt.getIfPresent(event);
+    return lastIndexedAt != null && producedAt + clockSkewMs <= lastIndexedAt;
+  }
+}
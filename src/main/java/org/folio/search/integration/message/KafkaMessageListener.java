@@ -7,7 +7,10 @@ import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 import static org.folio.search.utils.SearchConverterUtils.getResourceSource;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -16,7 +19,9 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.logging.log4j.message.FormattedMessage;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.event.IndexInstanceEvent;
 import org.folio.search.model.event.InstanceSharingCompleteEvent;
@@ -49,6 +54,9 @@ public class KafkaMessageListener {
   private final InstanceEventMapper instanceEventMapper;
   private final CallNumberRepository callNumberRepository;
   private final ConsortiumTenantProvider consortiumTenantProvider;
+  private final IndexInstanceEventCompactor instanceEventCompactor;
+  private final KeyOrderedBatchExecutor keyOrderedBatchExecutor;
+  private final SearchConfigurationProperties searchConfigurationProperties;
 
   /**
    * Handles instance events and indexes them by id.
@@ -63,12 +71,17 @@ public class KafkaMessageListener {
     concurrency = "#{folioKafkaProperties.listener['events'].concurrency}")
   public void handleInstanceEvents(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
     log.info("Processing instance related events from kafka events [number of events: {}]", consumerRecords.size());
+    if (searchConfigurationProperties.getIndexing().isDirectInstanceIndexingEnabled()) {
+      indexInstancesDirectly(consumerRecords);
+      return;
+    }
+
     consumerRecords.stream().collect(Collectors.groupingBy(consumerRecord -> consumerRecord.value().getTenant()))
       .forEach((tenant, records) -> executionService.execute(tenant, () -> {
-        records.stream()
+        keyOrderedBatchExecutor.execute(records, ConsumerRecord::key, lane -> lane.stream()
           .map(instanceEventMapper::mapToProducerRecords)
           .flatMap(List::stream)
-          .forEach(instanceEventProducer::send);
+          .forEach(instanceEventProducer::send));
         return null;
       }));
   }
@@ -86,13 +99,9 @@ public class KafkaMessageListener {
     concurrency = "#{folioKafkaProperties.listener['index-instance'].concurrency}")
   public void handleIndexInstanceEvents(List<ConsumerRecord<String, IndexInstanceEvent>> consumerRecords) {
     log.info("Processing index instance events from kafka [number of events: {}]", consumerRecords.size());
-    var batchByTenant = consumerRecords.stream().map(ConsumerRecord::value)
+    var batchByTenant = instanceEventCompactor.compact(consumerRecords).stream()
       .collect(Collectors.groupingBy(IndexInstanceEvent::tenant));
-    batchByTenant.forEach((tenant, resourceEvents) -> executionService.execute(tenant, () -> {
-      folioMessageBatchProcessor.consumeBatchWithFallback(resourceEvents, KAFKA_RETRY_TEMPLATE_NAME,
-        resourceService::indexInstanceEvents, KafkaMessageListener::logFailedEvent);
-      return null;
-    }));
+    indexInstanceEvents(batchByTenant, KafkaMessageListener::logFailedEvent);
   }
 
   /**
@@ -202,6 +211,41 @@ public class KafkaMessageListener {
     }
   }
 
+  /**
+   * Indexes instances referenced by inventory events in the listener thread instead of sending index instance events
+   * to Kafka. Instance ids are de-duplicated within the poll. Events of instances that failed to be indexed are sent
+   * to the index instance topic, so offsets of the poll are committed only when every instance is either indexed or
+   * handed over to the topic.
+   */
+  private void indexInstancesDirectly(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
+    var producerRecords = new LinkedHashMap<IndexInstanceEvent, ProducerRecord<String, IndexInstanceEvent>>();
+    consumerRecords.stream().collect(Collectors.groupingBy(consumerRecord -> consumerRecord.value().getTenant()))
+      .forEach((tenant, records) -> executionService.execute(tenant, () -> {
+        records.stream()
+          .map(instanceEventMapper::mapToProducerRecords)
+          .flatMap(List::stream)
+          .forEach(producerRecord -> producerRecords.putIfAbsent(producerRecord.value(), producerRecord));
+        return null;
+      }));
+
+    var batchByTenant = producerRecords.keySet().stream().collect(Collectors.groupingBy(IndexInstanceEvent::tenant));
+    indexInstanceEvents(batchByTenant, (event, e) -> {
+      logFailedEvent(event, e);
+      instanceEventProducer.send(producerRecords.get(event)).join();
+    });
+  }
+
+  private void indexInstanceEvents(Map<String, List<IndexInstanceEvent>> batchByTenant,
+                                   BiConsumer<IndexInstanceEvent, Exception> failedEventConsumer) {
+    var indexer = instanceEventCompactor.recording(resourceService::indexInstanceEvents);
+    batchByTenant.forEach((tenant, resourceEvents) -> executionService.execute(tenant, () -> {
+      keyOrderedBatchExecutor.execute(resourceEvents, IndexInstanceEvent::instanceId, lane ->
+        folioMessageBatchProcessor.consumeBatchWithFallback(lane, KAFKA_RETRY_TEMPLATE_NAME,
+          indexer, failedEventConsumer));
+      return null;
+    }));
+  }
+
   private void indexResources(List<ResourceEvent> batch, Consumer<List<ResourceEvent>> indexConsumer) {
     var batchByTenant = batch.stream().collect(Collectors.groupingBy(ResourceEvent::getTenant));
 
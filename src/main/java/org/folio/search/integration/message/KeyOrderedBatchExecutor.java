@@ -0,0 +1,84 @@
+package org.folio.search.integration.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Processes a polled batch of Kafka messages in parallel lanes while preserving the order of messages with the same
+ * key.
+ *
+ * <p>Messages are assigned to a lane by the hash of their key, so all messages of the same key are processed
+ * sequentially in the polled order, and messages of different keys are processed concurrently. The method returns
+ * only when all lanes are completed, so offsets of the batch listener are committed after every message of the poll
+ * has been processed.</p>
+ */
+@Log4j2
+@Component
+public class KeyOrderedBatchExecutor {
+
+  private final int parallelism;
+  private final Executor executor;
+
+  public KeyOrderedBatchExecutor(SearchConfigurationProperties searchConfigurationProperties,
+                                 @Qualifier("kafkaKeyOrderedExecutor") Executor executor) {
+    this.parallelism = Math.max(1, searchConfigurationProperties.getIndexing().getKafkaKeyOrderedParallelism());
+    this.executor = executor;
+  }
+
+  /**
+   * Splits values into lanes by key and passes each lane to the consumer, running lanes concurrently.
+   *
+   * @param values       - values in the polled order
+   * @param keyExtractor - function extracting the ordering key of a value
+   * @param laneConsumer - consumer of the values of one lane
+   * @param <T>          - generic type of the value
+   */
+  public <T> void execute(List<T> values, Function<T, ?> keyExtractor, Consumer<List<T>> laneConsumer) {
+    var lanes = splitByKey(values, keyExtractor);
+    if (lanes.size() <= 1) {
+      lanes.forEach(laneConsumer);
+      return;
+    }
+
+    log.debug("execute:: processing messages in parallel lanes [messages: {}, lanes: {}]", values.size(), lanes.size());
+    var futures = lanes.stream()
+      .map(lane -> CompletableFuture.runAsync(() -> laneConsumer.accept(lane), executor))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private <T> List<List<T>> splitByKey(List<T> values, Function<T, ?> keyExtractor) {
+    var lanesCount = Math.min(parallelism, values.size());
+    if (lanesCount <= 1) {
+      return values.isEmpty() ? List.of() : List.of(values);
+    }
+
+    var lanes = new ArrayList<List<T>>(lanesCount);
+    for (int i = 0; i < lanesCount; i++) {
+      lanes.add(new ArrayList<>());
+    }
+    for (var value : values) {
+      lanes.get(Math.floorMod(Objects.hashCode(keyExtractor.apply(value)), lanesCount)).add(value);
+    }
+    lanes.removeIf(List::isEmpty);
+    return lanes;
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.search.integration.message;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.StringWriter;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.event.LazyJsonPayload;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Deserializes {@link ResourceEvent} payloads as {@link LazyJsonPayload} objects.
+ *
+ * <p>The payload object is copied token by token into a compact JSON string instead of being materialized as nested
+ * maps, so only the fields requested by the event processing are parsed.</p>
+ */
+public class LazyPayloadDeserializer extends ValueDeserializer<Object> {
+
+  private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+  /**
+   * Creates a mapper that deserializes {@link ResourceEvent} objects with lazy {@code new} and {@code old} payloads.
+   *
+   * @return {@link JsonMapper} object
+   */
+  public static JsonMapper resourceEventMapper() {
+    return JsonMapper.builder()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .addMixIn(ResourceEvent.class, LazyPayloadResourceEventMixin.class)
+      .build();
+  }
+
+  @Override
+  public Object deserialize(JsonParser parser, DeserializationContext context) {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return context.readValue(parser, Object.class);
+    }
+
+    var writer = new StringWriter();
+    try (var generator = MAPPER.createGenerator(writer)) {
+      generator.copyCurrentStructure(parser);
+    }
+    return new LazyJsonPayload(writer.toString());
+  }
+
+  private abstract static class LazyPayloadResourceEventMixin {
+
+    @JsonProperty("new")
+    @JsonDeserialize(using = LazyPayloadDeserializer.class)
+    abstract void setNew(Object value);
+
+    @JsonProperty("old")
+    @JsonDeserialize(using = LazyPayloadDeserializer.class)
+    abstract void setOld(Object value);
+  }
+}
@@ -0,0 +1,118 @@
+package org.folio.search.model.event;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Event payload that keeps the raw JSON object and parses it only on demand.
+ *
+ * <p>Top-level scalar fields are read by scanning the raw JSON without building the nested structure. Any other
+ * access (nested objects, iteration, modification) materializes the payload into a mutable map. While the payload is
+ * not materialized, {@link #getRawJson()} returns the original JSON, so it can be stored as is.</p>
+ */
+public final class LazyJsonPayload extends AbstractMap<String, Object> {
+
+  private static final JsonMapper MAPPER = JsonMapper.builder().build();
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() { };
+  private static final Object NOT_FOUND = new Object();
+  private static final Object NOT_SCALAR = new Object();
+
+  private final String rawJson;
+  private final Map<String, Object> scalarValues = new HashMap<>();
+  private Map<String, Object> values;
+
+  public LazyJsonPayload(String rawJson) {
+    this.rawJson = rawJson;
+  }
+
+  /**
+   * Returns raw JSON of the payload.
+   *
+   * @return raw JSON, or null if the payload was materialized and can be modified
+   */
+  public synchronized String getRawJson() {
+    return values == null ? rawJson : null;
+  }
+
+  @Override
+  public synchronized Object get(Object key) {
+    var value = lookup(key);
+    return value == NOT_FOUND ? null : value;
+  }
+
+  @Override
+  public synchronized boolean containsKey(Object key) {
+    return lookup(key) != NOT_FOUND;
+  }
+
+  @Override
+  public synchronized Object getOrDefault(Object key, Object defaultValue) {
+    var value = lookup(key);
+    return value == NOT_FOUND ? defaultValue : value;
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    return materialize().put(key, value);
+  }
+
+  @Override
+  public synchronized Set<Entry<String, Object>> entrySet() {
+    return materialize().entrySet();
+  }
+
+  private Object lookup(Object key) {
+    if (values != null || !(key instanceof String name)) {
+      return materialize().getOrDefault(key, NOT_FOUND);
+    }
+
+    var value = scalarValues.containsKey(name) ? scalarValues.get(name) : scan(name);
+    if (value == NOT_SCALAR) {
+      return materialize().getOrDefault(key, NOT_FOUND);
+    }
+    scalarValues.put(name, value);
+    return value;
+  }
+
+  private Object scan(String name) {
+    try (var parser = MAPPER.createParser(rawJson)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return NOT_SCALAR;
+      }
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        var propertyName = parser.currentName();
+        var token = parser.nextToken();
+        if (name.equals(propertyName)) {
+          return scalarValue(parser, token);
+        }
+        parser.skipChildren();
+      }
+      return NOT_FOUND;
+    }
+  }
+
+  private static Object scalarValue(JsonParser parser, JsonToken token) {
+    return switch (token) {
+      case VALUE_STRING -> parser.getString();
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_NULL -> null;
+      default -> NOT_SCALAR;
+    };
+  }
+
+  private Map<String, Object> materialize() {
+    if (values == null) {
+      values = MAPPER.readValue(rawJson, MAP_TYPE);
+      scalarValues.clear();
+    }
+    return values;
+  }
+}
@@ -16,4 +16,9 @@ public class ReindexRangeIndexEvent implements BaseKafkaMessage {
   private String tenant;
   private String ts;
   private String memberTenantId;
+
+  /**
+   * Epoch millis of incremental upload, only records changed after this time are uploaded. Null for full upload.
+   */
+  private Long updatedSince;
 }
@@ -0,0 +1,27 @@
+package org.folio.search.model.service;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import org.folio.search.domain.dto.InstanceSearchResult;
+
+/**
+ * Instance search result that is written to the response from raw sources of found records, instead of being
+ * serialized from {@link InstanceSearchResult} fields.
+ */
+public class RawInstanceSearchResult extends InstanceSearchResult {
+
+  private final transient Consumer<OutputStream> writer;
+
+  public RawInstanceSearchResult(Consumer<OutputStream> writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Writes search result to the given output.
+   *
+   * @param output - output to write search result to
+   */
+  public void writeTo(OutputStream output) {
+    writer.accept(output);
+  }
+}
@@ -36,6 +36,8 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
   protected RestHighLevelClient elasticsearchClient;
   protected IndexNameProvider indexNameProvider;
   protected IndexManagementConfigurationProperties indexManagementConfig;
+  protected DocumentFingerprintStore documentFingerprintStore;
+  protected SearchResultCache searchResultCache;
 
   @Override
   public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> documents) {
@@ -43,6 +45,13 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
       return getSuccessIndexOperationResponse();
     }
 
+    if (isBulkPipelineEnabled()) {
+      try (var bulkWriter = openBulkWriter()) {
+        bulkWriter.addAll(documents);
+        return bulkWriter.awaitCompletion();
+      }
+    }
+
     var bulkRequest = prepareBulkRequest(documents);
     var bulkApiResponse = executeBulkRequest(bulkRequest);
 
@@ -51,14 +60,36 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
            : getSuccessIndexOperationResponse();
   }
 
+  /**
+   * Opens pipelined {@link BulkIndexWriter} configured with bulk flush thresholds and in-flight request limit.
+   *
+   * <p>Callers can add documents as they are produced, so the fetch and conversion of the next batch overlaps with
+   * OpenSearch bulk I/O. {@link BulkIndexWriter#awaitCompletion()} must be called to get the aggregated result.</p>
+   *
+   * @return new {@link BulkIndexWriter} object
+   */
+  public BulkIndexWriter openBulkWriter() {
+    return new BulkIndexWriter(elasticsearchClient, this::prepareDocWriteRequests, searchResultCache::invalidateIndex,
+      indexManagementConfig.getBulkFlushMaxActions(), indexManagementConfig.getBulkFlushMaxBytes(),
+      indexManagementConfig.getBulkMaxInFlightRequests());
+  }
+
+  /**
+   * Checks if pipelined asynchronous bulk indexing is enabled.
+   *
+   * @return true if documents should be indexed using {@link BulkIndexWriter}
+   */
+  public boolean isBulkPipelineEnabled() {
+    return indexManagementConfig != null && Boolean.TRUE.equals(indexManagementConfig.getBulkPipelineEnabled());
+  }
+
   @Override
   public FolioIndexOperationResponse deleteResourceByTenantId(ResourceType resource, String tenantId) {
     var indexName = indexNameProvider.getIndexName(resource, tenantId);
     var request = new DeleteByQueryRequest(indexName);
     request.setQuery(termQuery(TENANT_ID_FIELD_NAME, tenantId));
-    var bulkByScrollResponse =
-      performExceptionalOperation(() -> elasticsearchClient.deleteByQuery(request, DEFAULT), indexName,
-        "deleteByQueryApi");
+    documentFingerprintStore.invalidateIndex(indexName);
+    var bulkByScrollResponse = deleteByQuery(request, indexName);
     return bulkByScrollResponse.getBulkFailures().isEmpty()
            ? getSuccessIndexOperationResponse()
            : getErrorIndexOperationResponse(getBulkByScrollResponseErrorMessage(bulkByScrollResponse));
@@ -84,12 +115,11 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
       .must(termQuery(TENANT_ID_FIELD_NAME, tenantId))
       .mustNot(termQuery(SHARED_FIELD_NAME, true));
     deleteByQueryRequest.setQuery(query);
+    documentFingerprintStore.invalidateIndex(indexName);
     log.info("deleteDocumentsByTenantId:: deleting tenant documents preserving shared "
       + "[index: {}, tenantId: {}]", indexName, tenantId);
 
-    var bulkByScrollResponse = performExceptionalOperation(
-      () -> elasticsearchClient.deleteByQuery(deleteByQueryRequest, DEFAULT),
-      indexName, "deleteByQueryApi");
+    var bulkByScrollResponse = deleteByQuery(deleteByQueryRequest, indexName);
 
     var deletedCount = bulkByScrollResponse.getDeleted();
     log.info("deleteDocumentsByTenantId:: completed [index: {}, tenantId: {}, deleted: {}]",
@@ -129,19 +159,77 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
     this.indexManagementConfig = indexManagementConfig;
   }
 
+  @Autowired
+  public void setDocumentFingerprintStore(DocumentFingerprintStore documentFingerprintStore) {
+    this.documentFingerprintStore = documentFingerprintStore;
+  }
+
+  @Autowired
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
+  /**
+   * Executes the given bulk request. Cached search results for the written indices are invalidated after the request
+   * is completed, so a concurrent search cannot cache results read before the write.
+   *
+   * @param bulkRequest - bulk request to execute
+   * @return bulk response
+   */
   protected BulkResponse executeBulkRequest(BulkRequest bulkRequest) {
     var indicesString = bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
-    return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString, "bulkApi");
+    try {
+      return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString,
+        "bulkApi");
+    } finally {
+      bulkRequest.requests().stream().map(DocWriteRequest::index).distinct()
+        .forEach(searchResultCache::invalidateIndex);
+    }
+  }
+
+  private BulkByScrollResponse deleteByQuery(DeleteByQueryRequest request, String indexName) {
+    try {
+      return performExceptionalOperation(() -> elasticsearchClient.deleteByQuery(request, DEFAULT), indexName,
+        "deleteByQueryApi");
+    } finally {
+      searchResultCache.invalidateIndex(indexName);
+    }
   }
 
   protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> documents) {
     var request = new BulkRequest();
     for (var document : documents) {
-      request.add(document.getAction() == INDEX ? prepareIndexRequest(document) : prepareDeleteRequest(document));
+      prepareDocWriteRequests(document).forEach(request::add);
     }
     return request;
   }
 
+  /**
+   * Prepares write requests for the given document: the request to the resolved index and, if a new index generation
+   * is being built for it, the same request to the build alias.
+   *
+   * @param document - search document body as {@link SearchDocumentBody} object.
+   * @return prepared write requests
+   */
+  protected List<DocWriteRequest<?>> prepareDocWriteRequests(SearchDocumentBody document) {
+    var request = prepareDocWriteRequest(document);
+    var mirrorIndex = indexNameProvider.getMirrorIndexName(request.index());
+    if (mirrorIndex.isEmpty()) {
+      return List.of(request);
+    }
+
+    DocWriteRequest<?> mirrorRequest = prepareDocWriteRequest(document);
+    mirrorRequest.index(mirrorIndex.get());
+    if (mirrorRequest instanceof IndexRequest indexRequest) {
+      indexRequest.setRequireAlias(true);
+    }
+    return List.of(request, mirrorRequest);
+  }
+
+  protected DocWriteRequest<?> prepareDocWriteRequest(SearchDocumentBody document) {
+    return document.getAction() == INDEX ? prepareIndexRequest(document) : prepareDeleteRequest(document);
+  }
+
   /**
    * Prepares {@link IndexRequest} object from the given {@link SearchDocumentBody} object.
    *
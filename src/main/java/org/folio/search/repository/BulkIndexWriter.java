@@ -0,0 +1,264 @@
+package org.folio.search.repository;
+
+import static java.util.stream.Collectors.joining;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.opensearch.client.RequestOptions.DEFAULT;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.exception.SearchOperationException;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+
+/**
+ * Pipelined bulk writer that accumulates index/delete requests and sends them to OpenSearch asynchronously.
+ *
+ * <p>Requests are flushed when the pending bulk reaches the configured document count or estimated byte size. The
+ * number of bulk requests in flight is bounded by a semaphore, so producers calling {@link #add(SearchDocumentBody)}
+ * are blocked only when the window is full. This allows the caller to fetch and convert the next portion of documents
+ * while previous bulk requests are being processed by OpenSearch.</p>
+ *
+ * <p>A bulk request is not sent while another request with an action for the same document is in flight, so
+ * versions of a document are applied in the order they were added. Per-item failures are returned as an error
+ * response, while a failed bulk request fails the writer: {@link #awaitCompletion()} rethrows it as
+ * {@link SearchOperationException}, as the synchronous bulk call does.</p>
+ *
+ * <p>The index write listener is notified about the indices of each bulk request after its response or failure is
+ * received, before the in-flight slot is released.</p>
+ *
+ * <p>Instances are not thread-safe for producers and must be used by a single thread. Call {@link #close()} to flush
+ * remaining requests and wait for all in-flight bulk responses.</p>
+ */
+@Log4j2
+public class BulkIndexWriter implements AutoCloseable {
+
+  private final RestHighLevelClient client;
+  private final Function<SearchDocumentBody, List<DocWriteRequest<?>>> requestFactory;
+  private final Consumer<String> indexWriteListener;
+  private final int maxActions;
+  private final long maxBytes;
+  private final int maxInFlightRequests;
+  private final Semaphore inFlightRequests;
+  private final List<String> failures = new ArrayList<>();
+  private final Set<String> inFlightDocuments = ConcurrentHashMap.newKeySet();
+
+  private volatile SearchOperationException requestFailure;
+  private boolean requestFailureThrown;
+
+  private BulkRequest pendingRequest = new BulkRequest();
+  private boolean closed;
+
+  BulkIndexWriter(RestHighLevelClient client, Function<SearchDocumentBody, List<DocWriteRequest<?>>> requestFactory,
+                  Consumer<String> indexWriteListener, int maxActions, long maxBytes, int maxInFlightRequests) {
+    this.client = client;
+    this.requestFactory = requestFactory;
+    this.indexWriteListener = indexWriteListener;
+    this.maxActions = Math.max(1, maxActions);
+    this.maxBytes = Math.max(1L, maxBytes);
+    this.maxInFlightRequests = Math.max(1, maxInFlightRequests);
+    this.inFlightRequests = new Semaphore(this.maxInFlightRequests);
+  }
+
+  /**
+   * Adds document to the pending bulk request, flushing it if any threshold is reached.
+   *
+   * @param document - search document body as {@link SearchDocumentBody} object
+   */
+  public void add(SearchDocumentBody document) {
+    if (closed) {
+      throw new IllegalStateException("Bulk writer is already closed");
+    }
+
+    requestFactory.apply(document).forEach(pendingRequest::add);
+    if (pendingRequest.numberOfActions() >= maxActions || pendingRequest.estimatedSizeInBytes() >= maxBytes) {
+      flush();
+    }
+  }
+
+  /**
+   * Adds all given documents to the pending bulk request.
+   *
+   * @param documents - collection with {@link SearchDocumentBody} objects
+   */
+  public void addAll(Collection<SearchDocumentBody> documents) {
+    if (documents != null) {
+      documents.forEach(this::add);
+    }
+  }
+
+  /**
+   * Returns maximum number of documents per bulk request, can be used by producers to size conversion batches.
+   *
+   * @return maximum number of documents per bulk request
+   */
+  public int getMaxActions() {
+    return maxActions;
+  }
+
+  /**
+   * Sends pending bulk request asynchronously, waiting for a free slot in the in-flight window.
+   *
+   * <p>If the pending request updates a document of an in-flight request, all in-flight requests are awaited
+   * first.</p>
+   *
+   * @throws SearchOperationException if a previous bulk request failed
+   */
+  public void flush() {
+    throwIfRequestFailed();
+    if (pendingRequest.numberOfActions() == 0) {
+      return;
+    }
+
+    var request = pendingRequest;
+    pendingRequest = new BulkRequest();
+    var documents = getDocuments(request);
+    if (documents.stream().anyMatch(inFlightDocuments::contains)) {
+      awaitInFlightRequests();
+    }
+    acquire(1);
+    inFlightDocuments.addAll(documents);
+    try {
+      client.bulkAsync(request, DEFAULT, new ActionListener<>() {
+        @Override
+        public void onResponse(BulkResponse response) {
+          try {
+            if (response.hasFailures()) {
+              collectItemFailures(response);
+            }
+          } finally {
+            complete(request, documents);
+          }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          try {
+            log.warn("flush:: bulk request failed [indices: {}, actions: {}, message: {}]",
+              getIndices(request), request.numberOfActions(), e.getMessage());
+            if (requestFailure == null) {
+              requestFailure = new SearchOperationException(String.format(
+                "Failed to perform elasticsearch request [index=%s, type=bulkApi, message: %s]",
+                getIndices(request), e.getMessage()), e);
+            }
+          } finally {
+            complete(request, documents);
+          }
+        }
+      });
+    } catch (Exception e) {
+      inFlightDocuments.removeAll(documents);
+      inFlightRequests.release();
+      throw new SearchOperationException(String.format(
+        "Failed to perform elasticsearch request [index=%s, type=bulkApi, message: %s]",
+        getIndices(request), e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Flushes remaining documents and waits until all in-flight bulk requests are completed.
+   *
+   * @return {@link FolioIndexOperationResponse} with aggregated per-item failures, if any
+   * @throws SearchOperationException if any bulk request failed
+   */
+  public FolioIndexOperationResponse awaitCompletion() {
+    if (!closed) {
+      closed = true;
+      try {
+        flush();
+      } finally {
+        awaitInFlightRequests();
+      }
+    }
+
+    throwIfRequestFailed();
+
+    synchronized (failures) {
+      return failures.isEmpty()
+             ? getSuccessIndexOperationResponse()
+             : getErrorIndexOperationResponse(String.join(", ", failures));
+    }
+  }
+
+  @Override
+  public void close() {
+    awaitCompletion();
+  }
+
+  private void collectItemFailures(BulkResponse response) {
+    for (BulkItemResponse item : response.getItems()) {
+      if (item.isFailed()) {
+        addFailure(String.format("[%s]: index [%s], id [%s], message [%s]",
+          item.getItemId(), item.getIndex(), item.getId(), item.getFailureMessage()));
+      }
+    }
+  }
+
+  private void complete(BulkRequest request, Set<String> documents) {
+    inFlightDocuments.removeAll(documents);
+    notifyIndexWriteListener(request);
+    inFlightRequests.release();
+  }
+
+  private void awaitInFlightRequests() {
+    acquire(maxInFlightRequests);
+    inFlightRequests.release(maxInFlightRequests);
+  }
+
+  private void throwIfRequestFailed() {
+    var failure = requestFailure;
+    if (failure != null && !requestFailureThrown) {
+      // thrown once, so the close() of a try-with-resources block does not rethrow it after the body did
+      requestFailureThrown = true;
+      addFailure(failure.getMessage());
+      throw failure;
+    }
+  }
+
+  private void notifyIndexWriteListener(BulkRequest request) {
+    try {
+      request.requests().stream().map(DocWriteRequest::index).distinct().forEach(indexWriteListener);
+    } catch (Exception e) {
+      log.warn("notifyIndexWriteListener:: failed to notify listener [message: {}]", e.getMessage());
+    }
+  }
+
+  private void addFailure(String message) {
+    synchronized (failures) {
+      failures.add(message);
+    }
+  }
+
+  private void acquire(int permits) {
+    try {
+      inFlightRequests.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SearchOperationException("Interrupted while waiting for in-flight bulk requests", e);
+    }
+  }
+
+  private static Set<String> getDocuments(BulkRequest request) {
+    return request.requests().stream()
+      .map(docRequest -> docRequest.index() + "/" + docRequest.id())
+      .collect(Collectors.toSet());
+  }
+
+  private static String getIndices(BulkRequest request) {
+    return request.requests().stream().map(DocWriteRequest::index).distinct().collect(joining(","));
+  }
+}
@@ -0,0 +1,141 @@
+package org.folio.search.repository;
+
+import static org.folio.search.model.types.IndexActionType.INDEX;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.MurmurHash3;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory store of fingerprints of the documents indexed by this module instance.
+ *
+ * <p>The fingerprint is a 128-bit MurmurHash3 of the serialized document body. A document with the same fingerprint
+ * as the last successfully indexed version of the same index and id is not sent to OpenSearch again. Fingerprints are
+ * stored only after the bulk request completed without failures and are removed for delete operations, dropped or
+ * recreated indices and tenant-wide deletes, so a document is suppressed only when its indexed version is known to
+ * be identical. Entries expire after the configured time to limit staleness caused by writes from other module
+ * instances.</p>
+ */
+@Log4j2
+@Component
+public class DocumentFingerprintStore {
+
+  private final IndexNameProvider indexNameProvider;
+  private final Cache<FingerprintKey, Fingerprint> fingerprints;
+
+  public DocumentFingerprintStore(IndexNameProvider indexNameProvider,
+                                  IndexManagementConfigurationProperties indexManagementConfig) {
+    this.indexNameProvider = indexNameProvider;
+    this.fingerprints = Boolean.TRUE.equals(indexManagementConfig.getDocumentFingerprintEnabled())
+                        ? Caffeine.newBuilder()
+                          .maximumSize(indexManagementConfig.getDocumentFingerprintMaxSize())
+                          .expireAfterWrite(Duration.ofMinutes(indexManagementConfig.getDocumentFingerprintTtl()))
+                          .build()
+                        : null;
+  }
+
+  /**
+   * Opens a new fingerprint batch for documents sent in one indexing operation.
+   *
+   * @return new {@link Batch} object
+   */
+  public Batch newBatch() {
+    return new Batch();
+  }
+
+  /**
+   * Removes all fingerprints of the given index, e.g. when the index is dropped, recreated or cleaned by query.
+   *
+   * @param indexName - index name
+   */
+  public void invalidateIndex(String indexName) {
+    if (fingerprints != null) {
+      fingerprints.asMap().keySet().removeIf(key -> key.index().equals(indexName));
+    }
+  }
+
+  /**
+   * Collects fingerprints of the documents passed to the bulk request, so they can be stored once the indexing result
+   * is known. Instances are not thread-safe.
+   */
+  public final class Batch {
+
+    private final Map<FingerprintKey, Fingerprint> pending = new HashMap<>();
+
+    private Batch() { }
+
+    /**
+     * Returns documents that must be sent to OpenSearch, skipping index operations with unchanged documents.
+     *
+     * @param documents - documents to index or delete
+     * @return documents to send
+     */
+    public List<SearchDocumentBody> filterUnchanged(List<SearchDocumentBody> documents) {
+      if (fingerprints == null || documents == null) {
+        return documents;
+      }
+
+      var result = new ArrayList<SearchDocumentBody>(documents.size());
+      for (var document : documents) {
+        var key = new FingerprintKey(indexNameProvider.getIndexName(document), document.getId());
+        if (document.getAction() != INDEX || document.getDocumentBody() == null) {
+          fingerprints.invalidate(key);
+          pending.remove(key);
+          result.add(document);
+          continue;
+        }
+
+        var fingerprint = Fingerprint.of(document.getDocumentBody());
+        if (!fingerprint.equals(fingerprints.getIfPresent(key)) || pending.containsKey(key)) {
+          fingerprints.invalidate(key);
+          pending.put(key, fingerprint);
+          result.add(document);
+        }
+      }
+
+      if (result.size() < documents.size()) {
+        log.debug("filterUnchanged:: skipped unchanged documents [documents: {}, toIndex: {}]",
+          documents.size(), result.size());
+      }
+      return result;
+    }
+
+    /**
+     * Stores collected fingerprints if indexing succeeded. Fingerprints of the sent documents are removed when they
+     * are added to the batch, so nothing is suppressed after a failed or interrupted indexing operation.
+     *
+     * @param response - indexing operation response
+     */
+    public void complete(FolioIndexOperationResponse response) {
+      if (fingerprints == null || pending.isEmpty()) {
+        return;
+      }
+
+      if (response != null && response.getStatus() == FolioIndexOperationResponse.StatusEnum.SUCCESS) {
+        fingerprints.putAll(pending);
+      }
+      pending.clear();
+    }
+  }
+
+  private record FingerprintKey(String index, String id) { }
+
+  private record Fingerprint(long high, long low) {
+
+    static Fingerprint of(BytesReference documentBody) {
+      var hash = MurmurHash3.hash128x64(BytesReference.toBytes(documentBody));
+      return new Fingerprint(hash[0], hash[1]);
+    }
+  }
+}
@@ -3,22 +3,51 @@ package org.folio.search.repository;
 import static java.util.Locale.ROOT;
 import static org.folio.spring.tools.config.properties.FolioEnvironment.getFolioEnvName;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.ResourceRequest;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.service.consortium.TenantProvider;
+import org.folio.search.service.reindex.ReindexContext;
 import org.springframework.stereotype.Component;
 
+/**
+ * Resolves names of search indices.
+ *
+ * <p>With blue/green reindex enabled, the index name is an alias of the live index generation, and a new generation
+ * is built behind the {@code <index>_build} alias. Documents indexed in the reindex upload mode are written to the
+ * build generation, and other documents are mirrored to it, so the build generation does not miss changes made
+ * while it is loaded.</p>
+ *
+ * <p>The build state is cached per instance for mirroring. In the upload mode it is resolved from the cluster once per
+ * upload range instead, because a cached state of another instance can be stale and upload documents must not be
+ * written to the live index while a build is in progress.</p>
+ */
 @Log4j2
 @Component
 public class IndexNameProvider {
 
+  private static final String BUILD_ALIAS_SUFFIX = "_build";
+
   private final TenantProvider tenantProvider;
+  private final IndexRepository indexRepository;
+  private final boolean blueGreenReindexEnabled;
+  private final Cache<String, Boolean> buildInProgressCache;
 
-  public IndexNameProvider(TenantProvider tenantProvider) {
+  public IndexNameProvider(TenantProvider tenantProvider, IndexRepository indexRepository,
+                           IndexManagementConfigurationProperties indexManagementConfig) {
     this.tenantProvider = tenantProvider;
+    this.indexRepository = indexRepository;
+    this.blueGreenReindexEnabled = Boolean.TRUE.equals(indexManagementConfig.getBlueGreenReindexEnabled());
+    this.buildInProgressCache = Caffeine.newBuilder()
+      .expireAfterWrite(Duration.ofSeconds(indexManagementConfig.getIndexAliasCacheTtlSeconds()))
+      .build();
   }
 
   public String getIndexName(ResourceType resource, String tenantId) {
@@ -26,7 +55,8 @@ public class IndexNameProvider {
   }
 
   public String getIndexName(SearchDocumentBody doc) {
-    return getIndexName(doc.getResource(), doc.getTenant());
+    var indexName = getIndexName(doc.getResource(), doc.getTenant());
+    return ReindexContext.isUploadMode() && isUploadBuildInProgress(indexName) ? getBuildAlias(indexName) : indexName;
   }
 
   public String getIndexName(ResourceRequest request) {
@@ -37,6 +67,69 @@ public class IndexNameProvider {
     return getIndexName(event.getResourceName(), event.getTenant());
   }
 
+  /**
+   * Returns the alias of the index generation being built for the given index, if documents written to the index
+   * must be mirrored to it.
+   *
+   * @param indexName - resolved index name
+   * @return build alias name, empty if there is no index build in progress or the current thread writes to the build
+   */
+  public Optional<String> getMirrorIndexName(String indexName) {
+    if (ReindexContext.isUploadMode() || !isBuildInProgress(indexName)) {
+      return Optional.empty();
+    }
+    return Optional.of(getBuildAlias(indexName));
+  }
+
+  /**
+   * Drops cached state of the index build, so the next lookup reads it from the cluster.
+   *
+   * @param indexName - resolved index name
+   */
+  public void invalidateIndexBuild(String indexName) {
+    buildInProgressCache.invalidate(indexName);
+  }
+
+  /**
+   * Returns the alias of the index generation being built for the given index.
+   *
+   * @param indexName - resolved index name
+   * @return build alias name
+   */
+  public static String getBuildAlias(String indexName) {
+    return indexName + BUILD_ALIAS_SUFFIX;
+  }
+
+  /**
+   * Returns the name of a new physical index generation for the given index.
+   *
+   * @param indexName  - resolved index name
+   * @param generation - generation number, increasing with each build
+   * @return physical index name
+   */
+  public static String getGenerationName(String indexName, long generation) {
+    return indexName + "_" + generation;
+  }
+
+  private boolean isBuildInProgress(String indexName) {
+    if (!blueGreenReindexEnabled) {
+      return false;
+    }
+    return buildInProgressCache.get(indexName, this::resolveBuildInProgress);
+  }
+
+  private boolean isUploadBuildInProgress(String indexName) {
+    if (!blueGreenReindexEnabled) {
+      return false;
+    }
+    return ReindexContext.getUploadIndexBuilds().computeIfAbsent(indexName, this::resolveBuildInProgress);
+  }
+
+  private boolean resolveBuildInProgress(String indexName) {
+    var buildIndices = indexRepository.getAliasIndices(getBuildAlias(indexName));
+    return !buildIndices.isEmpty() && !indexRepository.getAliasIndices(indexName).containsAll(buildIndices);
+  }
+
   private String getIndexName(String resource, String tenantId) {
     var finalTenantId = tenantProvider.getTenant(tenantId);
     log.debug("Calculating index name for tenant [resource: {}, original: {}, final: {}]",
@@ -9,10 +9,15 @@ import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.common.xcontent.XContentType.JSON;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
@@ -21,6 +26,7 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.opensearch.core.rest.RestStatus;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
@@ -120,6 +126,62 @@ public class IndexRepository {
       String.join(",", indices), "refreshApi");
   }
 
+  /**
+   * Returns names of the indices the alias points to.
+   *
+   * @param alias elasticsearch alias name
+   * @return index names, empty if the alias does not exist
+   */
+  public Set<String> getAliasIndices(String alias) {
+    var request = new GetAliasesRequest(alias);
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.indices().getAlias(request, DEFAULT),
+      alias, "getAliasApi");
+    return response.status() == RestStatus.NOT_FOUND ? Set.of() : Set.copyOf(response.getAliases().keySet());
+  }
+
+  /**
+   * Atomically points the alias to the given index only and deletes the retired indices.
+   *
+   * <p>Retired indices can include a concrete index with the same name as the alias, so the index can be replaced by
+   * the alias in a single request.</p>
+   *
+   * @param alias          elasticsearch alias name
+   * @param index          elasticsearch index name the alias must point to
+   * @param retiredIndices index names to delete
+   */
+  public void switchAlias(String alias, String index, Collection<String> retiredIndices) {
+    var request = new IndicesAliasesRequest();
+    for (var aliasIndex : getAliasIndices(alias)) {
+      if (!aliasIndex.equals(index) && !retiredIndices.contains(aliasIndex)) {
+        request.addAliasAction(AliasActions.remove().index(aliasIndex).alias(alias));
+      }
+    }
+    request.addAliasAction(AliasActions.add().index(index).alias(alias));
+    retiredIndices.forEach(retiredIndex -> request.addAliasAction(AliasActions.removeIndex().index(retiredIndex)));
+
+    performExceptionalOperation(
+      () -> elasticsearchClient.indices().updateAliases(request, DEFAULT),
+      alias, "updateAliasesApi");
+  }
+
+  /**
+   * Deletes all indices the alias points to, and so the alias itself.
+   *
+   * @param alias elasticsearch alias name
+   */
+  @CacheEvict(cacheNames = ES_INDICES_CACHE, key = "#alias")
+  public void dropAliasIndices(String alias) {
+    var aliasIndices = getAliasIndices(alias);
+    if (aliasIndices.isEmpty()) {
+      return;
+    }
+
+    var request = new DeleteIndexRequest(aliasIndices.toArray(String[]::new));
+    performExceptionalOperation(() -> elasticsearchClient.indices()
+      .delete(request, RequestOptions.DEFAULT), alias, "dropIndex");
+  }
+
   /**
    * Deletes elasticsearch index by name.
    *
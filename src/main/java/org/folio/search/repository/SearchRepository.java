@@ -9,6 +9,7 @@ import static org.folio.search.utils.CollectionUtils.getValuesByPath;
 import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -26,6 +27,7 @@ import org.opensearch.action.search.MultiSearchResponse.Item;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.Request;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.AnalyzeRequest;
 import org.opensearch.client.indices.AnalyzeResponse;
@@ -53,6 +55,7 @@ public class SearchRepository {
   @Qualifier(value = SEARCH_RETRY_TEMPLATE_NAME)
   private final RetryTemplate searchRetryTemplate;
   private final IndexNameProvider indexNameProvider;
+  private final SearchResultCache searchResultCache;
 
   public String analyze(String text, String field, ResourceType resource, String tenantId) {
     var index = indexNameProvider.getIndexName(resource, tenantId);
@@ -75,8 +78,8 @@ public class SearchRepository {
   public SearchResponse search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource) {
     var index = indexNameProvider.getIndexName(resourceRequest);
     var searchRequest = buildSearchRequest(index, searchSource);
-    return searchRetryTemplate.invoke(
-      () -> performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE));
+    return searchResultCache.search(index, searchSource, null, () -> searchRetryTemplate.invoke(
+      () -> performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE)));
   }
 
   /**
@@ -90,8 +93,36 @@ public class SearchRepository {
   public SearchResponse search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource, String preference) {
     var index = indexNameProvider.getIndexName(resourceRequest);
     var searchRequest = buildSearchRequest(index, searchSource, preference);
-    return searchRetryTemplate.invoke(
-      () -> performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE));
+    return searchResultCache.search(index, searchSource, preference, () -> searchRetryTemplate.invoke(
+      () -> performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE)));
+  }
+
+  /**
+   * Executes request to elasticsearch and passes the raw JSON search response to the consumer, without parsing it
+   * into a {@link SearchResponse} object.
+   *
+   * @param resourceRequest  resource request as {@link ResourceRequest} object.
+   * @param searchSource     elasticsearch search source as {@link SearchSourceBuilder} object.
+   * @param preference       elasticsearch preference string to route same requests to the same shard
+   * @param responseConsumer consumer of the raw JSON search response
+   */
+  public void search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource, String preference,
+                     Consumer<InputStream> responseConsumer) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var request = new Request("POST", "/" + index + "/_search");
+    request.setJsonEntity(searchSource.toString());
+    if (preference != null) {
+      request.addParameter("preference", preference);
+    }
+
+    var response = searchRetryTemplate.invoke(() -> performExceptionalOperation(
+      () -> client.getLowLevelClient().performRequest(request), index, SEARCH_OPERATION_TYPE));
+    performExceptionalOperation(() -> {
+      try (var content = response.getEntity().getContent()) {
+        responseConsumer.accept(content);
+      }
+      return null;
+    }, index, SEARCH_OPERATION_TYPE);
   }
 
   /**
@@ -103,22 +134,7 @@ public class SearchRepository {
    */
   public MultiSearchResponse msearch(ResourceRequest resourceRequest, Collection<SearchSourceBuilder> searchSources) {
     var index = indexNameProvider.getIndexName(resourceRequest);
-    var request = new MultiSearchRequest();
-    searchSources.forEach(source -> request.add(buildSearchRequest(index, source)));
-    var response = searchRetryTemplate.invoke(
-      () -> performExceptionalOperation(() -> client.msearch(request, DEFAULT), index, "multiSearchApi"));
-
-    if (isFailedMultiSearchRequest(response.getResponses(), searchSources.size())) {
-      var failureMessages = stream(response.getResponses())
-        .map(Item::getFailureMessage)
-        .filter(Objects::nonNull)
-        .toList();
-
-      throw new SearchServiceException(String.format(
-        "Failed to perform multi-search operation [errors: %s]", failureMessages));
-    }
-
-    return response;
+    return searchResultCache.msearch(index, searchSources, () -> doMsearch(index, searchSources));
   }
 
   /**
@@ -159,6 +175,25 @@ public class SearchRepository {
     return buildSearchRequest(index, source).preference(preference);
   }
 
+  private MultiSearchResponse doMsearch(String index, Collection<SearchSourceBuilder> searchSources) {
+    var request = new MultiSearchRequest();
+    searchSources.forEach(source -> request.add(buildSearchRequest(index, source)));
+    var response = searchRetryTemplate.invoke(
+      () -> performExceptionalOperation(() -> client.msearch(request, DEFAULT), index, "multiSearchApi"));
+
+    if (isFailedMultiSearchRequest(response.getResponses(), searchSources.size())) {
+      var failureMessages = stream(response.getResponses())
+        .map(Item::getFailureMessage)
+        .filter(Objects::nonNull)
+        .toList();
+
+      throw new SearchServiceException(String.format(
+        "Failed to perform multi-search operation [errors: %s]", failureMessages));
+    }
+
+    return response;
+  }
+
   private void clearScrollAfterStreaming(String index, String scrollId) {
     var clearScrollRequest = new ClearScrollRequest();
     clearScrollRequest.addScrollId(scrollId);
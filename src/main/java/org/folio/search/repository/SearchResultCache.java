@@ -0,0 +1,152 @@
+package org.folio.search.repository;
+
+import static java.util.stream.Collectors.joining;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory cache of search responses received by this module instance.
+ *
+ * <p>Responses are cached by index (tenant and resource), search source (query, paging, sorting and aggregations) and
+ * shard preference. Each index has a version that is incremented when documents are written to the index or the
+ * index is dropped, recreated or cleaned by query. The version is a part of the cache key, so responses cached before
+ * the write are not returned anymore, and they are evicted by size or time. Entries expire after the configured time,
+ * aligned with the index refresh interval, to limit staleness caused by writes from other module instances.</p>
+ *
+ * <p>The cache is bounded by the number of entries and by the estimated size of cached responses. Cached responses are
+ * shared between requests and must not be modified.</p>
+ */
+@Log4j2
+@Component
+public class SearchResultCache {
+
+  private static final int RESPONSE_BASE_SIZE = 1024;
+  private static final int HIT_BASE_SIZE = 256;
+  private static final int AGGREGATION_SIZE = 8 * 1024;
+
+  private final Map<String, AtomicLong> indexVersions = new ConcurrentHashMap<>();
+  private final Cache<CacheKey, CachedResponse> responses;
+  private final long minEntryWeight;
+
+  public SearchResultCache(SearchQueryConfigurationProperties searchQueryConfig) {
+    var maxSize = Math.max(1L, searchQueryConfig.getResultCacheMaxSize());
+    var maxBytes = Math.max(maxSize, searchQueryConfig.getResultCacheMaxBytes());
+    // each entry weighs at least maxBytes / maxSize, so the weight limit also bounds the number of entries
+    this.minEntryWeight = maxBytes / maxSize;
+    this.responses = searchQueryConfig.isResultCacheEnabled()
+                     ? Caffeine.newBuilder()
+                       .maximumWeight(maxBytes)
+                       .weigher((CacheKey key, CachedResponse value) -> value.weight())
+                       .expireAfterWrite(searchQueryConfig.getResultCacheTtl())
+                       .build()
+                     : null;
+  }
+
+  /**
+   * Returns cached search response, or executes the search request and caches its response.
+   *
+   * @param index        - index name
+   * @param searchSource - search source of the request
+   * @param preference   - shard preference of the request, nullable
+   * @param loader       - executes the search request
+   * @return search response as {@link SearchResponse} object
+   */
+  public SearchResponse search(String index, SearchSourceBuilder searchSource, String preference,
+                               Supplier<SearchResponse> loader) {
+    if (responses == null) {
+      return loader.get();
+    }
+    var key = new CacheKey(index, getIndexVersion(index), searchSource.toString(), preference);
+    return getOrLoad(key, SearchResponse.class, loader);
+  }
+
+  /**
+   * Returns cached multi-search response, or executes the multi-search request and caches its response.
+   *
+   * @param index         - index name
+   * @param searchSources - search sources of the request
+   * @param loader        - executes the multi-search request
+   * @return search response as {@link MultiSearchResponse} object
+   */
+  public MultiSearchResponse msearch(String index, Collection<SearchSourceBuilder> searchSources,
+                                     Supplier<MultiSearchResponse> loader) {
+    if (responses == null) {
+      return loader.get();
+    }
+    var source = searchSources.stream().map(SearchSourceBuilder::toString).collect(joining("\n", "[", "]"));
+    var key = new CacheKey(index, getIndexVersion(index), source, null);
+    return getOrLoad(key, MultiSearchResponse.class, loader);
+  }
+
+  /**
+   * Invalidates all cached responses of the given index, e.g. when documents are written to the index or the index
+   * is dropped, recreated or cleaned by query.
+   *
+   * @param indexName - index name
+   */
+  public void invalidateIndex(String indexName) {
+    if (responses != null) {
+      indexVersions.computeIfAbsent(indexName, index -> new AtomicLong()).incrementAndGet();
+    }
+  }
+
+  private <T> T getOrLoad(CacheKey key, Class<T> responseClass, Supplier<T> loader) {
+    var cached = responses.getIfPresent(key);
+    if (cached != null && responseClass.isInstance(cached.response())) {
+      log.debug("getOrLoad:: returning cached response [index: {}]", key.index());
+      return responseClass.cast(cached.response());
+    }
+
+    var response = loader.get();
+    var weight = Math.max(minEntryWeight, estimateSize(response));
+    responses.put(key, new CachedResponse(response, (int) Math.min(weight, Integer.MAX_VALUE)));
+    return response;
+  }
+
+  private long getIndexVersion(String index) {
+    var version = indexVersions.get(index);
+    return version != null ? version.get() : 0L;
+  }
+
+  private static long estimateSize(Object response) {
+    if (response instanceof MultiSearchResponse multiSearchResponse) {
+      var size = (long) RESPONSE_BASE_SIZE;
+      for (var item : multiSearchResponse.getResponses()) {
+        size += item.getResponse() != null ? estimateSize(item.getResponse()) : RESPONSE_BASE_SIZE;
+      }
+      return size;
+    }
+
+    var size = (long) RESPONSE_BASE_SIZE;
+    if (response instanceof SearchResponse searchResponse) {
+      var hits = searchResponse.getHits();
+      if (hits != null && hits.getHits() != null) {
+        for (var hit : hits.getHits()) {
+          var source = hit.getSourceRef();
+          size += HIT_BASE_SIZE + (source != null ? source.length() : 0);
+        }
+      }
+      var aggregations = searchResponse.getAggregations();
+      if (aggregations != null) {
+        size += (long) AGGREGATION_SIZE * aggregations.asList().size();
+      }
+    }
+    return size;
+  }
+
+  private record CacheKey(String index, long indexVersion, String source, String preference) { }
+
+  private record CachedResponse(Object response, int weight) { }
+}
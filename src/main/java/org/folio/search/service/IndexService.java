@@ -11,7 +11,9 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.client.ResourceReindexClient;
@@ -24,8 +26,10 @@ import org.folio.search.domain.dto.ReindexRequest;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.types.ResourceType;
+import org.folio.search.repository.DocumentFingerprintStore;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.SearchResultCache;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.es.SearchMappingsHelper;
 import org.folio.search.service.es.SearchSettingsHelper;
@@ -53,6 +57,8 @@ public class IndexService {
   private final IndexNameProvider indexNameProvider;
   private final TenantProvider tenantProvider;
   private final LocationService locationService;
+  private final DocumentFingerprintStore documentFingerprintStore;
+  private final SearchResultCache searchResultCache;
 
   /**
    * Creates index for resource with pre-defined settings and mappings.
@@ -150,6 +156,95 @@ public class IndexService {
     }
   }
 
+  /**
+   * Creates a new generation of the resource index behind the build alias, leaving the live index searchable.
+   *
+   * <p>The generation is created with zero replicas and disabled refresh for bulk loading. Documents of the reindex
+   * upload phase are written to it, and it replaces the live index in {@link #promoteIndexGeneration}. If the live
+   * index does not exist, it is created as a regular index.</p>
+   *
+   * @param resourceType  - resource name as {@link ResourceType} object
+   * @param tenantId      - tenant id as {@link String} object
+   * @param indexSettings - index settings as {@link IndexSettings} object, replicas and refresh interval are ignored
+   * @return {@link FolioCreateIndexResponse} if index generation was created successfully
+   */
+  public FolioCreateIndexResponse createIndexGeneration(ResourceType resourceType, String tenantId,
+                                                        IndexSettings indexSettings) {
+    validateResourceName(resourceType,
+      "Index cannot be created for the resource because resource description is not found.");
+
+    var index = indexNameProvider.getIndexName(resourceType, tenantId);
+    if (!indexRepository.indexExists(index)) {
+      return createIndex(resourceType, tenantId, indexSettings);
+    }
+
+    var settings = prepareIndexSettings(resourceType, indexSettings);
+    var indexSettingsJson = (ObjectNode) settings.get("index");
+    updateNumberOfReplicas(indexSettingsJson, 0);
+    updateRefreshInterval(indexSettingsJson, -1);
+
+    var generation = IndexNameProvider.getGenerationName(index, System.currentTimeMillis());
+    var buildAlias = IndexNameProvider.getBuildAlias(index);
+    var mappings = mappingHelper.getMappings(resourceType);
+    log.info("createIndexGeneration:: Attempting to create index generation by [index: {}, generation: {}]",
+      index, generation);
+    var response = indexRepository.createIndex(generation, settings.toString(), mappings);
+
+    indexRepository.switchAlias(buildAlias, generation, getStaleBuildIndices(index));
+    documentFingerprintStore.invalidateIndex(buildAlias);
+    indexNameProvider.invalidateIndexBuild(index);
+    return response;
+  }
+
+  /**
+   * Replaces the live resource index by the index generation built behind the build alias.
+   *
+   * <p>Dynamic index settings are restored, the generation is refreshed, and then the index alias is atomically
+   * switched to it and the previous generation is deleted. Does nothing if there is no build in progress.</p>
+   *
+   * @param resourceType - resource name as {@link ResourceType} object
+   * @param tenantId     - tenant id as {@link String} object
+   */
+  public void promoteIndexGeneration(ResourceType resourceType, String tenantId) {
+    var index = indexNameProvider.getIndexName(resourceType, tenantId);
+    var buildIndices = indexRepository.getAliasIndices(IndexNameProvider.getBuildAlias(index));
+    var liveIndices = indexRepository.getAliasIndices(index);
+    if (buildIndices.size() != 1 || liveIndices.containsAll(buildIndices)) {
+      log.debug("promoteIndexGeneration:: no index build in progress [index: {}]", index);
+      return;
+    }
+
+    var generation = buildIndices.iterator().next();
+    log.info("promoteIndexGeneration:: Attempting to promote index generation by [index: {}, generation: {}]",
+      index, generation);
+    indexRepository.updateIndexSettings(generation, prepareIndexDynamicSettings(null).toString());
+    indexRepository.refreshIndices(generation);
+
+    // live index created before blue/green reindex is a concrete index, it is replaced by the alias
+    var retiredIndices = liveIndices.isEmpty() && indexRepository.indexExists(index) ? Set.of(index) : liveIndices;
+    indexRepository.switchAlias(index, generation, retiredIndices);
+    documentFingerprintStore.invalidateIndex(index);
+    searchResultCache.invalidateIndex(index);
+    indexNameProvider.invalidateIndexBuild(index);
+  }
+
+  /**
+   * Deletes the index generation built behind the build alias, if it was not promoted.
+   *
+   * @param resourceType - resource name as {@link ResourceType} object
+   * @param tenantId     - tenant id as {@link String} object
+   */
+  public void dropIndexGeneration(ResourceType resourceType, String tenantId) {
+    var index = indexNameProvider.getIndexName(resourceType, tenantId);
+    var staleBuildIndices = getStaleBuildIndices(index);
+    if (!staleBuildIndices.isEmpty()) {
+      log.info("dropIndexGeneration:: Dropping not promoted index generations [index: {}, generations: {}]",
+        index, staleBuildIndices);
+      staleBuildIndices.forEach(indexRepository::dropIndex);
+      indexNameProvider.invalidateIndexBuild(index);
+    }
+  }
+
   /**
    * Runs reindex request for mod-inventory-storage.
    *
@@ -212,8 +307,16 @@ public class IndexService {
     log.debug("dropIndex:: by [resource: {}, tenant: {}]", resource, tenant);
 
     var index = indexNameProvider.getIndexName(resource, tenant);
-    if (indexRepository.indexExists(index)) {
+    documentFingerprintStore.invalidateIndex(index);
+    searchResultCache.invalidateIndex(index);
+    dropIndexGeneration(resource, tenant);
+    if (!indexRepository.indexExists(index)) {
+      return;
+    }
+    if (indexRepository.getAliasIndices(index).isEmpty()) {
       indexRepository.dropIndex(index);
+    } else {
+      indexRepository.dropAliasIndices(index);
     }
   }
 
@@ -222,12 +325,21 @@ public class IndexService {
 
     var index = indexNameProvider.getIndexName(resourceName, tenantId);
     var mappings = mappingHelper.getMappings(resourceName);
+    documentFingerprintStore.invalidateIndex(index);
+    searchResultCache.invalidateIndex(index);
 
     log.info("doCreateIndex:: Attempting to create index by [indexName: {}, mappings: {}, settings: {}]",
       index, mappings, indexSettings);
     return indexRepository.createIndex(index, indexSettings, mappings);
   }
 
+  private Set<String> getStaleBuildIndices(String index) {
+    var liveIndices = indexRepository.getAliasIndices(index);
+    return indexRepository.getAliasIndices(IndexNameProvider.getBuildAlias(index)).stream()
+      .filter(buildIndex -> !liveIndices.contains(buildIndex))
+      .collect(Collectors.toSet());
+  }
+
   private List<ResourceType> getResourceNamesToReindex(ReindexRequest reindexRequest) {
     log.debug("getResourceNamesToReindex:: by [reindexRequest: {}]", reindexRequest);
 
@@ -8,6 +8,7 @@ import static org.folio.search.utils.SearchConverterUtils.getResourceSource;
 import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -15,10 +16,12 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.Strings;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.model.event.LazyJsonPayload;
 import org.folio.search.model.types.ReindexEntityType;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.service.reindex.ReindexContext;
 import org.folio.search.service.reindex.jdbc.MergeRangeRepository;
+import org.folio.search.service.reindex.jdbc.RawLine;
 import org.folio.search.service.reindex.jdbc.ReindexJdbcRepository;
 import org.folio.search.utils.SearchConverterUtils;
 import org.springframework.stereotype.Service;
@@ -91,12 +94,24 @@ public class InventoryEntityPersistenceService {
   }
 
   private void saveEntities(String tenant, List<ResourceEvent> resourceEvents, MergeRangeRepository repository) {
-    var resourceToSave = resourceEvents.stream()
-      .map(SearchConverterUtils::getNewAsMap)
-      .toList();
+    var resourceToSave = new ArrayList<Map<String, Object>>();
+    var rawResourceToSave = new ArrayList<RawLine>();
+    for (var resourceEvent : resourceEvents) {
+      var resource = SearchConverterUtils.getNewAsMap(resourceEvent);
+      var rawJson = resource instanceof LazyJsonPayload lazyPayload ? lazyPayload.getRawJson() : null;
+      if (rawJson != null) {
+        rawResourceToSave.add(new RawLine(rawJson, resource));
+      } else {
+        resourceToSave.add(resource);
+      }
+    }
+
     if (!resourceToSave.isEmpty()) {
       repository.saveEntities(tenant, resourceToSave);
     }
+    if (!rawResourceToSave.isEmpty()) {
+      repository.saveEntitiesRaw(tenant, rawResourceToSave);
+    }
   }
 
   private void deleteEntities(String tenant, String resourceType,
@@ -14,6 +14,7 @@ import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
@@ -31,6 +33,7 @@ import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.ResourceIndexingConfiguration;
 import org.folio.search.model.types.IndexActionType;
 import org.folio.search.model.types.ResourceType;
+import org.folio.search.repository.DocumentFingerprintStore;
 import org.folio.search.repository.PrimaryResourceRepository;
 import org.folio.search.repository.ResourceRepository;
 import org.folio.search.service.converter.MultiTenantSearchDocumentConverter;
@@ -52,6 +55,7 @@ public class ResourceService {
   private final MultiTenantSearchDocumentConverter searchDocumentConverter;
   private final Map<String, ResourceRepository> resourceRepositoryBeans;
   private final InventoryEntityPersistenceService inventoryEntityPersistenceService;
+  private final DocumentFingerprintStore documentFingerprintStore;
 
   /**
    * Saves list of resourceEvents to elasticsearch. For inventory resource types (instance, holdings, item),
@@ -147,7 +151,9 @@ public class ResourceService {
 
   private FolioIndexOperationResponse indexFetchedInstances(List<ResourceEvent> fetchedEvents) {
     var groupedByOperation = fetchedEvents.stream().collect(groupingBy(ResourceService::getEventIndexType));
-    var bulkIndexResponse = indexSearchDocuments(searchDocumentConverter.convert(fetchedEvents));
+    var bulkIndexResponse = primaryResourceRepository.isBulkPipelineEnabled()
+                            ? convertAndIndexPipelined(fetchedEvents)
+                            : indexSearchDocuments(searchDocumentConverter.convert(fetchedEvents));
     log.info("indexInstancesById: indexed to elasticsearch [indexRequests: {}, removeRequests: {}{}]",
       getNumberOfRequests(groupedByOperation.get(INDEX)),
       getNumberOfRequests(groupedByOperation.get(DELETE)),
@@ -161,18 +167,25 @@ public class ResourceService {
   }
 
   private FolioIndexOperationResponse indexSearchDocuments(Map<String, List<SearchDocumentBody>> eventsByResource) {
+    var fingerprintBatch = documentFingerprintStore.newBatch();
     var eventsByRepository = eventsByResource.entrySet().stream().collect(groupingBy(
       entry -> getIndexingRepositoryName(ResourceType.byName(entry.getKey())),
       flatMapping(entry -> entry.getValue().stream(), toList())));
 
     var responses = new ArrayList<FolioIndexOperationResponse>();
     var primaryResources = eventsByRepository.get(PRIMARY_INDEXING_REPOSITORY_NAME);
-    responses.add(primaryResourceRepository.indexResources(primaryResources));
+    responses.add(primaryResourceRepository.indexResources(fingerprintBatch.filterUnchanged(primaryResources)));
     eventsByRepository.remove(PRIMARY_INDEXING_REPOSITORY_NAME);
 
     eventsByRepository.forEach((repository, events) ->
-      responses.add(resourceRepositoryBeans.get(repository).indexResources(events)));
+      responses.add(resourceRepositoryBeans.get(repository).indexResources(fingerprintBatch.filterUnchanged(events))));
 
+    var response = mergeResponses(responses);
+    fingerprintBatch.complete(response);
+    return response;
+  }
+
+  private static FolioIndexOperationResponse mergeResponses(List<FolioIndexOperationResponse> responses) {
     var errorMessage = responses.stream()
       .map(FolioIndexOperationResponse::getErrorMessage)
       .filter(Objects::nonNull)
@@ -181,6 +194,36 @@ public class ResourceService {
     return errorMessage.isEmpty() ? getSuccessIndexOperationResponse() : getErrorIndexOperationResponse(errorMessage);
   }
 
+  /**
+   * Converts events in bulk-sized chunks and streams the documents of the primary repository to the pipelined bulk
+   * writer, so the conversion of the next chunk overlaps with in-flight bulk requests.
+   */
+  private FolioIndexOperationResponse convertAndIndexPipelined(List<ResourceEvent> events) {
+    var fingerprintBatch = documentFingerprintStore.newBatch();
+    var otherDocuments = new HashMap<String, List<SearchDocumentBody>>();
+    var responses = new ArrayList<FolioIndexOperationResponse>();
+    try (var bulkWriter = primaryResourceRepository.openBulkWriter()) {
+      for (var eventsChunk : ListUtils.partition(events, bulkWriter.getMaxActions())) {
+        searchDocumentConverter.convert(eventsChunk).forEach((resource, documents) -> {
+          var repositoryName = getIndexingRepositoryName(ResourceType.byName(resource));
+          var changedDocuments = fingerprintBatch.filterUnchanged(documents);
+          if (PRIMARY_INDEXING_REPOSITORY_NAME.equals(repositoryName)) {
+            bulkWriter.addAll(changedDocuments);
+          } else {
+            otherDocuments.computeIfAbsent(repositoryName, k -> new ArrayList<>()).addAll(changedDocuments);
+          }
+        });
+      }
+      responses.add(bulkWriter.awaitCompletion());
+    }
+
+    otherDocuments.forEach((repository, documents) ->
+      responses.add(resourceRepositoryBeans.get(repository).indexResources(documents)));
+    var response = mergeResponses(responses);
+    fingerprintBatch.complete(response);
+    return response;
+  }
+
   private String getIndexingRepositoryName(ResourceType resourceName) {
     return resourceDescriptionService.find(resourceName)
       .map(ResourceDescription::getIndexingConfiguration)
@@ -2,11 +2,14 @@ package org.folio.search.service;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.search.utils.SearchUtils.buildPreferenceKey;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
@@ -19,6 +22,7 @@ import org.folio.search.service.converter.ElasticsearchDocumentConverter;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -49,13 +53,7 @@ public class SearchService {
     log.debug("search:: by [query: {}, resource: {}]", request.query(), request.resource());
     validateRequest(request);
 
-    var queryBuilder = cqlSearchQueryConverter
-      .convertForConsortia(request.query(), request.resource(), request.consortiumConsolidated())
-      .from(request.offset())
-      .size(request.limit())
-      .trackTotalHits(true)
-      .fetchSource(getIncludedSourceFields(request), null)
-      .timeout(new TimeValue(searchQueryConfiguration.getRequestTimeout().toMillis(), MILLISECONDS));
+    var queryBuilder = buildSearchSource(request).fetchSource(getIncludedSourceFields(request), null);
 
     var searchResponse = searchRepository.search(request, queryBuilder, buildPreference(request));
     var searchResult = documentConverter.convertToSearchResult(searchResponse, request.resourceClass());
@@ -65,6 +63,52 @@ public class SearchService {
     return searchResult;
   }
 
+  /**
+   * Checks if the search result for the request can be written from raw sources of found records, see
+   * {@link #searchRaw(CqlSearchRequest, String)}.
+   *
+   * @param request cql search request as {@link CqlSearchRequest} object
+   * @return true if raw source response is enabled, the request asks for entire records and the result does not
+   *   require post-processing
+   */
+  public boolean isRawSourceResponseSupported(CqlSearchRequest<?> request) {
+    return searchQueryConfiguration.isRawSourceResponseEnabled()
+      && isTrue(request.expandAll())
+      && !(isTrue(request.includeNumberOfTitles())
+           && searchResponsePostProcessors.containsKey(request.resourceClass()));
+  }
+
+  /**
+   * Prepares search query and returns the writer of the search result built from raw sources of found records.
+   *
+   * <p>The search request is executed when the result is written, and the search engine response is copied to the
+   * output as a token stream, so neither the search response nor result objects are built.</p>
+   *
+   * @param request      cql search request as {@link CqlSearchRequest} object
+   * @param recordsField name of the search result field with found records
+   * @return search result writer
+   */
+  public Consumer<OutputStream> searchRaw(CqlSearchRequest<?> request, String recordsField) {
+    log.debug("searchRaw:: by [query: {}, resource: {}]", request.query(), request.resource());
+    validateRequest(request);
+
+    var queryBuilder = buildSearchSource(request)
+      .fetchSource(searchFieldProvider.getAllSourceFields(request.resource()), null);
+    var preference = buildPreference(request);
+
+    return output -> searchRepository.search(request, queryBuilder, preference,
+      response -> documentConverter.writeSearchResult(response, output, recordsField));
+  }
+
+  private SearchSourceBuilder buildSearchSource(CqlSearchRequest<?> request) {
+    return cqlSearchQueryConverter
+      .convertForConsortia(request.query(), request.resource(), request.consortiumConsolidated())
+      .from(request.offset())
+      .size(request.limit())
+      .trackTotalHits(true)
+      .timeout(new TimeValue(searchQueryConfiguration.getRequestTimeout().toMillis(), MILLISECONDS));
+  }
+
   private void validateRequest(CqlSearchRequest<?> request) {
     if (request.offset() + request.limit() > DEFAULT_MAX_SEARCH_RESULT_WINDOW) {
       var validationException = new RequestValidationException("The sum of limit and offset should not exceed 10000.",
@@ -1,8 +1,11 @@
 package org.folio.search.service;
 
 import org.folio.search.client.ResourceReindexClient;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
+import org.folio.search.repository.DocumentFingerprintStore;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.SearchResultCache;
 import org.folio.search.service.consortium.SimpleTenantProvider;
 import org.folio.search.service.es.SearchSettingsHelper;
 import org.folio.search.service.es.TenantInitMappingsHelper;
@@ -26,15 +29,20 @@ public class TenantInitIndexService extends IndexService {
                                 ResourceReindexClient resourceReindexClient,
                                 ResourceDescriptionService resourceDescriptionService,
                                 SimpleTenantProvider simpleTenantProvider,
-                                LocationService locationService) {
+                                LocationService locationService,
+                                DocumentFingerprintStore documentFingerprintStore,
+                                SearchResultCache searchResultCache,
+                                IndexManagementConfigurationProperties indexManagementConfig) {
     super(indexRepository,
       mappingHelper,
       settingsHelper,
       resourceReindexClient,
       resourceDescriptionService,
-      new IndexNameProvider(simpleTenantProvider),
+      new IndexNameProvider(simpleTenantProvider, indexRepository, indexManagementConfig),
       simpleTenantProvider,
-      locationService);
+      locationService,
+      documentFingerprintStore,
+      searchResultCache);
   }
 }
 
@@ -0,0 +1,299 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SearchUtils.CONST_SIZE_LOAD_FACTOR;
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.utils.SearchUtils;
+import tools.jackson.core.JsonGenerator;
+
+/**
+ * Immutable conversion plan compiled from resource description fields.
+ *
+ * <p>The plan is a tree of pre-resolved field converters: field kind (tenant, multilang, fulltext or plain), plain
+ * field names and default values are resolved once, and non-indexed fields are dropped at compile time. Converters
+ * write values directly into a single pre-sized target map (or JSON generator), so no temporary per-field maps are
+ * allocated during conversion.</p>
+ */
+public final class ConversionPlan {
+
+  private final FieldConverter[] converters;
+  private final int expectedSize;
+
+  private ConversionPlan(List<FieldConverter> converters) {
+    this.converters = converters.toArray(FieldConverter[]::new);
+    this.expectedSize = converters.stream().mapToInt(FieldConverter::maxValuesCount).sum();
+  }
+
+  /**
+   * Compiles conversion plan for the given resource description fields.
+   *
+   * @param fields - resource description fields as {@link Map} object
+   * @return compiled {@link ConversionPlan} object
+   */
+  public static ConversionPlan compile(Map<String, FieldDescription> fields) {
+    var converters = new ArrayList<FieldConverter>(fields.size());
+    for (var entry : fields.entrySet()) {
+      var fieldName = entry.getKey();
+      var description = entry.getValue();
+      if (description instanceof PlainFieldDescription plainDescription) {
+        if (!plainDescription.isNotIndexed()) {
+          converters.add(new PlainFieldConverter(fieldName, plainDescription));
+        }
+      } else if (description instanceof ObjectFieldDescription objectDescription) {
+        converters.add(new ObjectFieldConverter(fieldName, compile(objectDescription.getProperties())));
+      }
+    }
+    return new ConversionPlan(converters);
+  }
+
+  /**
+   * Converts resource data to the search document fields.
+   *
+   * @param data - resource data as {@link Map} object
+   * @param ctx  - conversion context as {@link ConversionContext} object
+   * @return converted fields as {@link Map} object, null if there is no indexable value
+   */
+  public Map<String, Object> convert(Map<String, Object> data, ConversionContext ctx) {
+    var result = new LinkedHashMap<String, Object>(expectedSize, CONST_SIZE_LOAD_FACTOR);
+    for (var converter : converters) {
+      converter.convert(data, ctx, result);
+    }
+    return result.isEmpty() ? null : result;
+  }
+
+  /**
+   * Writes converted resource fields to the given generator.
+   *
+   * @param generator     - target JSON generator
+   * @param opener        - callback to open the enclosing object before the first field, nullable
+   * @param data          - resource data as {@link Map} object
+   * @param ctx           - conversion context as {@link ConversionContext} object
+   * @param excludedNames - field names that must not be written
+   * @return true if at least one field was written
+   */
+  boolean write(JsonGenerator generator, Runnable opener, Map<String, Object> data, ConversionContext ctx,
+                Set<String> excludedNames) {
+    var state = new WriteState(opener);
+    for (var converter : converters) {
+      if (!excludedNames.contains(converter.fieldName())) {
+        converter.write(generator, state, data, ctx);
+      }
+    }
+    return state.opened;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object convertObjectValue(Object value, ConversionPlan plan, ConversionContext ctx) {
+    if (value instanceof Map<?, ?> mapValue) {
+      return plan.convert((Map<String, Object>) mapValue, ctx);
+    }
+
+    if (value instanceof List<?> listValue) {
+      var result = new ArrayList<>(listValue.size());
+      for (var listItem : listValue) {
+        var converted = convertObjectValue(listItem, plan, ctx);
+        if (converted != null) {
+          result.add(converted);
+        }
+      }
+      return result;
+    }
+
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean writeObjectValue(JsonGenerator generator, Runnable opener, Object value,
+                                          ConversionPlan plan, ConversionContext ctx) {
+    if (value instanceof Map<?, ?> mapValue) {
+      Runnable objectOpener = () -> {
+        opener.run();
+        generator.writeStartObject();
+      };
+      var written = plan.write(generator, objectOpener, (Map<String, Object>) mapValue, ctx, Set.of());
+      if (written) {
+        generator.writeEndObject();
+      }
+      return written;
+    }
+
+    if (value instanceof List<?> listValue) {
+      // lists are always written (even if empty) to keep parity with the map-based conversion
+      opener.run();
+      generator.writeStartArray();
+      for (var listItem : listValue) {
+        writeObjectValue(generator, () -> { }, listItem, plan, ctx);
+      }
+      generator.writeEndArray();
+      return true;
+    }
+
+    return false;
+  }
+
+  private static final class WriteState {
+
+    private final Runnable opener;
+    private boolean opened;
+
+    private WriteState(Runnable opener) {
+      this.opener = opener;
+    }
+
+    private void open() {
+      if (!opened) {
+        opened = true;
+        if (opener != null) {
+          opener.run();
+        }
+      }
+    }
+  }
+
+  private sealed interface FieldConverter permits PlainFieldConverter, ObjectFieldConverter {
+
+    String fieldName();
+
+    int maxValuesCount();
+
+    void convert(Map<String, Object> data, ConversionContext ctx, Map<String, Object> target);
+
+    void write(JsonGenerator generator, WriteState state, Map<String, Object> data, ConversionContext ctx);
+  }
+
+  private static final class PlainFieldConverter implements FieldConverter {
+
+    private final String fieldName;
+    private final String plainFieldName;
+    private final Object defaultValue;
+    private final boolean tenantField;
+    private final boolean multilang;
+    private final boolean fulltext;
+
+    private PlainFieldConverter(String fieldName, PlainFieldDescription description) {
+      this.fieldName = fieldName;
+      this.plainFieldName = PLAIN_FULLTEXT_PREFIX + fieldName;
+      this.defaultValue = description.getDefaultValue();
+      this.tenantField = description.isTenantField();
+      this.multilang = description.isMultilang();
+      this.fulltext = description.hasFulltextIndex();
+    }
+
+    @Override
+    public String fieldName() {
+      return fieldName;
+    }
+
+    @Override
+    public int maxValuesCount() {
+      return multilang || fulltext ? 2 : 1;
+    }
+
+    @Override
+    public void convert(Map<String, Object> data, ConversionContext ctx, Map<String, Object> target) {
+      if (tenantField) {
+        target.put(fieldName, ctx.getTenantId());
+        return;
+      }
+
+      var value = getValue(data);
+      if (value == null) {
+        return;
+      }
+
+      if (multilang) {
+        SearchUtils.putMultilangValue(target, fieldName, plainFieldName, value, ctx.getLanguages());
+      } else if (fulltext) {
+        target.put(fieldName, value);
+        target.put(plainFieldName, value);
+      } else {
+        target.put(fieldName, value);
+      }
+    }
+
+    @Override
+    public void write(JsonGenerator generator, WriteState state, Map<String, Object> data, ConversionContext ctx) {
+      if (tenantField) {
+        state.open();
+        generator.writeName(fieldName);
+        generator.writePOJO(ctx.getTenantId());
+        return;
+      }
+
+      var value = getValue(data);
+      if (value == null) {
+        return;
+      }
+
+      state.open();
+      if (multilang) {
+        var values = new LinkedHashMap<String, Object>(2, CONST_SIZE_LOAD_FACTOR);
+        SearchUtils.putMultilangValue(values, fieldName, plainFieldName, value, ctx.getLanguages());
+        for (var entry : values.entrySet()) {
+          generator.writeName(entry.getKey());
+          generator.writePOJO(entry.getValue());
+        }
+        return;
+      }
+
+      generator.writeName(fieldName);
+      generator.writePOJO(value);
+      if (fulltext) {
+        generator.writeName(plainFieldName);
+        generator.writePOJO(value);
+      }
+    }
+
+    private Object getValue(Map<String, Object> data) {
+      var value = data != null ? data.get(fieldName) : null;
+      return value != null ? value : defaultValue;
+    }
+  }
+
+  private static final class ObjectFieldConverter implements FieldConverter {
+
+    private final String fieldName;
+    private final ConversionPlan plan;
+
+    private ObjectFieldConverter(String fieldName, ConversionPlan plan) {
+      this.fieldName = fieldName;
+      this.plan = plan;
+    }
+
+    @Override
+    public String fieldName() {
+      return fieldName;
+    }
+
+    @Override
+    public int maxValuesCount() {
+      return 1;
+    }
+
+    @Override
+    public void convert(Map<String, Object> data, ConversionContext ctx, Map<String, Object> target) {
+      var value = convertObjectValue(data.get(fieldName), plan, ctx);
+      if (value != null) {
+        target.put(fieldName, value);
+      }
+    }
+
+    @Override
+    public void write(JsonGenerator generator, WriteState state, Map<String, Object> data, ConversionContext ctx) {
+      Runnable fieldOpener = () -> {
+        state.open();
+        generator.writeName(fieldName);
+      };
+      writeObjectValue(generator, fieldOpener, data.get(fieldName), plan, ctx);
+    }
+  }
+}
@@ -3,6 +3,8 @@ package org.folio.search.service.converter;
 import static java.util.Collections.emptyList;
 import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -17,12 +19,21 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.ObjectMapper;
 
 @Component
 @RequiredArgsConstructor
 public class ElasticsearchDocumentConverter {
 
+  private static final String HITS_FIELD = "hits";
+  private static final String TOTAL_FIELD = "total";
+  private static final String VALUE_FIELD = "value";
+  private static final String SOURCE_FIELD = "_source";
+  private static final String TOTAL_RECORDS_FIELD = "totalRecords";
+
   private final ObjectMapper objectMapper;
 
   /**
@@ -40,6 +51,9 @@ public class ElasticsearchDocumentConverter {
   /**
    * Converts an Elasticsearch {@link SearchResponse} object into {@link SearchResult} object.
    *
+   * <p>JSON hit sources are bound to the response class in a single streaming pass, see
+   * {@link SearchHitSourceReader}.</p>
+   *
    * @param response              - an Elasticsearch search response as {@link SearchResponse} object
    * @param responseClass         - type for converting source in the {@link SearchHit} object
    * @param hitMapper             - conversion {@link BiFunction} object, that used to transform hit and source into
@@ -57,6 +71,34 @@ public class ElasticsearchDocumentConverter {
       .orElseGet(SearchResult::empty);
   }
 
+  /**
+   * Writes search result from the raw Elasticsearch search response to the output.
+   *
+   * <p>The response is read as a token stream: the total hits count is written as {@code totalRecords}, and the
+   * {@code _source} of each hit is copied to the {@code recordsField} array as is, with plain values replacing
+   * multi-language ones. Neither the search response nor result objects are built.</p>
+   *
+   * @param response     - raw Elasticsearch search response as {@link InputStream} object
+   * @param output       - output to write search result to
+   * @param recordsField - name of the field with found records
+   */
+  public void writeSearchResult(InputStream response, OutputStream output, String recordsField) {
+    try (var parser = objectMapper.createParser(response); var generator = objectMapper.createGenerator(output)) {
+      generator.writeStartObject();
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+          var name = parser.currentName();
+          if (parser.nextToken() == JsonToken.START_OBJECT && HITS_FIELD.equals(name)) {
+            writeHits(parser, generator, recordsField);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      }
+      generator.writeEndObject();
+    }
+  }
+
   /**
    * Converts elasticsearch document to the result class.
    *
@@ -84,10 +126,19 @@ public class ElasticsearchDocumentConverter {
     }
 
     return Arrays.stream(searchHits)
-      .map(searchHit -> searchHitMapper.apply(searchHit, convert(searchHit.getSourceAsMap(), type)))
+      .map(searchHit -> searchHitMapper.apply(searchHit, convertSource(searchHit, type)))
       .toList();
   }
 
+  private <T> T convertSource(SearchHit searchHit, Class<T> type) {
+    var source = searchHit.getSourceRef();
+    if (SearchHitSourceReader.isJsonObject(source)) {
+      return SearchHitSourceReader.read(objectMapper, source, type);
+    }
+    // search hits can be shared by cached search responses, so their source map is not cleared
+    return convert(new LinkedHashMap<>(searchHit.getSourceAsMap()), type);
+  }
+
   private static Map<String, Object> processMap(Map<String, Object> map) {
     var resultMap = new LinkedHashMap<String, Object>();
     for (var entry : map.entrySet()) {
@@ -117,6 +168,58 @@ public class ElasticsearchDocumentConverter {
     return value;
   }
 
+  private static void writeHits(JsonParser parser, JsonGenerator generator, String recordsField) {
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var name = parser.currentName();
+      var token = parser.nextToken();
+      if (TOTAL_FIELD.equals(name)) {
+        generator.writeNumberProperty(TOTAL_RECORDS_FIELD, readTotalHits(parser, token));
+      } else if (HITS_FIELD.equals(name) && token == JsonToken.START_ARRAY) {
+        writeHitSources(parser, generator, recordsField);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static int readTotalHits(JsonParser parser, JsonToken token) {
+    if (token != JsonToken.START_OBJECT) {
+      return parser.getIntValue();
+    }
+    var totalHits = 0;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var name = parser.currentName();
+      parser.nextToken();
+      if (VALUE_FIELD.equals(name)) {
+        totalHits = parser.getIntValue();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return totalHits;
+  }
+
+  private static void writeHitSources(JsonParser parser, JsonGenerator generator, String recordsField) {
+    var recordsStarted = false;
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        var name = parser.currentName();
+        if (parser.nextToken() == JsonToken.START_OBJECT && SOURCE_FIELD.equals(name)) {
+          if (!recordsStarted) {
+            recordsStarted = true;
+            generator.writeArrayPropertyStart(recordsField);
+          }
+          SearchHitSourceReader.copySource(parser, generator);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    if (recordsStarted) {
+      generator.writeEndArray();
+    }
+  }
+
   private static int getTotalRecords(SearchHits hits) {
     var totalHits = hits.getTotalHits();
     return totalHits != null ? (int) totalHits.value() : 0;
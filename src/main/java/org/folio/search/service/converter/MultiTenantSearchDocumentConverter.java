@@ -5,16 +5,22 @@ import static java.util.stream.Collectors.groupingBy;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
 import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.ResourceDescription;
@@ -24,6 +30,7 @@ import org.folio.search.service.consortium.ConsortiumTenantExecutor;
 import org.folio.search.service.converter.preprocessor.EventPreProcessor;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -36,6 +43,9 @@ public class MultiTenantSearchDocumentConverter {
   private final Map<String, EventPreProcessor> eventPreProcessorBeans;
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final FolioExecutionContext folioExecutionContext;
+  private final ReindexConfigurationProperties reindexConfigurationProperties;
+  @Qualifier("reindexConversionExecutor")
+  private final ExecutorService reindexConversionExecutor;
 
   /**
    * Converts {@link ResourceEvent} objects to a list with {@link SearchDocumentBody} objects.
@@ -62,6 +72,10 @@ public class MultiTenantSearchDocumentConverter {
    * All events are expected to carry the same tenant ID that matches the current execution context —
    * per-tenant grouping and context switching are therefore skipped entirely.
    *
+   * <p>If conversion parallelism is greater than 1, events are split into chunks that are converted on the shared
+   * reindex conversion executor (it propagates {@link FolioExecutionContext}). Chunk results are joined in submission
+   * order, so the output order matches the sequential conversion.</p>
+   *
    * @param resourceEvents list with {@link ResourceEvent} objects, all belonging to the current tenant
    * @return flat {@link List} of {@link SearchDocumentBody} objects
    */
@@ -72,6 +86,34 @@ public class MultiTenantSearchDocumentConverter {
       return List.of();
     }
 
+    var chunkSize = Math.max(1, reindexConfigurationProperties.getUploadConversionChunkSize());
+    if (reindexConfigurationProperties.getUploadConversionParallelism() <= 1 || resourceEvents.size() <= chunkSize) {
+      return convertEvents(resourceEvents);
+    }
+
+    var futures = ListUtils.partition(List.copyOf(resourceEvents), chunkSize).stream()
+      .map(chunk -> CompletableFuture.supplyAsync(() -> convertEvents(chunk), reindexConversionExecutor))
+      .toList();
+
+    var result = new ArrayList<SearchDocumentBody>(resourceEvents.size());
+    for (var future : futures) {
+      result.addAll(joinChunk(future));
+    }
+    return result;
+  }
+
+  private static List<SearchDocumentBody> joinChunk(CompletableFuture<List<SearchDocumentBody>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private List<SearchDocumentBody> convertEvents(Collection<ResourceEvent> resourceEvents) {
     return resourceEvents.stream()
       .flatMap(this::populateResourceEvents)
       .map(event -> event.getId() != null ? event : event.id(getResourceEventId(event)))
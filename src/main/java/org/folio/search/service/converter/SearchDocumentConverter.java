@@ -1,37 +1,28 @@
 package org.folio.search.service.converter;
 
-import static java.util.Collections.emptyMap;
-import static java.util.Collections.singletonMap;
 import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.CollectionUtils.mergeSafely;
-import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
 import static org.folio.search.utils.SearchConverterUtils.getMapValueByPath;
 import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.MapUtils;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.converter.ConversionContext;
 import org.folio.search.model.index.SearchDocumentBody;
-import org.folio.search.model.metadata.FieldDescription;
-import org.folio.search.model.metadata.ObjectFieldDescription;
-import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.search.utils.SearchConverterUtils;
-import org.folio.search.utils.SearchUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.springframework.stereotype.Component;
 
@@ -44,17 +35,22 @@ public class SearchDocumentConverter {
   private final ResourceDescriptionService descriptionService;
   private final IndexingDataFormat indexingDataFormat;
   private final Function<Map<String, Object>, BytesReference> searchDocumentBodyConverter;
+  private final StreamingSearchDocumentWriter streamingDocumentWriter;
+  private final Map<ResourceType, CompiledResource> conversionPlans = new ConcurrentHashMap<>();
 
   public SearchDocumentConverter(SearchFieldsProcessor searchFieldsProcessor,
                                  LanguageConfigServiceDecorator languageConfigService,
                                  ResourceDescriptionService descriptionService,
                                  SearchConfigurationProperties searchConfigurationProperties,
-                                 Function<Map<String, Object>, BytesReference> searchDocumentBodyConverter) {
+                                 Function<Map<String, Object>, BytesReference> searchDocumentBodyConverter,
+                                 StreamingSearchDocumentWriter streamingDocumentWriter) {
     this.searchFieldsProcessor = searchFieldsProcessor;
     this.languageConfigService = languageConfigService;
     this.descriptionService = descriptionService;
     this.indexingDataFormat = searchConfigurationProperties.getIndexing().getDataFormat();
     this.searchDocumentBodyConverter = searchDocumentBodyConverter;
+    this.streamingDocumentWriter = Boolean.TRUE.equals(
+      searchConfigurationProperties.getIndexing().getStreamingConversionEnabled()) ? streamingDocumentWriter : null;
   }
 
   /**
@@ -77,9 +73,13 @@ public class SearchDocumentConverter {
   }
 
   private SearchDocumentBody convert(ConversionContext context) {
+    if (streamingDocumentWriter != null) {
+      return convertStreaming(context);
+    }
+
     var resourceEvent = context.getResourceEvent();
-    var resourceDescriptionFields = context.getResourceDescription().getFields();
-    var baseFields = convertMapUsingResourceFields(getNewAsMap(resourceEvent), resourceDescriptionFields, context);
+    var conversionPlan = getConversionPlan(context.getResourceDescription());
+    var baseFields = conversionPlan.convert(getNewAsMap(resourceEvent), context);
     var searchFields = searchFieldsProcessor.getSearchFields(context);
     var resultDocument = mergeSafely(baseFields, searchFields);
     // Release the large _new Map before serialization — resultDocument is already a fully independent copy.
@@ -89,6 +89,16 @@ public class SearchDocumentConverter {
     return SearchDocumentBody.of(documentBody, indexingDataFormat, resourceEvent, INDEX);
   }
 
+  private SearchDocumentBody convertStreaming(ConversionContext context) {
+    var resourceEvent = context.getResourceEvent();
+    var conversionPlan = getConversionPlan(context.getResourceDescription());
+    var searchFields = searchFieldsProcessor.getSearchFields(context);
+    var documentBody = streamingDocumentWriter.write(conversionPlan, getNewAsMap(resourceEvent), context,
+      searchFields);
+    resourceEvent.setNew(null);
+    return SearchDocumentBody.of(documentBody, indexingDataFormat, resourceEvent, INDEX);
+  }
+
   private List<String> getResourceLanguages(List<String> languageSource, Map<String, Object> resourceData) {
     var supportedLanguages = languageConfigService.getAllLanguageCodes();
     return languageSource.stream()
@@ -110,62 +120,15 @@ public class SearchDocumentConverter {
     return ConversionContext.of(event, resourceDescription, resourceLanguages, event.getTenant());
   }
 
-  private static Map<String, Object> convertMapUsingResourceFields(
-    Map<String, Object> data, Map<String, FieldDescription> fields, ConversionContext ctx) {
-    var resultMap = new LinkedHashMap<String, Object>();
-    fields.entrySet().forEach(entry -> resultMap.putAll(getFieldValue(data, entry, ctx)));
-    return nullIfEmpty(resultMap);
-  }
-
-  private static Map<String, Object> getFieldValue(
-    Map<String, Object> data, Entry<String, FieldDescription> descEntry, ConversionContext ctx) {
-    var fieldDescription = descEntry.getValue();
-    if (fieldDescription instanceof PlainFieldDescription) {
-      return getPlainFieldValue(data, descEntry, ctx);
-    }
-
-    var objectFieldDescription = (ObjectFieldDescription) fieldDescription;
-    var fieldName = descEntry.getKey();
-    var objectMapValue = data.get(fieldName);
-    var value = getObjectFieldValue(objectMapValue, objectFieldDescription.getProperties(), ctx);
-    return value != null ? Map.of(fieldName, value) : emptyMap();
-  }
-
-  private static Map<String, Object> getPlainFieldValue(Map<String, Object> fieldData,
-                                                        Entry<String, FieldDescription> fieldEntry,
-                                                        ConversionContext ctx) {
-    var fieldName = fieldEntry.getKey();
-    var desc = (PlainFieldDescription) fieldEntry.getValue();
-    if (desc.isNotIndexed()) {
-      return emptyMap();
-    }
-
-    if (desc.isTenantField()) {
-      return singletonMap(fieldName, ctx.getTenantId());
-    }
-
-    var plainFieldValue = MapUtils.getObject(fieldData, fieldName, desc.getDefaultValue());
-    if (plainFieldValue == null) {
-      return emptyMap();
+  private ConversionPlan getConversionPlan(ResourceDescription resourceDescription) {
+    var compiledResource = conversionPlans.get(resourceDescription.getName());
+    if (compiledResource == null || compiledResource.description() != resourceDescription) {
+      var conversionPlan = ConversionPlan.compile(resourceDescription.getFields());
+      compiledResource = new CompiledResource(resourceDescription, conversionPlan);
+      conversionPlans.put(resourceDescription.getName(), compiledResource);
     }
-
-    return SearchUtils.getPlainFieldValue(desc, fieldName, plainFieldValue, ctx.getLanguages());
+    return compiledResource.plan();
   }
 
-  @SuppressWarnings("unchecked")
-  private static Object getObjectFieldValue(
-    Object value, Map<String, FieldDescription> subfields, ConversionContext ctx) {
-    if (value instanceof Map) {
-      return convertMapUsingResourceFields((Map<String, Object>) value, subfields, ctx);
-    }
-
-    if (value instanceof List) {
-      return ((List<Object>) value).stream()
-        .map(listValue -> getObjectFieldValue(listValue, subfields, ctx))
-        .filter(Objects::nonNull)
-        .toList();
-    }
-
-    return null;
-  }
+  private record CompiledResource(ResourceDescription description, ConversionPlan plan) { }
 }
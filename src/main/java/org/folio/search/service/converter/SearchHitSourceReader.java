@@ -0,0 +1,165 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.opensearch.core.common.bytes.BytesReference;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * Binds JSON {@code _source} of search hits to result classes in a single streaming pass.
+ *
+ * <p>The source is read token by token: {@code plain_}-prefixed fields are renamed to their original names and
+ * replace the multi-language (or fulltext) values stored under the same names, and {@code null} array elements are
+ * dropped. The resulting token stream is bound to the result class directly, without building intermediate maps.
+ * The same rules are applied when sources are written to the response as is, see
+ * {@link #copySource(JsonParser, JsonGenerator)}.</p>
+ */
+@UtilityClass
+class SearchHitSourceReader {
+
+  private static final int PLAIN_PREFIX_LENGTH = PLAIN_FULLTEXT_PREFIX.length();
+
+  /**
+   * Checks if the given search hit source can be read by {@link #read(ObjectMapper, BytesReference, Class)}.
+   *
+   * @param source - search hit source as {@link BytesReference} object
+   * @return true if the source is a non-empty JSON object
+   */
+  static boolean isJsonObject(BytesReference source) {
+    return source != null && source.length() > 0 && source.get(0) == '{';
+  }
+
+  /**
+   * Reads the given JSON search hit source as the result class.
+   *
+   * @param objectMapper - mapper used to bind the result class
+   * @param source       - search hit source as {@link BytesReference} object
+   * @param resultClass  - expected result class
+   * @param <T>          - generic type for result class
+   * @return constructed {@link T} object
+   */
+  static <T> T read(ObjectMapper objectMapper, BytesReference source, Class<T> resultClass) {
+    var bytes = source.toBytesRef();
+    var buffer = TokenBuffer.forGeneration();
+    try (var parser = objectMapper.createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      parser.nextToken();
+      copyValue(parser, buffer, false);
+    }
+    try (var parser = buffer.asParser(ObjectReadContext.empty())) {
+      return objectMapper.readValue(parser, resultClass);
+    }
+  }
+
+  /**
+   * Copies the JSON source object at the current parser position to the generator, applying the same field rules as
+   * {@link #read(ObjectMapper, BytesReference, Class)}. Null, empty string and empty array field values are omitted,
+   * the same way as they are omitted when response objects are serialized.
+   *
+   * @param parser    - parser positioned at the start of the source object
+   * @param generator - generator to write the source object to
+   */
+  static void copySource(JsonParser parser, JsonGenerator generator) {
+    copyValue(parser, generator, true);
+  }
+
+  private static void copyValue(JsonParser parser, JsonGenerator generator, boolean omitEmpty) {
+    switch (parser.currentToken()) {
+      case START_OBJECT -> copyObject(parser, generator, omitEmpty);
+      case START_ARRAY -> copyArray(parser, generator, omitEmpty);
+      default -> generator.copyCurrentEvent(parser);
+    }
+  }
+
+  private static void copyArray(JsonParser parser, JsonGenerator generator, boolean omitEmpty) {
+    generator.writeStartArray();
+    copyArrayElements(parser, generator, omitEmpty);
+    generator.writeEndArray();
+  }
+
+  private static void copyArrayElements(JsonParser parser, JsonGenerator generator, boolean omitEmpty) {
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        copyValue(parser, generator, omitEmpty);
+      }
+    }
+  }
+
+  private static void copyObject(JsonParser parser, JsonGenerator generator, boolean omitEmpty) {
+    generator.writeStartObject();
+    Set<String> plainFields = null;
+    Map<String, TokenBuffer> objectFields = null;
+
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var name = parser.currentName();
+      var token = parser.nextToken();
+      if (name.startsWith(PLAIN_FULLTEXT_PREFIX)) {
+        var fieldName = name.substring(PLAIN_PREFIX_LENGTH);
+        plainFields = plainFields == null ? new HashSet<>() : plainFields;
+        plainFields.add(fieldName);
+        if (objectFields != null) {
+          objectFields.remove(fieldName);
+        }
+        copyField(parser, generator, fieldName, omitEmpty);
+      } else if (plainFields != null && plainFields.contains(name)) {
+        parser.skipChildren();
+      } else if (token == JsonToken.START_OBJECT) {
+        // multi-language values are objects followed by their plain values, so object values are held back
+        // until the end of the enclosing object
+        var objectValue = TokenBuffer.forGeneration();
+        copyObject(parser, objectValue, omitEmpty);
+        objectFields = objectFields == null ? new LinkedHashMap<>() : objectFields;
+        objectFields.put(name, objectValue);
+      } else {
+        copyField(parser, generator, name, omitEmpty);
+      }
+    }
+
+    if (objectFields != null) {
+      for (var entry : objectFields.entrySet()) {
+        generator.writeName(entry.getKey());
+        entry.getValue().serialize(generator);
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  private static void copyField(JsonParser parser, JsonGenerator generator, String name, boolean omitEmpty) {
+    var token = parser.currentToken();
+    if (!omitEmpty || token == JsonToken.START_OBJECT) {
+      generator.writeName(name);
+      copyValue(parser, generator, omitEmpty);
+      return;
+    }
+
+    if (token == JsonToken.VALUE_NULL || token == JsonToken.VALUE_STRING && parser.getString().isEmpty()) {
+      return;
+    }
+
+    if (token == JsonToken.START_ARRAY) {
+      if (parser.nextToken() == JsonToken.END_ARRAY) {
+        return;
+      }
+      generator.writeName(name);
+      generator.writeStartArray();
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        copyValue(parser, generator, true);
+      }
+      copyArrayElements(parser, generator, true);
+      generator.writeEndArray();
+      return;
+    }
+
+    generator.writeName(name);
+    generator.copyCurrentEvent(parser);
+  }
+}
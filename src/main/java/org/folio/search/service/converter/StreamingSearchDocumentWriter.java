@@ -0,0 +1,61 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.model.types.IndexingDataFormat.JSON;
+
+import java.util.Map;
+import org.apache.commons.lang3.SerializationException;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.model.converter.ConversionContext;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Writes search documents directly to the Smile (or JSON) generator applying resource description field rules.
+ *
+ * <p>In contrast to the map-based conversion, no intermediate result map is built: the compiled
+ * {@link ConversionPlan} walks resource fields once and writes them to the output stream, followed by the search
+ * fields. Object fields producing no indexable values are omitted, the same way as the map-based conversion drops
+ * empty maps.</p>
+ */
+@Component
+public class StreamingSearchDocumentWriter {
+
+  private final ObjectMapper mapper;
+
+  public StreamingSearchDocumentWriter(JsonMapper jsonMapper, SmileMapper smileMapper,
+                                       SearchConfigurationProperties searchConfigurationProperties) {
+    var dataFormat = searchConfigurationProperties.getIndexing().getDataFormat();
+    this.mapper = dataFormat == JSON ? jsonMapper : smileMapper;
+  }
+
+  /**
+   * Writes search document for given resource data and search fields.
+   *
+   * @param plan         - compiled conversion plan of the resource
+   * @param data         - resource data as {@link Map} object
+   * @param ctx          - conversion context as {@link ConversionContext} object
+   * @param searchFields - already calculated search fields, they override resource fields with the same name
+   * @return serialized document as {@link BytesReference} object
+   */
+  public BytesReference write(ConversionPlan plan, Map<String, Object> data, ConversionContext ctx,
+                              Map<String, Object> searchFields) {
+    var output = new BytesStreamOutput();
+    try (var generator = mapper.createGenerator(output)) {
+      generator.writeStartObject();
+      plan.write(generator, null, data, ctx, searchFields.keySet());
+      for (var entry : searchFields.entrySet()) {
+        generator.writeName(entry.getKey());
+        generator.writePOJO(entry.getValue());
+      }
+      generator.writeEndObject();
+    } catch (JacksonException e) {
+      throw new SerializationException(String.format("Failed to serialize value [message: %s]", e.getMessage()), e);
+    }
+    return output.bytes();
+  }
+}
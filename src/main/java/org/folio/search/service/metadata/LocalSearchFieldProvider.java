@@ -114,6 +114,16 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
       .toArray(String[]::new);
   }
 
+  @Override
+  public String[] getAllSourceFields(ResourceType resource) {
+    var defaultSourceFieldArray = defaultSourceFields.getOrDefault(resource, new String[0]);
+    var resourceSourceFields = sourceFieldsByResourceType.getOrDefault(resource, emptyMap()).values();
+
+    return Stream.concat(Arrays.stream(defaultSourceFieldArray), resourceSourceFields.stream())
+      .distinct()
+      .toArray(String[]::new);
+  }
+
   @Override
   public boolean isSupportedLanguage(String languageCode) {
     return supportedLanguages.contains(languageCode);
@@ -48,6 +48,16 @@ public interface SearchFieldProvider {
    */
   String[] getSourceFields(ResourceType resource, List<String> requestedFields);
 
+  /**
+   * Provides all source fields of the given resource record: default source fields and all resource fields, except
+   * search fields that are not shown in the response.
+   *
+   * @param resource resource type as {@link ResourceType}
+   *
+   * @return array of source field names
+   */
+  String[] getAllSourceFields(ResourceType resource);
+
   /**
    * Checks if given language is supported.
    *
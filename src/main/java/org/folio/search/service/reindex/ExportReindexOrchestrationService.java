@@ -1,11 +1,22 @@
 package org.folio.search.service.reindex;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
 import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.message.FormattedMessage;
 import org.folio.s3.client.FolioS3Client;
@@ -30,10 +41,15 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(name = "folio.reindex.reindex-type", havingValue = "EXPORT", matchIfMissing = true)
 public class ExportReindexOrchestrationService extends ReindexOrchestrationService {
 
+  private static final CompletableFuture<List<RawLine>> END_OF_FILE = CompletableFuture.completedFuture(List.of());
+  private static final long QUEUE_POLL_INTERVAL_MS = 100;
+
   private final ReindexConfigurationProperties reindexConfigurationProperties;
   private final JsonConverter jsonConverter;
   private final FolioS3Client folioS3Client;
   private final RetryTemplate s3ReadRetryTemplate;
+  private final ExecutorService parsingExecutor;
+  private final ExecutorService readerExecutor;
 
   public ExportReindexOrchestrationService(ReindexUploadRangeIndexService uploadRangeService,
                                            ReindexConfigurationProperties reindexConfigurationProperties,
@@ -46,13 +62,19 @@ public class ExportReindexOrchestrationService extends ReindexOrchestrationServi
                                            JsonConverter jsonConverter,
                                            FolioS3Client folioS3Client,
                                            @Qualifier(RetryTemplateConfiguration.REINDEX_S3_READ_RETRY_TEMPLATE_NAME)
-                                           RetryTemplate s3ReadRetryTemplate) {
+                                           RetryTemplate s3ReadRetryTemplate,
+                                           @Qualifier("reindexMergeParsingExecutor")
+                                           ExecutorService parsingExecutor,
+                                           @Qualifier("reindexMergeReaderExecutor")
+                                           ExecutorService readerExecutor) {
     super(uploadRangeService, mergeRangeService, reindexStatusService, elasticRepository,
       reindexService, documentConverter, context);
     this.reindexConfigurationProperties = reindexConfigurationProperties;
     this.jsonConverter = jsonConverter;
     this.folioS3Client = folioS3Client;
     this.s3ReadRetryTemplate = s3ReadRetryTemplate;
+    this.parsingExecutor = parsingExecutor;
+    this.readerExecutor = readerExecutor;
   }
 
   @Override
@@ -85,21 +107,138 @@ public class ExportReindexOrchestrationService extends ReindexOrchestrationServi
   }
 
   private void readAndSave(ReindexFileReadyEvent event) throws IOException, RetryException {
-    var batchSize = reindexConfigurationProperties.getMergeExportBatchSize();
     try (var is = s3ReadRetryTemplate.execute(() -> folioS3Client.read(event.getObjectKey()));
-         var isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-         var reader = new BufferedReader(isr)) {
-      List<RawLine> batch = new ArrayList<>(batchSize);
+         var reader = openReader(is)) {
+      if (reindexConfigurationProperties.getMergeExportParsingParallelism() > 1) {
+        readAndSaveConcurrently(event, reader);
+      } else {
+        readAndSaveSequentially(event, reader);
+      }
+    }
+  }
+
+  private BufferedReader openReader(InputStream inputStream) throws IOException {
+    var bufferSize = reindexConfigurationProperties.getMergeExportReadBufferSize();
+    var bufferedStream = new BufferedInputStream(inputStream, bufferSize);
+    bufferedStream.mark(2);
+    var header = bufferedStream.read() | bufferedStream.read() << 8;
+    bufferedStream.reset();
+
+    var decodedStream = header == GZIPInputStream.GZIP_MAGIC
+                        ? new GZIPInputStream(bufferedStream, bufferSize)
+                        : bufferedStream;
+    return new BufferedReader(new InputStreamReader(decodedStream, StandardCharsets.UTF_8));
+  }
+
+  private void readAndSaveSequentially(ReindexFileReadyEvent event, BufferedReader reader) throws IOException {
+    var batchSize = reindexConfigurationProperties.getMergeExportBatchSize();
+    List<RawLine> batch = new ArrayList<>(batchSize);
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (!line.isBlank()) {
+        batch.add(new RawLine(line, jsonConverter.fromJsonToMap(line)));
+      }
+      if (batch.size() >= batchSize) {
+        saveBatch(event, batch, true);
+      }
+    }
+    saveBatch(event, batch, false);
+  }
+
+  /**
+   * Reads the file on a reader thread, parses batches of lines on the parsing executor and saves parsed batches on
+   * the current thread in the file order. The number of batches read ahead of the saved one is bounded by the
+   * pipeline capacity.
+   */
+  private void readAndSaveConcurrently(ReindexFileReadyEvent event, BufferedReader reader) {
+    var batches = new ArrayBlockingQueue<CompletableFuture<List<RawLine>>>(
+      reindexConfigurationProperties.getMergeExportPipelineCapacity());
+    var cancelled = new AtomicBoolean();
+    var readerTask = CompletableFuture.runAsync(() -> readBatches(reader, batches, cancelled), readerExecutor);
+
+    try {
+      var batch = takeBatch(batches, readerTask);
+      while (batch != END_OF_FILE) {
+        saveBatch(event, batch.join(), false);
+        batch = takeBatch(batches, readerTask);
+      }
+      readerTask.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ReindexException("Interrupted while reading file: " + event.getObjectKey());
+    } finally {
+      cancelled.set(true);
+      batches.clear();
+    }
+  }
+
+  private void readBatches(BufferedReader reader, BlockingQueue<CompletableFuture<List<RawLine>>> batches,
+                           AtomicBoolean cancelled) {
+    var batchSize = reindexConfigurationProperties.getMergeExportBatchSize();
+    try {
+      var lines = new ArrayList<String>(batchSize);
       String line;
-      while ((line = reader.readLine()) != null) {
+      while (!cancelled.get() && (line = reader.readLine()) != null) {
         if (!line.isBlank()) {
-          batch.add(new RawLine(line, jsonConverter.fromJsonToMap(line)));
+          lines.add(line);
+        }
+        if (lines.size() >= batchSize) {
+          enqueue(batches, parseBatch(lines), cancelled);
+          lines = new ArrayList<>(batchSize);
         }
-        if (batch.size() >= batchSize) {
-          saveBatch(event, batch, true);
+      }
+      if (!lines.isEmpty()) {
+        enqueue(batches, parseBatch(lines), cancelled);
+      }
+      enqueue(batches, END_OF_FILE, cancelled);
+    } catch (IOException e) {
+      enqueueFailure(batches, new UncheckedIOException(e), cancelled);
+    } catch (RuntimeException e) {
+      enqueueFailure(batches, e, cancelled);
+    }
+  }
+
+  private static CompletableFuture<List<RawLine>> takeBatch(BlockingQueue<CompletableFuture<List<RawLine>>> batches,
+                                                           CompletableFuture<Void> readerTask)
+    throws InterruptedException {
+    while (true) {
+      var batch = batches.poll(QUEUE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      if (batch != null) {
+        return batch;
+      }
+      if (readerTask.isDone() && batches.isEmpty()) {
+        throw new ReindexException("File reader stopped before reaching the end of file");
+      }
+    }
+  }
+
+  private CompletableFuture<List<RawLine>> parseBatch(List<String> lines) {
+    return CompletableFuture.supplyAsync(() -> lines.stream()
+      .map(line -> new RawLine(line, jsonConverter.fromJsonToMap(line)))
+      .toList(), parsingExecutor);
+  }
+
+  private static void enqueueFailure(BlockingQueue<CompletableFuture<List<RawLine>>> batches,
+                                     RuntimeException exception, AtomicBoolean cancelled) {
+    enqueue(batches, CompletableFuture.failedFuture(exception), cancelled);
+  }
+
+  /**
+   * Puts the batch to the queue, waiting while the queue is full unless the pipeline is cancelled by the saving
+   * thread.
+   */
+  private static void enqueue(BlockingQueue<CompletableFuture<List<RawLine>>> batches,
+                              CompletableFuture<List<RawLine>> batch, AtomicBoolean cancelled) {
+    try {
+      while (!cancelled.get()) {
+        if (batches.offer(batch, QUEUE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          return;
         }
       }
-      saveBatch(event, batch, false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
@@ -5,10 +5,13 @@ import static java.lang.String.format;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 
 public class RangeGenerator {
 
+  private static final Pattern UUID_HEX_PATTERN = Pattern.compile("^[0-9a-fA-F]{32}$");
+
   public static List<Range> createUuidRanges(int count) {
     if (count <= 0) {
       return List.of();
@@ -33,6 +36,56 @@ public class RangeGenerator {
     return ranges;
   }
 
+  /**
+   * Creates contiguous UUID ranges covering the whole UUID space, split at the given boundary ids.
+   *
+   * @param boundaryIds ascending list of ids that start a new range (the first range always starts at "00...0")
+   * @return A list of non-overlapping range objects.
+   */
+  public static List<Range> createUuidRanges(List<String> boundaryIds) {
+    var ranges = new ArrayList<Range>(boundaryIds.size() + 1);
+    var lower = lowerUuidBound();
+    for (var boundaryId : boundaryIds) {
+      var boundary = toBigint(boundaryId);
+      if (boundary.compareTo(lower) > 0) {
+        ranges.add(new Range(fromBigint(lower), fromBigint(boundary.subtract(BigInteger.ONE))));
+        lower = boundary;
+      }
+    }
+    ranges.add(new Range(fromBigint(lower), fromBigint(upperUuidBound())));
+    return ranges;
+  }
+
+  /**
+   * Splits UUID range into the given number of non-overlapping sub-ranges of (almost) equal width.
+   *
+   * @param range UUID range with inclusive bounds
+   * @param parts The number of sub-ranges
+   * @return A list of sub-ranges, or a list with the given range if it cannot be split.
+   */
+  public static List<Range> splitUuidRange(Range range, int parts) {
+    if (parts < 2 || !isUuid(range.lowerBound()) || !isUuid(range.upperBound())) {
+      return List.of(range);
+    }
+
+    var lower = toBigint(range.lowerBound());
+    var upper = toBigint(range.upperBound());
+    var step = upper.subtract(lower).add(BigInteger.ONE).divide(BigInteger.valueOf(parts));
+    if (step.signum() <= 0) {
+      return List.of(range);
+    }
+
+    var ranges = new ArrayList<Range>(parts);
+    var cur = lower;
+    for (int i = 0; i < parts - 1; i++) {
+      var next = cur.add(step);
+      ranges.add(new Range(fromBigint(cur), fromBigint(next.subtract(BigInteger.ONE))));
+      cur = next;
+    }
+    ranges.add(new Range(fromBigint(cur), fromBigint(upper)));
+    return ranges;
+  }
+
   /**
    * Generates a list of range objects representing sequences from "00...0" to "ff...f" for each possible range.
    *
@@ -80,5 +133,13 @@ public class RangeGenerator {
     return format("%032X", bigint);
   }
 
+  private static BigInteger toBigint(String uuid) {
+    return new BigInteger(StringUtils.remove(uuid, '-'), 16);
+  }
+
+  private static boolean isUuid(String value) {
+    return value != null && UUID_HEX_PATTERN.matcher(StringUtils.remove(value, '-')).matches();
+  }
+
   public record Range(String lowerBound, String upperBound) { }
 }
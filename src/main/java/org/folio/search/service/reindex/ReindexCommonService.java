@@ -3,11 +3,14 @@ package org.folio.search.service.reindex;
 import static java.util.function.Function.identity;
 import static org.folio.search.service.reindex.ReindexConstants.RESOURCE_NAME_MAP;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.domain.dto.IndexSettings;
+import org.folio.search.exception.ReindexException;
 import org.folio.search.model.types.ReindexEntityType;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.repository.PrimaryResourceRepository;
@@ -23,13 +26,22 @@ public class ReindexCommonService {
   private final Map<ReindexEntityType, ReindexJdbcRepository> repositories;
   private final IndexService indexService;
   private final PrimaryResourceRepository resourceRepository;
+  private final boolean blueGreenReindexEnabled;
+  private final Duration indexAliasCacheTtl;
 
   public ReindexCommonService(List<ReindexJdbcRepository> repositories, IndexService indexService,
-                              PrimaryResourceRepository resourceRepository) {
+                              PrimaryResourceRepository resourceRepository,
+                              IndexManagementConfigurationProperties indexManagementConfig) {
     this.repositories = repositories.stream()
       .collect(Collectors.toMap(ReindexJdbcRepository::entityType, identity(), (rep1, rep2) -> rep2));
     this.indexService = indexService;
     this.resourceRepository = resourceRepository;
+    this.blueGreenReindexEnabled = Boolean.TRUE.equals(indexManagementConfig.getBlueGreenReindexEnabled());
+    this.indexAliasCacheTtl = Duration.ofSeconds(indexManagementConfig.getIndexAliasCacheTtlSeconds());
+  }
+
+  public boolean isBlueGreenReindexEnabled() {
+    return blueGreenReindexEnabled;
   }
 
   public void disableAutoVacuumEntityTables() {
@@ -103,6 +115,10 @@ public class ReindexCommonService {
   public void recreateIndex(ReindexEntityType reindexEntityType, String tenantId, IndexSettings indexSettings) {
     try {
       var resourceType = RESOURCE_NAME_MAP.get(reindexEntityType);
+      if (blueGreenReindexEnabled) {
+        indexService.createIndexGeneration(resourceType, tenantId, indexSettings);
+        return;
+      }
       indexService.dropIndex(resourceType, tenantId);
       indexService.createIndex(resourceType, tenantId, indexSettings);
     } catch (Exception e) {
@@ -111,9 +127,48 @@ public class ReindexCommonService {
     }
   }
 
+  /**
+   * Waits until index generations created by {@link #recreateIndex(ReindexEntityType, String, IndexSettings)} are
+   * mirrored by all module instances. Other instances cache a missing build alias for the index alias cache TTL, and
+   * documents they write meanwhile go only to the live index, so records must not be read for the new generation
+   * before the TTL passes. Does nothing if blue/green reindex is disabled.
+   */
+  public void awaitIndexBuildMirroring() {
+    if (!blueGreenReindexEnabled) {
+      return;
+    }
+
+    log.info("awaitIndexBuildMirroring:: waiting for index build state to be refreshed [ttl: {}]", indexAliasCacheTtl);
+    try {
+      Thread.sleep(indexAliasCacheTtl);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ReindexException("Interrupted while waiting for index build mirroring", e);
+    }
+  }
+
+  /**
+   * Prepares the live index of the entity type for an incremental upload. Index generations that were not promoted are
+   * dropped, so incremental documents are written only to the live index and a partially loaded generation cannot be
+   * promoted when the upload is completed.
+   *
+   * @param reindexEntityType the entity type to upload
+   * @param tenantId          the tenant ID
+   */
+  public void prepareIncrementalUploadIndex(ReindexEntityType reindexEntityType, String tenantId) {
+    var resourceType = RESOURCE_NAME_MAP.get(reindexEntityType);
+    if (blueGreenReindexEnabled) {
+      indexService.dropIndexGeneration(resourceType, tenantId);
+    }
+    indexService.createIndexIfNotExist(resourceType, tenantId);
+  }
+
   public void ensureIndexExists(ReindexEntityType reindexEntityType, String tenantId, IndexSettings indexSettings) {
     try {
       var resourceType = RESOURCE_NAME_MAP.get(reindexEntityType);
+      if (blueGreenReindexEnabled) {
+        indexService.dropIndexGeneration(resourceType, tenantId);
+      }
       if (indexSettings != null) {
         indexService.createIndexIfNotExist(resourceType, tenantId, indexSettings);
       } else {
@@ -124,4 +179,14 @@ public class ReindexCommonService {
         reindexEntityType, e.getMessage());
     }
   }
+
+  /**
+   * Replaces the live index of the entity type by the index generation built during the reindex.
+   *
+   * @param reindexEntityType the entity type whose index should be promoted
+   * @param tenantId          the tenant ID
+   */
+  public void promoteIndex(ReindexEntityType reindexEntityType, String tenantId) {
+    indexService.promoteIndexGeneration(RESOURCE_NAME_MAP.get(reindexEntityType), tenantId);
+  }
 }
@@ -1,5 +1,7 @@
 package org.folio.search.service.reindex;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 /**
@@ -12,6 +14,8 @@ public class ReindexContext {
 
   private static final ThreadLocal<Boolean> REINDEX_MODE = ThreadLocal.withInitial(() -> false);
   private static final ThreadLocal<String> MEMBER_TENANT_ID = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> UPLOAD_MODE = ThreadLocal.withInitial(() -> false);
+  private static final ThreadLocal<Map<String, Boolean>> UPLOAD_INDEX_BUILDS = ThreadLocal.withInitial(HashMap::new);
 
   /**
    * Set whether the current thread is in reindex mode.
@@ -31,6 +35,35 @@ public class ReindexContext {
     return REINDEX_MODE.get();
   }
 
+  /**
+   * Set whether the current thread indexes documents of the reindex upload phase. Index build states resolved in the
+   * previous upload mode are cleared.
+   *
+   * @param mode true if upload mode is active, false otherwise
+   */
+  public static void setUploadMode(boolean mode) {
+    UPLOAD_MODE.set(mode);
+    UPLOAD_INDEX_BUILDS.remove();
+  }
+
+  /**
+   * Check if the current thread indexes documents of the reindex upload phase.
+   *
+   * @return true if upload mode is active, false otherwise
+   */
+  public static boolean isUploadMode() {
+    return UPLOAD_MODE.get();
+  }
+
+  /**
+   * Get index build states resolved by the current thread in the upload mode, by index name.
+   *
+   * @return mutable map with index build states
+   */
+  public static Map<String, Boolean> getUploadIndexBuilds() {
+    return UPLOAD_INDEX_BUILDS.get();
+  }
+
   /**
    * Set the member tenant ID for consortium member tenant reindex operations.
    *
@@ -73,5 +106,7 @@ public class ReindexContext {
   public static void clear() {
     REINDEX_MODE.remove();
     MEMBER_TENANT_ID.remove();
+    UPLOAD_MODE.remove();
+    UPLOAD_INDEX_BUILDS.remove();
   }
 }
@@ -118,7 +118,12 @@ public class ReindexMergeRangeIndexService {
     var maps = entities.stream().map(RawLine::data).toList();
     try {
       ReindexContext.setReindexMode(true);
-      repositories.get(recordType.getEntityType()).saveEntitiesRaw(tenant, entities);
+      var repository = repositories.get(recordType.getEntityType());
+      if (reindexConfig.isMergeCopyEnabled()) {
+        repository.copyEntitiesRaw(tenant, entities);
+      } else {
+        repository.saveEntitiesRaw(tenant, entities);
+      }
       if (instanceChildrenResourceService != null) {
         instanceChildrenResourceService.persistChildrenOnReindex(
           tenant, RESOURCE_NAME_MAP.get(recordType.getEntityType()), maps);
@@ -172,7 +177,9 @@ public class ReindexMergeRangeIndexService {
   public void performStagingMigration(String targetTenantId) {
     log.info("performStagingMigration:: Starting tenant-specific migration of staging tables for tenant: {}",
       targetTenantId);
-    var result = migrationService.migrateAllStagingTables(targetTenantId);
+    var result = reindexConfig.getMigrationParallelism() > 1
+                 ? migrationService.migrateAllStagingTablesConcurrently(targetTenantId)
+                 : migrationService.migrateAllStagingTables(targetTenantId);
     log.info("performStagingMigration:: Tenant-specific migration completed for {}: instances={}, holdings={}, "
         + "items={}, relationships={}",
       targetTenantId, result.getTotalInstances(), result.getTotalHoldings(),
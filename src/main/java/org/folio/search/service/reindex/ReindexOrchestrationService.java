@@ -1,9 +1,14 @@
 package org.folio.search.service.reindex;
 
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.message.FormattedMessage;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.exception.ReindexException;
 import org.folio.search.model.event.ReindexFileReadyEvent;
 import org.folio.search.model.event.ReindexRangeIndexEvent;
@@ -51,6 +56,8 @@ public abstract class ReindexOrchestrationService {
         event.getId(), event.getTenant(), memberTenantId,
         event.getEntityType(), event.getLower(), event.getUpper(), event.getTs());
 
+      // member tenant reindex updates documents of the live index in place
+      ReindexContext.setUploadMode(memberTenantId == null);
       var folioIndexOperationResponse = fetchRecordsAndIndexForUploadRange(event);
       if (folioIndexOperationResponse.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
         throw handleReindexUploadFailure(event, folioIndexOperationResponse.getErrorMessage());
@@ -58,9 +65,13 @@ public abstract class ReindexOrchestrationService {
       uploadRangeService.updateStatus(event, ReindexRangeStatus.SUCCESS, null);
 
       log.info("process:: ReindexRangeIndexEvent processed [id: {}]", event.getId());
-      reindexStatusService.addProcessedUploadRanges(event.getEntityType(), 1);
+      var uploadCompleted = reindexStatusService.addProcessedUploadRanges(event.getEntityType(), 1);
+      if (uploadCompleted && memberTenantId == null) {
+        reindexService.completeIndexBuild(event.getEntityType(), context.getTenantId());
+      }
       return true;
     } finally {
+      ReindexContext.setUploadMode(false);
       if (memberTenantId != null) {
         ReindexContext.clearMemberTenantId();
       }
@@ -179,11 +190,60 @@ public abstract class ReindexOrchestrationService {
 
   private FolioIndexOperationResponse fetchRecordsAndIndexForUploadRange(ReindexRangeIndexEvent event) {
     try {
-      var resourceEvents = uploadRangeService.fetchRecordRange(event);
+      return fetchRecordsAndIndexRange(event, 0);
+    } catch (Exception ex) {
+      throw handleReindexUploadFailure(event, ex.getMessage());
+    }
+  }
+
+  /**
+   * Fetches and indexes records of the given range. If processing fails with an exception (e.g. query or bulk request
+   * timeout on an oversized range), the range is split in halves and each half is processed separately, until the
+   * configured re-split depth is reached.
+   */
+  private FolioIndexOperationResponse fetchRecordsAndIndexRange(ReindexRangeIndexEvent range, int depth) {
+    try {
+      if (uploadRangeService.isStreamingEnabled(range)) {
+        return streamAndIndexRange(range);
+      }
+      var resourceEvents = uploadRangeService.fetchRecordRange(range);
+      if (elasticRepository.isBulkPipelineEnabled()) {
+        return convertAndIndexPipelined(List.copyOf(resourceEvents));
+      }
       var documents = documentConverter.convertForReindex(resourceEvents);
       return elasticRepository.indexResources(documents);
     } catch (Exception ex) {
-      throw handleReindexUploadFailure(event, ex.getMessage());
+      var subRanges = uploadRangeService.splitRange(range, depth);
+      if (subRanges.isEmpty()) {
+        throw ex;
+      }
+
+      log.warn("fetchRecordsAndIndexRange:: re-splitting failed upload range [id: {}, lower: {}, upper: {}, "
+               + "depth: {}, error: {}]", range.getId(), range.getLower(), range.getUpper(), depth, ex.getMessage());
+      for (var subRange : subRanges) {
+        var response = fetchRecordsAndIndexRange(subRange, depth + 1);
+        if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+          return response;
+        }
+      }
+      return getSuccessIndexOperationResponse();
+    }
+  }
+
+  private FolioIndexOperationResponse streamAndIndexRange(ReindexRangeIndexEvent range) {
+    try (var bulkWriter = elasticRepository.openBulkWriter()) {
+      uploadRangeService.streamRecordRange(range, bulkWriter.getMaxActions(),
+        eventsChunk -> bulkWriter.addAll(documentConverter.convertForReindex(eventsChunk)));
+      return bulkWriter.awaitCompletion();
+    }
+  }
+
+  private FolioIndexOperationResponse convertAndIndexPipelined(List<ResourceEvent> resourceEvents) {
+    try (var bulkWriter = elasticRepository.openBulkWriter()) {
+      for (var eventsChunk : ListUtils.partition(resourceEvents, bulkWriter.getMaxActions())) {
+        bulkWriter.addAll(documentConverter.convertForReindex(eventsChunk));
+      }
+      return bulkWriter.awaitCompletion();
     }
   }
 
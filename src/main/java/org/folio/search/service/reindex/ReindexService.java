@@ -6,8 +6,12 @@ import static org.folio.search.configuration.SearchCacheNames.USER_TENANTS_CACHE
 import static org.folio.search.model.types.ReindexStatus.MERGE_FAILED;
 import static org.folio.search.model.types.ReindexStatus.MERGE_IN_PROGRESS;
 
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BiFunction;
@@ -93,7 +97,12 @@ public class ReindexService {
     // Capture context before async execution
     final var memberTenantIdContext = targetTenantId;
 
-    var future = CompletableFuture.runAsync(() -> recreateMergeRanges(tenantId, targetTenantId), reindexFullExecutor)
+    var future = CompletableFuture.runAsync(() -> {
+        if (targetTenantId == null) {
+          reindexCommonService.awaitIndexBuildMirroring();
+        }
+        recreateMergeRanges(tenantId, targetTenantId);
+      }, reindexFullExecutor)
       .thenRun(() -> publishRecordsRange(tenantId, memberTenantIdContext))
       .handle(handleReindexingFailure(tenantId, targetTenantId));
 
@@ -137,27 +146,66 @@ public class ReindexService {
     var entityTypes = entityTypeMapper.convert(reindexUploadDto.getEntityTypes()).stream()
       .filter(ReindexEntityType::isSupportsUpload)
       .toList();
-    return submitUploadReindex(tenantId, entityTypes, true, reindexUploadDto.getIndexSettings());
+    if (reindexUploadDto.getUpdatedSince() != null || Boolean.TRUE.equals(reindexUploadDto.getIncremental())) {
+      return submitIncrementalUploadReindex(tenantId, entityTypes, reindexUploadDto.getUpdatedSince());
+    }
+    return submitUploadReindex(tenantId, entityTypes, true, reindexUploadDto.getIndexSettings(), Map.of());
   }
 
   public CompletableFuture<Void> submitUploadReindex(String tenantId, List<ReindexEntityType> entityTypes) {
-    return submitUploadReindex(tenantId, entityTypes, false, null);
+    return submitUploadReindex(tenantId, entityTypes, false, null, Map.of());
+  }
+
+  /**
+   * Uploads records changed after the given time to the existing indices, without recreating them. If the time is
+   * not provided, records changed after the start of the last completed upload of each entity type are uploaded.
+   *
+   * @param tenantId     the requesting tenant ID
+   * @param entityTypes  the entity types to upload
+   * @param updatedSince the time records must be changed after, nullable
+   * @return CompletableFuture representing the upload operation
+   */
+  private CompletableFuture<Void> submitIncrementalUploadReindex(String tenantId, List<ReindexEntityType> entityTypes,
+                                                                 OffsetDateTime updatedSince) {
+    validateTenant("submitIncrementalUploadReindex", tenantId);
+    var uploadWatermarks = statusService.getUploadWatermarks();
+    var updatedSinceByType = new EnumMap<ReindexEntityType, Timestamp>(ReindexEntityType.class);
+    for (var entityType : entityTypes) {
+      var entityUpdatedSince = updatedSince != null
+                               ? Timestamp.from(updatedSince.toInstant())
+                               : uploadWatermarks.get(entityType);
+      if (entityUpdatedSince == null) {
+        throw new RequestValidationException("No completed upload to continue incremental reindex from",
+          "entityType", entityType.getType());
+      }
+      updatedSinceByType.put(entityType, entityUpdatedSince);
+    }
+
+    log.info("submitIncrementalUploadReindex:: for [tenantId: {}, updatedSince: {}]", tenantId, updatedSinceByType);
+    return submitUploadReindex(tenantId, entityTypes, false, null, updatedSinceByType);
   }
 
   private CompletableFuture<Void> submitUploadReindex(String tenantId, List<ReindexEntityType> entityTypes,
-                                                      boolean recreateIndex, IndexSettings indexSettings) {
+                                                      boolean recreateIndex, IndexSettings indexSettings,
+                                                      Map<ReindexEntityType, Timestamp> updatedSinceByType) {
     log.info("submitUploadReindex:: for [tenantId: {}, entities: {}]", tenantId, entityTypes);
 
     validateUploadReindex(tenantId, entityTypes);
 
     // Capture context before async execution
     final var memberTenantIdContext = ReindexContext.getMemberTenantId();
-    prepareForUploadReindex(tenantId, memberTenantIdContext, entityTypes, recreateIndex, indexSettings);
+    prepareForUploadReindex(tenantId, memberTenantIdContext, entityTypes, recreateIndex, indexSettings,
+      !updatedSinceByType.isEmpty());
 
+    var indexBuildMirrored = recreateIndex
+                             ? CompletableFuture.runAsync(reindexCommonService::awaitIndexBuildMirroring,
+                               reindexUploadExecutor)
+                             : CompletableFuture.<Void>completedFuture(null);
     var futures = new ArrayList<>();
     for (var entityType : entityTypes) {
-      var future = CompletableFuture.runAsync(() ->
-          sendIndexRanges(memberTenantIdContext, entityType), reindexUploadExecutor)
+      var updatedSince = updatedSinceByType.get(entityType);
+      var future = indexBuildMirrored.thenRunAsync(() ->
+          sendIndexRanges(memberTenantIdContext, entityType, updatedSince), reindexUploadExecutor)
         .handle((unused, throwable) -> {
           if (throwable != null) {
             log.error("submitUploadReindex:: reindex upload process failed: {}", throwable.getMessage());
@@ -173,7 +221,11 @@ public class ReindexService {
   }
 
   private void prepareForUploadReindex(String tenantId, String memberTenantId, List<ReindexEntityType> entityTypes,
-                                      boolean recreateIndex, IndexSettings indexSettings) {
+                                      boolean recreateIndex, IndexSettings indexSettings, boolean incremental) {
+    if (incremental) {
+      entityTypes.forEach(entityType -> reindexCommonService.prepareIncrementalUploadIndex(entityType, tenantId));
+    }
+
     var targetTenantId = statusService.getTargetTenantId();
     for (var reindexEntityType : entityTypes) {
       statusService.upsertUploadStatusRecord(reindexEntityType, targetTenantId);
@@ -188,13 +240,17 @@ public class ReindexService {
     }
   }
 
-  private void sendIndexRanges(String memberTenantIdContext, ReindexEntityType entityType) {
+  private void sendIndexRanges(String memberTenantIdContext, ReindexEntityType entityType, Timestamp updatedSince) {
     // Restore context in executor thread
     if (memberTenantIdContext != null) {
       ReindexContext.setMemberTenantId(memberTenantIdContext);
     }
     try {
-      uploadRangeService.prepareAndSendIndexRanges(entityType);
+      if (updatedSince == null) {
+        uploadRangeService.prepareAndSendIndexRanges(entityType);
+      } else {
+        uploadRangeService.prepareAndSendIndexRanges(entityType, updatedSince);
+      }
     } finally {
       // Clean up context in executor thread
       if (memberTenantIdContext != null) {
@@ -203,6 +259,31 @@ public class ReindexService {
     }
   }
 
+  /**
+   * Promotes the index generation built for the entity type once all its upload ranges are processed.
+   * Must be called only by the processor of the range that completed the upload, see
+   * {@link ReindexStatusService#addProcessedUploadRanges(ReindexEntityType, int)}, so the generation is promoted once.
+   * Does nothing if blue/green reindex is disabled. If the promotion fails, the upload is marked as failed, because
+   * the live index was not replaced.
+   *
+   * @param entityType the entity type whose upload range was processed
+   * @param tenantId   the requesting tenant ID
+   */
+  public void completeIndexBuild(ReindexEntityType entityType, String tenantId) {
+    if (!reindexCommonService.isBlueGreenReindexEnabled()) {
+      return;
+    }
+    log.info("completeIndexBuild:: upload completed, promoting index [tenantId: {}, entityType: {}]",
+      tenantId, entityType);
+    try {
+      reindexCommonService.promoteIndex(entityType, tenantId);
+    } catch (Exception e) {
+      log.error("completeIndexBuild:: index generation cannot be promoted [tenantId: {}, entityType: {}, message: {}]",
+        tenantId, entityType, e.getMessage(), e);
+      statusService.updateReindexUploadFailed(entityType);
+    }
+  }
+
   /**
    * Submits upload reindex with tenant-specific document cleanup for member tenant reindex operations.
    * This method performs OpenSearch document cleanup for the specified tenant while preserving
@@ -229,7 +310,7 @@ public class ReindexService {
 
     try {
       // Standard upload processing - context determines data fetching
-      return submitUploadReindex(tenantId, entityTypes, false, null);
+      return submitUploadReindex(tenantId, entityTypes, false, null, Map.of());
     } finally {
       if (targetTenantId != null) {
         ReindexContext.clearMemberTenantId();
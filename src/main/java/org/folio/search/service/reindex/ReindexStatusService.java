@@ -5,6 +5,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.folio.search.configuration.SearchCacheNames.REINDEX_TARGET_TENANT_CACHE;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,18 @@ public class ReindexStatusService {
       .collect(Collectors.toMap(ReindexStatusEntity::getEntityType, ReindexStatusEntity::getStatus));
   }
 
+  /**
+   * Returns start times of the last completed uploads by entity type. Records changed after the start of a completed
+   * upload may be missing in the index, so the start time is the watermark of the next incremental upload.
+   *
+   * @return map with upload start time by entity type
+   */
+  public Map<ReindexEntityType, Timestamp> getUploadWatermarks() {
+    return statusRepository.getReindexStatuses().stream()
+      .filter(status -> status.getStatus() == ReindexStatus.UPLOAD_COMPLETED && status.getStartTimeUpload() != null)
+      .collect(Collectors.toMap(ReindexStatusEntity::getEntityType, ReindexStatusEntity::getStartTimeUpload));
+  }
+
   @Transactional
   @CacheEvict(cacheNames = REINDEX_TARGET_TENANT_CACHE, allEntries = true)
   public void recreateMergeStatusRecords(String targetTenantId) {
@@ -85,8 +98,13 @@ public class ReindexStatusService {
     statusRepository.addReindexCounts(entityType, processedMergeRanges, 0);
   }
 
-  public void addProcessedUploadRanges(ReindexEntityType entityType, int processedUploadRanges) {
-    statusRepository.addReindexCounts(entityType, 0, processedUploadRanges);
+  /**
+   * Adds processed upload ranges of the entity type.
+   *
+   * @return true if the upload was completed by this call, for exactly one of concurrent calls
+   */
+  public boolean addProcessedUploadRanges(ReindexEntityType entityType, int processedUploadRanges) {
+    return statusRepository.addProcessedUploadRanges(entityType, processedUploadRanges);
   }
 
   public void updateReindexMergeFailed() {
@@ -117,6 +135,11 @@ public class ReindexStatusService {
     statusRepository.setStagingCompleted(entityTypes);
   }
 
+  public void updateStagingCompleted(ReindexEntityType entityType) {
+    log.info("updateStagingCompleted:: setting staging end time for [entityType: {}]", entityType);
+    statusRepository.setStagingCompleted(singletonList(entityType));
+  }
+
   public void updateStagingFailed() {
     var entityTypes = ReindexEntityType.supportMergeTypes();
     log.info("updateStagingFailed:: setting status to STAGING_FAILED and end time for [entityTypes: {}]", entityTypes);
@@ -11,8 +11,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.event.ReindexRangeIndexEvent;
 import org.folio.search.model.reindex.UploadRangeEntity;
@@ -29,17 +31,30 @@ public class ReindexUploadRangeIndexService {
   private final Map<ReindexEntityType, UploadRangeRepository> repositories;
   private final FolioMessageProducer<ReindexRangeIndexEvent> indexRangeEventProducer;
   private final ReindexStatusService statusService;
+  private final ReindexConfigurationProperties reindexConfig;
 
   public ReindexUploadRangeIndexService(List<UploadRangeRepository> repositories,
                                         FolioMessageProducer<ReindexRangeIndexEvent> indexRangeEventProducer,
-                                        ReindexStatusService statusService) {
+                                        ReindexStatusService statusService,
+                                        ReindexConfigurationProperties reindexConfig) {
     this.repositories = repositories.stream()
       .collect(Collectors.toMap(UploadRangeRepository::entityType, identity()));
     this.indexRangeEventProducer = indexRangeEventProducer;
     this.statusService = statusService;
+    this.reindexConfig = reindexConfig;
   }
 
   public void prepareAndSendIndexRanges(ReindexEntityType entityType) {
+    prepareAndSendIndexRanges(entityType, null);
+  }
+
+  /**
+   * Creates upload ranges of the entity type and sends range events.
+   *
+   * @param entityType   entity type to upload
+   * @param updatedSince if not null, only records changed after this time are uploaded by the range events
+   */
+  public void prepareAndSendIndexRanges(ReindexEntityType entityType, Timestamp updatedSince) {
     var repository = Optional.ofNullable(repositories.get(entityType))
       .orElseThrow(() -> new UnsupportedOperationException("No repository found for entity type: " + entityType));
 
@@ -48,9 +63,9 @@ public class ReindexUploadRangeIndexService {
     // For member tenant reindex of instances, add member tenant ID to the events
     if (ReindexContext.isMemberTenantReindex()) {
       var memberTenantId = ReindexContext.getMemberTenantId();
-      updateStatusAndSendEvents(entityType, uploadRanges.size(), memberTenantId, uploadRanges);
+      updateStatusAndSendEvents(entityType, uploadRanges.size(), memberTenantId, uploadRanges, updatedSince);
     } else {
-      updateStatusAndSendEvents(entityType, uploadRanges.size(), uploadRanges);
+      updateStatusAndSendEvents(entityType, uploadRanges.size(), uploadRanges, updatedSince);
     }
   }
 
@@ -68,6 +83,13 @@ public class ReindexUploadRangeIndexService {
       log.debug(
         "fetchRecordRange:: Fetched {} records for consortium member reindex [entityType: {}, member tenant: {}]",
         recordMaps.size(), entityType, rangeIndexEvent.getMemberTenantId());
+    } else if (rangeIndexEvent.getUpdatedSince() != null) {
+      // Use last update time filtered range query for incremental reindex
+      var updatedSince = new Timestamp(rangeIndexEvent.getUpdatedSince());
+      recordMaps = repository.fetchByIdRangeUpdatedSince(rangeIndexEvent.getLower(), rangeIndexEvent.getUpper(),
+        updatedSince);
+      log.debug("fetchRecordRange:: Fetched {} records for incremental reindex [entityType: {}, updatedSince: {}]",
+        recordMaps.size(), entityType, updatedSince);
     } else {
       // Use regular ID range query for standard reindex
       recordMaps = repository.fetchByIdRange(rangeIndexEvent.getLower(), rangeIndexEvent.getUpper());
@@ -75,11 +97,65 @@ public class ReindexUploadRangeIndexService {
         recordMaps.size(), entityType);
     }
 
-    return recordMaps.stream()
-      .map(map -> new ResourceEvent().id(getString(map, ID_FIELD))
-        .resourceName(ReindexConstants.RESOURCE_NAME_MAP.get(entityType).getName())
-        ._new(map)
-        .tenant(rangeIndexEvent.getTenant()))
+    return toResourceEvents(rangeIndexEvent, recordMaps);
+  }
+
+  /**
+   * Checks if records of the given range can be streamed with {@link #streamRecordRange}.
+   *
+   * @param rangeIndexEvent upload range event
+   * @return true if streaming is enabled and the range is neither a consortium member nor an incremental reindex range
+   */
+  public boolean isStreamingEnabled(ReindexRangeIndexEvent rangeIndexEvent) {
+    return reindexConfig.isUploadRangeStreamingEnabled() && rangeIndexEvent.getMemberTenantId() == null
+      && rangeIndexEvent.getUpdatedSince() == null;
+  }
+
+  /**
+   * Streams records of the given range to the consumer in chunks, without loading the whole range into memory.
+   *
+   * @param rangeIndexEvent upload range event
+   * @param chunkSize       maximum number of records per chunk
+   * @param chunkConsumer   consumer of resource event chunks
+   */
+  public void streamRecordRange(ReindexRangeIndexEvent rangeIndexEvent, int chunkSize,
+                                Consumer<List<ResourceEvent>> chunkConsumer) {
+    var repository = repositories.get(rangeIndexEvent.getEntityType());
+    repository.streamByIdRange(rangeIndexEvent.getLower(), rangeIndexEvent.getUpper(), chunkSize,
+      recordMaps -> chunkConsumer.accept(toResourceEvents(rangeIndexEvent, recordMaps)));
+  }
+
+  /**
+   * Splits failed upload range in halves, so that it can be re-processed in smaller portions.
+   *
+   * @param rangeIndexEvent failed upload range event
+   * @param depth           the number of splits already applied to the range
+   * @return sub-range events sharing the id of the original range, empty if the range must not be split
+   */
+  public List<ReindexRangeIndexEvent> splitRange(ReindexRangeIndexEvent rangeIndexEvent, int depth) {
+    if (depth >= reindexConfig.getUploadRangeResplitDepth()) {
+      return List.of();
+    }
+
+    var range = new RangeGenerator.Range(rangeIndexEvent.getLower(), rangeIndexEvent.getUpper());
+    var subRanges = RangeGenerator.splitUuidRange(range, 2);
+    if (subRanges.size() < 2) {
+      return List.of();
+    }
+
+    return subRanges.stream()
+      .map(subRange -> {
+        var event = new ReindexRangeIndexEvent();
+        event.setId(rangeIndexEvent.getId());
+        event.setEntityType(rangeIndexEvent.getEntityType());
+        event.setLower(subRange.lowerBound());
+        event.setUpper(subRange.upperBound());
+        event.setTenant(rangeIndexEvent.getTenant());
+        event.setTs(rangeIndexEvent.getTs());
+        event.setMemberTenantId(rangeIndexEvent.getMemberTenantId());
+        event.setUpdatedSince(rangeIndexEvent.getUpdatedSince());
+        return event;
+      })
       .toList();
   }
 
@@ -88,19 +164,32 @@ public class ReindexUploadRangeIndexService {
     repository.updateRangeStatus(event.getId(), Timestamp.from(Instant.now()), status, failCause);
   }
 
+  private List<ResourceEvent> toResourceEvents(ReindexRangeIndexEvent rangeIndexEvent,
+                                               List<Map<String, Object>> recordMaps) {
+    var resourceName = ReindexConstants.RESOURCE_NAME_MAP.get(rangeIndexEvent.getEntityType()).getName();
+    return recordMaps.stream()
+      .map(map -> new ResourceEvent().id(getString(map, ID_FIELD))
+        .resourceName(resourceName)
+        ._new(map)
+        .tenant(rangeIndexEvent.getTenant()))
+      .toList();
+  }
+
   private void updateStatusAndSendEvents(ReindexEntityType entityType, int rangeCount,
-                                         List<UploadRangeEntity> rangeEntities) {
-    updateStatusAndSendEvents(entityType, rangeCount, null, rangeEntities);
+                                         List<UploadRangeEntity> rangeEntities, Timestamp updatedSince) {
+    updateStatusAndSendEvents(entityType, rangeCount, null, rangeEntities, updatedSince);
   }
 
   private void updateStatusAndSendEvents(ReindexEntityType entityType, int rangeCount, String memberTenantId,
-                                         List<UploadRangeEntity> rangeEntities) {
+                                         List<UploadRangeEntity> rangeEntities, Timestamp updatedSince) {
     statusService.updateReindexUploadStarted(entityType, rangeCount);
-    var events = prepareEvents(memberTenantId, rangeEntities);
+    var events = prepareEvents(memberTenantId, rangeEntities, updatedSince);
     indexRangeEventProducer.sendMessages(events);
   }
 
-  private List<ReindexRangeIndexEvent> prepareEvents(String memberTenantId, List<UploadRangeEntity> uploadRanges) {
+  private List<ReindexRangeIndexEvent> prepareEvents(String memberTenantId, List<UploadRangeEntity> uploadRanges,
+                                                     Timestamp updatedSince) {
+    var updatedSinceMillis = updatedSince == null ? null : updatedSince.getTime();
     return uploadRanges.stream()
       .map(range -> {
         var event = new ReindexRangeIndexEvent();
@@ -109,6 +198,7 @@ public class ReindexUploadRangeIndexService {
         event.setLower(range.getLower());
         event.setUpper(range.getUpper());
         event.setMemberTenantId(memberTenantId);
+        event.setUpdatedSince(updatedSinceMillis);
         return event;
       })
       .toList();
@@ -3,15 +3,28 @@ package org.folio.search.service.reindex;
 import static org.folio.search.utils.JdbcUtils.getSchemaName;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.ObjLongConsumer;
 import java.util.regex.Pattern;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.exception.ReindexException;
 import org.folio.search.model.reindex.MigrationResult;
+import org.folio.search.model.types.ReindexEntityType;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
@@ -26,15 +39,24 @@ public class StagingMigrationService {
   private final FolioExecutionContext context;
   private final ReindexCommonService reindexCommonService;
   private final ReindexConfigurationProperties reindexConfigurationProperties;
+  private final ReindexStatusService reindexStatusService;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService migrationExecutor;
 
   public StagingMigrationService(JdbcTemplate jdbcTemplate,
                                  FolioExecutionContext context,
                                  ReindexCommonService reindexCommonService,
-                                 ReindexConfigurationProperties reindexConfigurationProperties) {
+                                 ReindexConfigurationProperties reindexConfigurationProperties,
+                                 ReindexStatusService reindexStatusService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier("stagingMigrationExecutor") ExecutorService migrationExecutor) {
     this.jdbcTemplate = jdbcTemplate;
     this.context = context;
     this.reindexCommonService = reindexCommonService;
     this.reindexConfigurationProperties = reindexConfigurationProperties;
+    this.reindexStatusService = reindexStatusService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.migrationExecutor = migrationExecutor;
   }
 
   @Transactional
@@ -79,6 +101,53 @@ public class StagingMigrationService {
     }
   }
 
+  /**
+   * Migrates staging tables to main tables using several database connections.
+   *
+   * <p>Migration phases start as soon as the phases they depend on are completed: holdings and child resources
+   * follow instances, items follow holdings, and instance relationships follow their resources. Instance, holding,
+   * item and relationship phases are split into id range chunks, and each chunk is migrated in its own transaction.
+   * Chunks are idempotent upserts, so a failed migration can be re-run from the same staging tables. Only the
+   * pre-migration cleanup of the tenant data and the truncation of staging tables are run as single transactions.</p>
+   *
+   * @param targetTenantId the member tenant whose staging records are migrated
+   * @return migration result
+   */
+  public MigrationResult migrateAllStagingTablesConcurrently(String targetTenantId) {
+    var result = new MigrationResult();
+    var startTime = System.currentTimeMillis();
+
+    try {
+      log.info("migrateAllStagingTablesConcurrently:: Starting migration for: [targetTenantId: {}, parallelism: {}]",
+        targetTenantId, reindexConfigurationProperties.getMigrationParallelism());
+      transactionTemplate.executeWithoutResult(status -> {
+        configureTransactionSettings();
+        analyzeStagingTables();
+        handleMemberTenantPreMigration(targetTenantId);
+      });
+
+      executeConcurrentMigrationPhases(result);
+
+      log.info("migrateAllStagingTablesConcurrently:: Truncating staging tables after successful migration");
+      transactionTemplate.executeWithoutResult(status -> reindexCommonService.deleteAllRecords(targetTenantId));
+
+      var duration = System.currentTimeMillis() - startTime;
+      result.setDuration(duration);
+
+      log.info("migrateAllStagingTablesConcurrently:: Migration complete in {} ms: {} for targetTenantId: {}",
+        duration, result, targetTenantId);
+      return result;
+    } catch (ReindexException ex) {
+      log.error("migrateAllStagingTablesConcurrently:: Migration failed due to reindex exception "
+        + "for targetTenantId {}", targetTenantId, ex);
+      throw new ReindexException("Failed to migrate staging tables: " + ex.getMessage(), ex.getCause());
+    } catch (Exception e) {
+      log.error("migrateAllStagingTablesConcurrently:: Migration failed for targetTenantId {}", targetTenantId, e);
+      var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      throw new ReindexException("Failed to migrate staging tables", cause);
+    }
+  }
+
   private void handleMemberTenantPreMigration(String targetTenantId) {
     // For member tenant refresh: simply delete existing data for this tenant from main tables
     log.info("handleMemberTenantPreMigration:: Clearing existing tenant data from main tables for tenant: {}",
@@ -91,52 +160,123 @@ public class StagingMigrationService {
   private void executeMainMigrationPhases(MigrationResult result) {
     // Phase 1: Instances
     log.info("executeMainMigrationPhases:: Starting instances migration...");
-    migrateInstances(result);
+    result.setTotalInstances(migrateInstances(null));
     log.info("executeMainMigrationPhases:: Instances migration completed");
 
     // Phase 2: Holdings and Items
     log.info("executeMainMigrationPhases:: Starting holdings/items migration...");
-    migrateHoldings(result);
+    result.setTotalHoldings(migrateHoldings(null));
     log.info("executeMainMigrationPhases:: Holdings migration completed");
 
-    migrateItems(result);
+    result.setTotalItems(migrateItems(null));
     log.info("executeMainMigrationPhases:: Items migration completed");
 
     // Phase 3: Child resources (subjects, contributors, classifications, call numbers)
     log.info("executeMainMigrationPhases:: Starting child resources migration...");
-    migrateSubjects(result);
+    addRelationships(result, migrateSubjects());
     log.info("executeMainMigrationPhases:: Subject migration completed");
 
-    migrateContributors(result);
+    addRelationships(result, migrateContributors());
     log.info("executeMainMigrationPhases:: Contributor migration completed");
 
-    migrateClassifications(result);
+    addRelationships(result, migrateClassifications());
     log.info("executeMainMigrationPhases:: Classification migration completed");
 
-    migrateCallNumbers(result);
+    addRelationships(result, migrateCallNumbers());
     log.info("executeMainMigrationPhases:: Call number migration completed");
 
     // Phase 4: Instance/item relationships
     log.info("executeMainMigrationPhases:: Starting instance relationships migration...");
-    migrateInstanceSubjects(result);
+    addRelationships(result, migrateInstanceSubjects(null));
     log.info("executeMainMigrationPhases:: Instance-subject migration completed");
 
-    migrateInstanceContributors(result);
+    addRelationships(result, migrateInstanceContributors(null));
     log.info("executeMainMigrationPhases:: Instance-contributor migration complete");
 
-    migrateInstanceClassifications(result);
+    addRelationships(result, migrateInstanceClassifications(null));
     log.info("executeMainMigrationPhases:: Instance-classification migration completed");
 
-    migrateInstanceCallNumbers(result);
+    addRelationships(result, migrateInstanceCallNumbers(null));
     log.info("executeMainMigrationPhases:: Instance-call numbers migration completed");
   }
 
-  private void migrateInstances(MigrationResult result) {
+  private void executeConcurrentMigrationPhases(MigrationResult result) {
+    var phaseFutures = new EnumMap<MigrationPhase, CompletableFuture<Long>>(MigrationPhase.class);
+    for (var phase : MigrationPhase.values()) {
+      var dependencies = phase.dependencies.stream().map(phaseFutures::get).toArray(CompletableFuture[]::new);
+      phaseFutures.put(phase, CompletableFuture.allOf(dependencies).thenCompose(unused -> migratePhase(phase)));
+    }
+
+    CompletableFuture.allOf(phaseFutures.values().toArray(CompletableFuture[]::new)).join();
+    phaseFutures.forEach((phase, future) -> phase.resultUpdater.accept(result, future.join()));
+  }
+
+  private CompletableFuture<Long> migratePhase(MigrationPhase phase) {
+    var chunks = phase.chunked
+                 ? RangeGenerator.splitUuidRange(RangeGenerator.emptyUuidRange(),
+                   reindexConfigurationProperties.getMigrationChunks())
+                 : Collections.<RangeGenerator.Range>singletonList(null);
+    log.info("migratePhase:: Starting {} migration [chunks: {}]", phase, chunks.size());
+
+    var chunkFutures = new ArrayList<CompletableFuture<Long>>(chunks.size());
+    for (var chunk : chunks) {
+      chunkFutures.add(CompletableFuture.supplyAsync(() -> migrateChunk(phase, chunk), migrationExecutor));
+    }
+
+    return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new)).thenApply(unused -> {
+      var recordsUpserted = chunkFutures.stream().mapToLong(CompletableFuture::join).sum();
+      log.info("migratePhase:: {} migration completed [records: {}]", phase, recordsUpserted);
+      if (phase.entityType != null) {
+        reindexStatusService.updateStagingCompleted(phase.entityType);
+      }
+      return recordsUpserted;
+    });
+  }
+
+  private long migrateChunk(MigrationPhase phase, RangeGenerator.Range chunk) {
+    var recordsUpserted = transactionTemplate.execute(status -> {
+      configureTransactionSettings();
+      return phase.migration.apply(this, chunk);
+    });
+    return recordsUpserted == null ? 0 : recordsUpserted;
+  }
+
+  private static void addRelationships(MigrationResult result, long recordsUpserted) {
+    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
+  }
+
+  /**
+   * Returns SQL condition limiting migrated records to the id range chunk.
+   *
+   * @param chunk  id range chunk, null to migrate all records
+   * @param column uuid column the records are chunked by
+   * @return SQL condition, empty if the chunk is null
+   */
+  private static String chunkCondition(RangeGenerator.Range chunk, String column) {
+    return chunk == null ? "" : "WHERE %s BETWEEN ?::uuid AND ?::uuid".formatted(column);
+  }
+
+  private static Object[] chunkArgs(RangeGenerator.Range chunk, Object... args) {
+    if (chunk == null) {
+      return args;
+    }
+    var chunkArgs = new ArrayList<>(List.of(args));
+    chunkArgs.add(chunk.lowerBound());
+    chunkArgs.add(chunk.upperBound());
+    return chunkArgs.toArray();
+  }
+
+  private int update(String sql, Object... args) {
+    return args.length == 0 ? jdbcTemplate.update(sql) : jdbcTemplate.update(sql, args);
+  }
+
+  private int migrateInstances(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.instance (id, tenant_id, shared, is_bound_with, json, last_updated_date)
         SELECT id, tenant_id, shared, is_bound_with, json, ?
         FROM %s.staging_instance
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (id) DO UPDATE SET
             tenant_id = EXCLUDED.tenant_id,
@@ -144,118 +284,124 @@ public class StagingMigrationService {
             is_bound_with = EXCLUDED.is_bound_with,
             json = EXCLUDED.json,
             last_updated_date = EXCLUDED.last_updated_date
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalInstances(recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk, RESOURCE_REINDEX_TIMESTAMP));
 
     log.debug("migrateInstances:: Instance upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateHoldings(MigrationResult result) {
+  private int migrateHoldings(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.holding (id, tenant_id, instance_id, json)
         SELECT id, tenant_id, instance_id, json
         FROM %s.staging_holding
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (id, tenant_id) DO UPDATE SET
             instance_id = EXCLUDED.instance_id,
             json = EXCLUDED.json
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql);
-    result.setTotalHoldings(recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk));
 
     log.debug("migrateHoldings:: Holding upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateItems(MigrationResult result) {
+  private int migrateItems(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.item (id, tenant_id, instance_id, holding_id, json, last_updated_date)
         SELECT id, tenant_id, instance_id, holding_id, json, ?
         FROM %s.staging_item
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (id, tenant_id) DO UPDATE SET
             instance_id = EXCLUDED.instance_id,
             holding_id = EXCLUDED.holding_id,
             json = EXCLUDED.json,
             last_updated_date = EXCLUDED.last_updated_date
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalItems(recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk, RESOURCE_REINDEX_TIMESTAMP));
 
     log.debug("migrateItems:: Item upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateInstanceSubjects(MigrationResult result) {
+  private int migrateInstanceSubjects(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.instance_subject (instance_id, subject_id, tenant_id, shared)
         SELECT instance_id, subject_id, tenant_id, shared
         FROM %s.staging_instance_subject
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (subject_id, instance_id, tenant_id) DO NOTHING
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "instance_id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk));
 
     log.debug("migrateInstanceSubjects:: Instance-subject relationship upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateInstanceContributors(MigrationResult result) {
+  private int migrateInstanceContributors(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.instance_contributor (instance_id, contributor_id, type_id, tenant_id, shared)
         SELECT instance_id, contributor_id, type_id, tenant_id, shared
         FROM %s.staging_instance_contributor
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (contributor_id, instance_id, type_id, tenant_id) DO NOTHING
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "instance_id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk));
 
     log.debug("migrateInstanceContributors:: Instance-contributor relationship upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateInstanceClassifications(MigrationResult result) {
+  private int migrateInstanceClassifications(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.instance_classification (instance_id, classification_id, tenant_id, shared)
         SELECT instance_id, classification_id, tenant_id, shared
         FROM %s.staging_instance_classification
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (classification_id, instance_id, tenant_id) DO NOTHING
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "instance_id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk));
 
     log.debug("migrateInstanceClassifications:: Instance-classification relationship upserted: {} records",
       recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateInstanceCallNumbers(MigrationResult result) {
+  private int migrateInstanceCallNumbers(RangeGenerator.Range chunk) {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.instance_call_number (call_number_id, item_id, instance_id, tenant_id, location_id)
         SELECT call_number_id, item_id, instance_id, tenant_id, location_id
         FROM %s.staging_instance_call_number
+        %s
         ORDER BY inserted_at DESC
         ON CONFLICT (call_number_id, item_id, instance_id, tenant_id) DO NOTHING
-        """, schema, schema);
+        """, schema, schema, chunkCondition(chunk, "instance_id"));
 
-    var recordsUpserted = jdbcTemplate.update(sql);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
+    var recordsUpserted = update(sql, chunkArgs(chunk));
 
     log.debug("migrateInstanceCallNumbers:: Instance-call number relationship upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateSubjects(MigrationResult result) {
+  private int migrateSubjects() {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.subject (id, value, authority_id, source_id, type_id, last_updated_date)
@@ -266,12 +412,12 @@ public class StagingMigrationService {
         """, schema, schema);
 
     var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
 
     log.debug("migrateSubjects:: Subject upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateContributors(MigrationResult result) {
+  private int migrateContributors() {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.contributor (id, name, name_type_id, authority_id, last_updated_date)
@@ -282,12 +428,12 @@ public class StagingMigrationService {
         """, schema, schema);
 
     var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
 
     log.debug("migrateContributors:: Contributor upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateClassifications(MigrationResult result) {
+  private int migrateClassifications() {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.classification (id, number, type_id, last_updated_date)
@@ -298,12 +444,12 @@ public class StagingMigrationService {
         """, schema, schema);
 
     var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
 
     log.debug("migrateClassifications:: Classification upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
-  private void migrateCallNumbers(MigrationResult result) {
+  private int migrateCallNumbers() {
     var schema = getSchemaName(context);
     var sql = String.format("""
         INSERT INTO %s.call_number
@@ -315,9 +461,9 @@ public class StagingMigrationService {
         """, schema, schema);
 
     var recordsUpserted = jdbcTemplate.update(sql, RESOURCE_REINDEX_TIMESTAMP);
-    result.setTotalRelationships(result.getTotalRelationships() + recordsUpserted);
 
     log.debug("migrateCallNumbers:: Call number upserted: {} records", recordsUpserted);
+    return recordsUpserted;
   }
 
   private void analyzeStagingTables() {
@@ -375,4 +521,46 @@ public class StagingMigrationService {
       throw new ReindexException(errorMsg, e);
     }
   }
+
+  private enum MigrationPhase {
+
+    INSTANCES(ReindexEntityType.INSTANCE, true, StagingMigrationService::migrateInstances,
+      MigrationResult::setTotalInstances),
+    HOLDINGS(ReindexEntityType.HOLDINGS, true, StagingMigrationService::migrateHoldings,
+      MigrationResult::setTotalHoldings, INSTANCES),
+    ITEMS(ReindexEntityType.ITEM, true, StagingMigrationService::migrateItems,
+      MigrationResult::setTotalItems, HOLDINGS),
+    SUBJECTS(null, false, (service, chunk) -> service.migrateSubjects(),
+      StagingMigrationService::addRelationships, INSTANCES),
+    CONTRIBUTORS(null, false, (service, chunk) -> service.migrateContributors(),
+      StagingMigrationService::addRelationships, INSTANCES),
+    CLASSIFICATIONS(null, false, (service, chunk) -> service.migrateClassifications(),
+      StagingMigrationService::addRelationships, INSTANCES),
+    CALL_NUMBERS(null, false, (service, chunk) -> service.migrateCallNumbers(),
+      StagingMigrationService::addRelationships, INSTANCES),
+    INSTANCE_SUBJECTS(null, true, StagingMigrationService::migrateInstanceSubjects,
+      StagingMigrationService::addRelationships, SUBJECTS),
+    INSTANCE_CONTRIBUTORS(null, true, StagingMigrationService::migrateInstanceContributors,
+      StagingMigrationService::addRelationships, CONTRIBUTORS),
+    INSTANCE_CLASSIFICATIONS(null, true, StagingMigrationService::migrateInstanceClassifications,
+      StagingMigrationService::addRelationships, CLASSIFICATIONS),
+    INSTANCE_CALL_NUMBERS(null, true, StagingMigrationService::migrateInstanceCallNumbers,
+      StagingMigrationService::addRelationships, CALL_NUMBERS, ITEMS);
+
+    private final ReindexEntityType entityType;
+    private final boolean chunked;
+    private final BiFunction<StagingMigrationService, RangeGenerator.Range, Integer> migration;
+    private final ObjLongConsumer<MigrationResult> resultUpdater;
+    private final List<MigrationPhase> dependencies;
+
+    MigrationPhase(ReindexEntityType entityType, boolean chunked,
+                   BiFunction<StagingMigrationService, RangeGenerator.Range, Integer> migration,
+                   ObjLongConsumer<MigrationResult> resultUpdater, MigrationPhase... dependencies) {
+      this.entityType = entityType;
+      this.chunked = chunked;
+      this.migration = migration;
+      this.resultUpdater = resultUpdater;
+      this.dependencies = List.of(dependencies);
+    }
+  }
 }
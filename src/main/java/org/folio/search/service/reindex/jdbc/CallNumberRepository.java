@@ -283,9 +283,8 @@ public class CallNumberRepository extends UploadRangeRepository implements Insta
   }
 
   @Override
-  public List<Map<String, Object>> fetchByIdRange(String lower, String upper) {
-    var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper, lower, upper);
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper, lower, upper};
   }
 
   @Override
@@ -304,6 +303,12 @@ public class CallNumberRepository extends UploadRangeRepository implements Insta
       ID_RANGE_CLAS_WHERE_CLAUSE);
   }
 
+  @Override
+  protected String getFetchUpdatedSinceSql() {
+    return SELECT_QUERY.formatted(JdbcUtils.getSchemaName(context), ID_RANGE_INS_WHERE_CLAUSE,
+      ID_RANGE_CLAS_WHERE_CLAUSE + " AND c.last_updated_date > ?");
+  }
+
   @Override
   protected RowMapper<Map<String, Object>> rowToMapMapper() {
     return (rs, rowNum) -> getCallNumberMap(rs);
@@ -52,15 +52,11 @@ public class ClassificationRepository extends UploadRangeRepository implements I
                 ins.classification_id,
                 ins.tenant_id,
                 ins.shared,
-                COUNT(1) AS instance_count
+                ins.instance_count
             FROM
-                %1$s.instance_classification ins
+                %1$s.instance_classification_count ins
             WHERE
                 %2$s
-            GROUP BY
-                ins.classification_id,
-                ins.tenant_id,
-                ins.shared
         ) sub
     JOIN
         %1$s.classification c ON c.id = sub.classification_id
@@ -100,10 +96,9 @@ public class ClassificationRepository extends UploadRangeRepository implements I
           SELECT cte.id,
                  ins.tenant_id,
                  ins.shared,
-                 count(1) AS instance_count
-          FROM %1$s.instance_classification ins
+                 ins.instance_count
+          FROM %1$s.instance_classification_count ins
           INNER JOIN cte ON ins.classification_id = cte.id
-          GROUP BY cte.id, ins.tenant_id, ins.shared
       ) sub ON c.id = sub.id
       GROUP BY c.id, c.number, c.type_id, c.last_updated_date
       ORDER BY %5$s;
@@ -189,9 +184,8 @@ public class ClassificationRepository extends UploadRangeRepository implements I
   }
 
   @Override
-  public List<Map<String, Object>> fetchByIdRange(String lower, String upper) {
-    var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper, lower, upper);
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper, lower, upper};
   }
 
   @Override
@@ -211,6 +205,12 @@ public class ClassificationRepository extends UploadRangeRepository implements I
       ID_RANGE_CLAS_WHERE_CLAUSE);
   }
 
+  @Override
+  protected String getFetchUpdatedSinceSql() {
+    return SELECT_QUERY.formatted(JdbcUtils.getSchemaName(context), ID_RANGE_INS_WHERE_CLAUSE,
+      ID_RANGE_CLAS_WHERE_CLAUSE + " AND c.last_updated_date > ?");
+  }
+
   @Override
   protected RowMapper<Map<String, Object>> rowToMapMapper() {
     return (rs, rowNum) -> buildClassificationMap(rs);
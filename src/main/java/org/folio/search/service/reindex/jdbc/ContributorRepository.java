@@ -53,16 +53,18 @@ public class ContributorRepository extends UploadRangeRepository implements Inst
                 ins.contributor_id,
                 ins.tenant_id,
                 ins.shared,
-                array_agg(DISTINCT ins.type_id) FILTER (WHERE ins.type_id <> '') as type_ids,
-                COUNT(DISTINCT ins.instance_id) AS instance_count
+                (
+                    SELECT array_agg(t.type_id ORDER BY t.type_id)
+                    FROM %1$s.instance_contributor_type_count t
+                    WHERE t.contributor_id = ins.contributor_id
+                      AND t.tenant_id = ins.tenant_id
+                      AND t.shared = ins.shared
+                ) as type_ids,
+                ins.instance_count
             FROM
-                %1$s.instance_contributor ins
+                %1$s.instance_contributor_count ins
             WHERE
                 %2$s
-            GROUP BY
-                ins.contributor_id,
-                ins.tenant_id,
-                ins.shared
         ) sub
     JOIN
         %1$s.contributor c ON c.id = sub.contributor_id
@@ -105,11 +107,16 @@ public class ContributorRepository extends UploadRangeRepository implements Inst
           SELECT cte.id,
                  ins.tenant_id,
                  ins.shared,
-                 array_agg(DISTINCT ins.type_id) FILTER (WHERE ins.type_id <> '') AS type_ids,
-                 count(DISTINCT ins.instance_id) AS instance_count
-          FROM %1$s.instance_contributor ins
+                 (
+                     SELECT array_agg(t.type_id ORDER BY t.type_id)
+                     FROM %1$s.instance_contributor_type_count t
+                     WHERE t.contributor_id = ins.contributor_id
+                       AND t.tenant_id = ins.tenant_id
+                       AND t.shared = ins.shared
+                 ) AS type_ids,
+                 ins.instance_count
+          FROM %1$s.instance_contributor_count ins
           INNER JOIN cte ON ins.contributor_id = cte.id
-          GROUP BY cte.id, ins.tenant_id, ins.shared
       ) sub ON c.id = sub.id
       GROUP BY c.id, c.name, c.name_type_id, c.authority_id, c.last_updated_date
       ORDER BY %5$s;
@@ -194,9 +201,8 @@ public class ContributorRepository extends UploadRangeRepository implements Inst
   }
 
   @Override
-  public List<Map<String, Object>> fetchByIdRange(String lower, String upper) {
-    var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper, lower, upper);
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper, lower, upper};
   }
 
   @Override
@@ -205,6 +211,12 @@ public class ContributorRepository extends UploadRangeRepository implements Inst
       ID_RANGE_INS_WHERE_CLAUSE, ID_RANGE_CONTR_WHERE_CLAUSE);
   }
 
+  @Override
+  protected String getFetchUpdatedSinceSql() {
+    return SELECT_QUERY.formatted(JdbcUtils.getSchemaName(context), ID_RANGE_INS_WHERE_CLAUSE,
+      ID_RANGE_CONTR_WHERE_CLAUSE + " AND c.last_updated_date > ?");
+  }
+
   @Override
   protected RowMapper<Map<String, Object>> rowToMapMapper() {
     return (rs, rowNum) -> buildContributorMap(rs);
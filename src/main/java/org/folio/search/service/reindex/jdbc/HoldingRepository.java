@@ -25,7 +25,8 @@ public class HoldingRepository extends MergeRangeRepository {
       DO UPDATE SET
       instance_id = EXCLUDED.instance_id,
       tenant_id = EXCLUDED.tenant_id,
-      json = EXCLUDED.json;
+      json = EXCLUDED.json,
+      last_updated_date = CURRENT_TIMESTAMP;
     """;
 
   private static final String INSERT_STAGING_SQL = """
@@ -33,6 +34,23 @@ public class HoldingRepository extends MergeRangeRepository {
       VALUES (?::uuid, ?, ?::uuid, ?::jsonb, CURRENT_TIMESTAMP);
     """;
 
+  private static final String COPY_TABLE = "pg_temp.merge_copy_holding";
+  private static final String COPY_TABLE_COLUMNS = "id UUID, tenant_id VARCHAR, instance_id UUID, json JSONB";
+  private static final String COPY_SQL = "COPY %s (id, tenant_id, instance_id, json) FROM STDIN";
+
+  private static final String UPSERT_FROM_COPY_SQL = """
+      INSERT INTO %s (id, tenant_id, instance_id, json)
+      SELECT DISTINCT ON (id) id, tenant_id, instance_id, json
+      FROM %s
+      ORDER BY id, copy_seq DESC
+      ON CONFLICT (id, tenant_id)
+      DO UPDATE SET
+      instance_id = EXCLUDED.instance_id,
+      tenant_id = EXCLUDED.tenant_id,
+      json = EXCLUDED.json,
+      last_updated_date = CURRENT_TIMESTAMP;
+    """;
+
   protected HoldingRepository(JdbcTemplate jdbcTemplate, JsonConverter jsonConverter, FolioExecutionContext context,
                               SearchConfigurationProperties searchConfigurationProperties) {
     super(jdbcTemplate, jsonConverter, context, searchConfigurationProperties);
@@ -104,6 +122,21 @@ public class HoldingRepository extends MergeRangeRepository {
     log.debug("Saved {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_HOLDING_TABLE);
   }
 
+  @Override
+  @SuppressWarnings("java:S2077")
+  protected void copyEntitiesToMainRaw(String tenantId, List<RawLine> entities) {
+    var upsertSql = UPSERT_FROM_COPY_SQL.formatted(getFullTableName(context, entityTable()), COPY_TABLE);
+    copyUpsert(COPY_TABLE, COPY_TABLE_COLUMNS, COPY_SQL.formatted(COPY_TABLE), upsertSql, entities,
+      entity -> copyRowValues(tenantId, entity));
+  }
+
+  @Override
+  protected void copyEntitiesToStagingRaw(String tenantId, List<RawLine> entities) {
+    var copySql = COPY_SQL.formatted(getFullTableName(context, ReindexConstants.STAGING_HOLDING_TABLE));
+    copyIn(copySql, entities, entity -> copyRowValues(tenantId, entity));
+    log.debug("Copied {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_HOLDING_TABLE);
+  }
+
   @Override
   public void deleteEntitiesForTenant(List<String> ids, String tenantId) {
     deleteEntitiesForTenant(ids, tenantId, true);
@@ -123,4 +156,8 @@ public class HoldingRepository extends MergeRangeRepository {
   protected Optional<String> stagingEntityTable() {
     return Optional.of(ReindexConstants.STAGING_HOLDING_TABLE);
   }
+
+  private static Object[] copyRowValues(String tenantId, RawLine entity) {
+    return new Object[] {entity.data().get("id"), tenantId, entity.data().get("instanceId"), entity.rawJson()};
+  }
 }
@@ -45,6 +45,25 @@ public class ItemRepository extends MergeRangeRepository {
       VALUES (?::uuid, ?, ?::uuid, ?::uuid, ?::jsonb, CURRENT_TIMESTAMP);
     """;
 
+  private static final String COPY_TABLE = "pg_temp.merge_copy_item";
+  private static final String COPY_TABLE_COLUMNS =
+    "id UUID, tenant_id VARCHAR, instance_id UUID, holding_id UUID, json JSONB";
+  private static final String COPY_SQL = "COPY %s (id, tenant_id, instance_id, holding_id, json) FROM STDIN";
+
+  private static final String UPSERT_FROM_COPY_SQL = """
+      INSERT INTO %s (id, tenant_id, instance_id, holding_id, json)
+      SELECT DISTINCT ON (id) id, tenant_id, instance_id, holding_id, json
+      FROM %s
+      ORDER BY id, copy_seq DESC
+      ON CONFLICT (id, tenant_id)
+      DO UPDATE SET
+      instance_id = EXCLUDED.instance_id,
+      holding_id = EXCLUDED.holding_id,
+      tenant_id = EXCLUDED.tenant_id,
+      json = EXCLUDED.json,
+      last_updated_date = CURRENT_TIMESTAMP;
+    """;
+
   protected ItemRepository(JdbcTemplate jdbcTemplate, JsonConverter jsonConverter, FolioExecutionContext context,
                            SearchConfigurationProperties searchConfigurationProperties) {
     super(jdbcTemplate, jsonConverter, context, searchConfigurationProperties);
@@ -96,6 +115,21 @@ public class ItemRepository extends MergeRangeRepository {
     log.debug("Saved {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_ITEM_TABLE);
   }
 
+  @Override
+  @SuppressWarnings("java:S2077")
+  protected void copyEntitiesToMainRaw(String tenantId, List<RawLine> entities) {
+    var upsertSql = UPSERT_FROM_COPY_SQL.formatted(getFullTableName(context, entityTable()), COPY_TABLE);
+    copyUpsert(COPY_TABLE, COPY_TABLE_COLUMNS, COPY_SQL.formatted(COPY_TABLE), upsertSql, entities,
+      entity -> copyRowValues(tenantId, entity));
+  }
+
+  @Override
+  protected void copyEntitiesToStagingRaw(String tenantId, List<RawLine> entities) {
+    var copySql = COPY_SQL.formatted(getFullTableName(context, ReindexConstants.STAGING_ITEM_TABLE));
+    copyIn(copySql, entities, entity -> copyRowValues(tenantId, entity));
+    log.debug("Copied {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_ITEM_TABLE);
+  }
+
   @Override
   @SuppressWarnings("java:S2077")
   protected void saveEntitiesToMain(String tenantId, List<Map<String, Object>> entities) {
@@ -140,6 +174,11 @@ public class ItemRepository extends MergeRangeRepository {
     return fetchByTimestamp(SELECT_BY_UPDATED_QUERY, itemRowMapper(), timestamp, fromId, limit, tenant);
   }
 
+  private static Object[] copyRowValues(String tenantId, RawLine entity) {
+    return new Object[] {entity.data().get("id"), tenantId, entity.data().get("instanceId"),
+      entity.data().get("holdingsRecordId"), entity.rawJson()};
+  }
+
   private RowMapper<Map<String, Object>> itemRowMapper() {
     return (rs, rowNum) -> {
       var item = jsonConverter.fromJsonToMap(rs.getString("json"));
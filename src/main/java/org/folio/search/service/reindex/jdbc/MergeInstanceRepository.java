@@ -38,6 +38,24 @@ public class MergeInstanceRepository extends MergeRangeRepository {
       VALUES (?::uuid, ?, ?, ?, ?::jsonb, CURRENT_TIMESTAMP);
     """;
 
+  private static final String COPY_TABLE = "pg_temp.merge_copy_instance";
+  private static final String COPY_TABLE_COLUMNS =
+    "id UUID, tenant_id VARCHAR, shared BOOLEAN, is_bound_with BOOLEAN, json JSONB";
+  private static final String COPY_SQL = "COPY %s (id, tenant_id, shared, is_bound_with, json) FROM STDIN";
+
+  private static final String UPSERT_FROM_COPY_SQL = """
+      INSERT INTO %s (id, tenant_id, shared, is_bound_with, json)
+      SELECT DISTINCT ON (id) id, tenant_id, shared, is_bound_with, json
+      FROM %s
+      ORDER BY id, copy_seq DESC
+      ON CONFLICT (id)
+      DO UPDATE SET shared = EXCLUDED.shared,
+      tenant_id = EXCLUDED.tenant_id,
+      is_bound_with = EXCLUDED.is_bound_with,
+      json = EXCLUDED.json,
+      last_updated_date = CURRENT_TIMESTAMP;
+    """;
+
   private static final String UPDATE_BOUND_WITH_SQL = """
     UPDATE %s SET is_bound_with = ? WHERE id = ?::uuid;
     """;
@@ -115,6 +133,23 @@ public class MergeInstanceRepository extends MergeRangeRepository {
     log.debug("Saved {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_INSTANCE_TABLE);
   }
 
+  @Override
+  @SuppressWarnings("java:S2077")
+  protected void copyEntitiesToMainRaw(String tenantId, List<RawLine> entities) {
+    var upsertSql = UPSERT_FROM_COPY_SQL.formatted(getFullTableName(context, entityTable()), COPY_TABLE);
+    var shared = consortiumTenantProvider.isCentralTenant(tenantId);
+    copyUpsert(COPY_TABLE, COPY_TABLE_COLUMNS, COPY_SQL.formatted(COPY_TABLE), upsertSql, entities,
+      entity -> copyRowValues(tenantId, shared, entity));
+  }
+
+  @Override
+  protected void copyEntitiesToStagingRaw(String tenantId, List<RawLine> entities) {
+    var copySql = COPY_SQL.formatted(getFullTableName(context, ReindexConstants.STAGING_INSTANCE_TABLE));
+    var shared = consortiumTenantProvider.isCentralTenant(tenantId);
+    copyIn(copySql, entities, entity -> copyRowValues(tenantId, shared, entity));
+    log.debug("Copied {} entities to staging table {}", entities.size(), ReindexConstants.STAGING_INSTANCE_TABLE);
+  }
+
   @Override
   @SuppressWarnings("java:S2077")
   protected void saveEntitiesToMain(String tenantId, List<Map<String, Object>> entities) {
@@ -180,6 +215,11 @@ public class MergeInstanceRepository extends MergeRangeRepository {
     return fetchByTimestamp(SELECT_BY_UPDATED_QUERY, instanceRowMapper(), timestamp, fromId, limit, tenant);
   }
 
+  private static Object[] copyRowValues(String tenantId, boolean shared, RawLine entity) {
+    return new Object[] {entity.data().get("id"), tenantId, shared,
+      entity.data().getOrDefault("isBoundWith", false), entity.rawJson()};
+  }
+
   private RowMapper<Map<String, Object>> instanceRowMapper() {
     return (rs, rowNum) -> {
       var instance = jsonConverter.fromJsonToMap(rs.getString("json"));
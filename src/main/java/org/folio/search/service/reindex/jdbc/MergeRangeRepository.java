@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.model.reindex.MergeRangeEntity;
 import org.folio.search.model.types.ReindexEntityType;
@@ -16,10 +18,13 @@ import org.folio.search.service.reindex.ReindexContext;
 import org.folio.search.utils.JdbcUtils;
 import org.folio.search.utils.JsonConverter;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.annotation.Transactional;
 
+@Log4j2
 public abstract class MergeRangeRepository extends ReindexJdbcRepository {
 
   private static final String DELETE_SQL = """
@@ -47,6 +52,10 @@ public abstract class MergeRangeRepository extends ReindexJdbcRepository {
 
   private static final String SELECT_FAILED_MERGE_RANGES = "SELECT * FROM %s WHERE status = 'FAIL';";
 
+  private static final String CREATE_COPY_TABLE_SQL =
+    "CREATE TEMP TABLE IF NOT EXISTS %s (%s, copy_seq BIGSERIAL);";
+  private static final String TRUNCATE_COPY_TABLE_SQL = "TRUNCATE %s;";
+
   private final boolean instanceChildrenIndexEnabled;
 
   protected MergeRangeRepository(JdbcTemplate jdbcTemplate,
@@ -115,6 +124,26 @@ public abstract class MergeRangeRepository extends ReindexJdbcRepository {
     }
   }
 
+  /**
+   * Saves raw entities using PostgreSQL COPY instead of batched inserts. Falls back to
+   * {@link #saveEntitiesRaw(String, List)} if the COPY based load fails.
+   *
+   * @param tenantId tenant id of the entities
+   * @param entities raw entities to save
+   */
+  public void copyEntitiesRaw(String tenantId, List<RawLine> entities) {
+    try {
+      if (ReindexContext.isReindexMode() && ReindexContext.getMemberTenantId() != null) {
+        copyEntitiesToStagingRaw(tenantId, entities);
+      } else {
+        copyEntitiesToMainRaw(tenantId, entities);
+      }
+    } catch (DataAccessException e) {
+      log.warn("copyEntitiesRaw:: Failed to copy entities batch. Falling back to batch insert", e);
+      saveEntitiesRaw(tenantId, entities);
+    }
+  }
+
   protected abstract void saveEntitiesToMain(String tenantId, List<Map<String, Object>> entities);
 
   protected abstract void saveEntitiesToStaging(String tenantId, List<Map<String, Object>> entities);
@@ -123,6 +152,49 @@ public abstract class MergeRangeRepository extends ReindexJdbcRepository {
 
   protected abstract void saveEntitiesToStagingRaw(String tenantId, List<RawLine> entities);
 
+  protected abstract void copyEntitiesToMainRaw(String tenantId, List<RawLine> entities);
+
+  protected abstract void copyEntitiesToStagingRaw(String tenantId, List<RawLine> entities);
+
+  /**
+   * Copies rows directly to the table using COPY FROM STDIN.
+   *
+   * @param copySql   COPY statement with column list matching row values
+   * @param rows      rows to copy
+   * @param rowValues function returning column values of a row
+   */
+  protected <T> void copyIn(String copySql, List<T> rows, Function<T, Object[]> rowValues) {
+    jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+      PgCopyUtils.copyIn(connection, copySql, rows, rowValues));
+  }
+
+  /**
+   * Upserts rows by copying them to a session-scoped temporary table and moving them to the target table with a single
+   * INSERT ... SELECT statement. Temporary tables are not WAL-logged, and the upsert statement is expected to select
+   * the latest copied row per key using the {@code copy_seq} column.
+   *
+   * @param copyTable         temporary table name
+   * @param columnDefinitions temporary table column definitions
+   * @param copySql           COPY statement to the temporary table
+   * @param upsertSql         INSERT ... SELECT ... ON CONFLICT statement reading the temporary table
+   * @param rows              rows to upsert
+   * @param rowValues         function returning column values of a row
+   */
+  @SuppressWarnings("java:S2077")
+  protected <T> void copyUpsert(String copyTable, String columnDefinitions, String copySql, String upsertSql,
+                                List<T> rows, Function<T, Object[]> rowValues) {
+    jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+      try (var statement = connection.createStatement()) {
+        statement.execute(CREATE_COPY_TABLE_SQL.formatted(copyTable, columnDefinitions));
+        statement.execute(TRUNCATE_COPY_TABLE_SQL.formatted(copyTable));
+        PgCopyUtils.copyIn(connection, copySql, rows, rowValues);
+        statement.executeUpdate(upsertSql);
+        statement.execute(TRUNCATE_COPY_TABLE_SQL.formatted(copyTable));
+      }
+      return null;
+    });
+  }
+
   @Transactional
   public void deleteEntitiesForTenant(List<String> ids, String tenantId) {
     var hard = !instanceChildrenIndexEnabled;
@@ -0,0 +1,92 @@
+package org.folio.search.service.reindex.jdbc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Streams rows to PostgreSQL using {@code COPY ... FROM STDIN} in the text format.
+ *
+ * <p>Rows are serialized to a reusable buffer and written to the copy stream in chunks, so no statement parameters
+ * are bound per row.</p>
+ */
+@UtilityClass
+class PgCopyUtils {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String NULL_VALUE = "\\N";
+
+  /**
+   * Copies rows to the table using the given {@code COPY ... FROM STDIN} statement.
+   *
+   * @param connection - database connection
+   * @param copySql    - COPY statement with column list matching row values
+   * @param rows       - rows to copy
+   * @param rowValues  - function returning column values of a row, in the column list order
+   * @return the number of copied rows
+   * @throws SQLException if copy operation failed
+   */
+  static <T> long copyIn(Connection connection, String copySql, Collection<T> rows,
+                         Function<T, Object[]> rowValues) throws SQLException {
+    var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+    try {
+      var buffer = new StringBuilder(BUFFER_SIZE);
+      for (var row : rows) {
+        appendRow(buffer, rowValues.apply(row));
+        if (buffer.length() >= BUFFER_SIZE) {
+          flush(copyIn, buffer);
+        }
+      }
+      flush(copyIn, buffer);
+      return copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  static void appendRow(StringBuilder buffer, Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.append('\t');
+      }
+      appendValue(buffer, values[i]);
+    }
+    buffer.append('\n');
+  }
+
+  private static void appendValue(StringBuilder buffer, Object value) {
+    if (value == null) {
+      buffer.append(NULL_VALUE);
+      return;
+    }
+
+    var stringValue = value.toString();
+    for (int i = 0; i < stringValue.length(); i++) {
+      var c = stringValue.charAt(i);
+      switch (c) {
+        case '\\' -> buffer.append("\\\\");
+        case '\n' -> buffer.append("\\n");
+        case '\r' -> buffer.append("\\r");
+        case '\t' -> buffer.append("\\t");
+        default -> buffer.append(c);
+      }
+    }
+  }
+
+  private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    var bytes = buffer.toString().getBytes(UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+}
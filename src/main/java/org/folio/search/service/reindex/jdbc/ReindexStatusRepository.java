@@ -76,6 +76,15 @@ public class ReindexStatusRepository {
     WHERE entity_type = ?;
     """;
 
+  // the status trigger completes the upload in the update that processes the last range, and the row lock lets
+  // exactly one concurrent update observe it
+  private static final String ADD_PROCESSED_UPLOAD_RANGES_SQL = """
+    UPDATE %s
+    SET processed_upload_ranges = processed_upload_ranges + ?
+    WHERE entity_type = ?
+    RETURNING status = 'UPLOAD_COMPLETED' AND processed_upload_ranges = total_upload_ranges;
+    """;
+
   private static final String QUERY_TWO_COLUMNS_PLACEHOLDER = "%s = ?, %s = ?";
 
   private static final String SELECT_MERGE_STATUS_SQL = "SELECT check_merge_completed_status()";
@@ -120,6 +129,19 @@ public class ReindexStatusRepository {
     jdbcTemplate.update(sql, processedMergeRanges, processedUploadRanges, entityType.name());
   }
 
+  /**
+   * Adds processed upload ranges to the status record of the entity type.
+   *
+   * @return true if the update completed the upload
+   */
+  public boolean addProcessedUploadRanges(ReindexEntityType entityType, int processedUploadRanges) {
+    var fullTableName = getFullTableName(context, REINDEX_STATUS_TABLE);
+    var sql = ADD_PROCESSED_UPLOAD_RANGES_SQL.formatted(fullTableName);
+
+    return Boolean.TRUE.equals(jdbcTemplate.query(sql, rs -> rs.next() && rs.getBoolean(1),
+      processedUploadRanges, entityType.name()));
+  }
+
   public void truncate() {
     var fullTableName = getFullTableName(context, REINDEX_STATUS_TABLE);
     String sql = "TRUNCATE TABLE %s;".formatted(fullTableName);
@@ -55,15 +55,11 @@ public class SubjectRepository extends UploadRangeRepository implements Instance
                 ins.subject_id,
                 ins.tenant_id,
                 ins.shared,
-                COUNT(1) AS instance_count
+                ins.instance_count
             FROM
-                %1$s.instance_subject ins
+                %1$s.instance_subject_count ins
             WHERE
                 %2$s
-            GROUP BY
-                ins.subject_id,
-                ins.tenant_id,
-                ins.shared
         ) sub
     JOIN
         %1$s.subject s ON s.id = sub.subject_id
@@ -107,10 +103,9 @@ public class SubjectRepository extends UploadRangeRepository implements Instance
           SELECT cte.id,
                  ins.tenant_id,
                  ins.shared,
-                 count(1) AS instance_count
-          FROM %1$s.instance_subject ins
+                 ins.instance_count
+          FROM %1$s.instance_subject_count ins
           INNER JOIN cte ON ins.subject_id = cte.id
-          GROUP BY cte.id, ins.tenant_id, ins.shared
       ) sub ON s.id = sub.id
       GROUP BY s.id, s.value, s.authority_id, s.source_id, s.type_id, s.last_updated_date
       ORDER BY %5$s;
@@ -196,9 +191,8 @@ public class SubjectRepository extends UploadRangeRepository implements Instance
   }
 
   @Override
-  public List<Map<String, Object>> fetchByIdRange(String lower, String upper) {
-    var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper, lower, upper);
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper, lower, upper};
   }
 
   @Override
@@ -218,6 +212,12 @@ public class SubjectRepository extends UploadRangeRepository implements Instance
       ID_RANGE_SUBJ_WHERE_CLAUSE);
   }
 
+  @Override
+  protected String getFetchUpdatedSinceSql() {
+    return SELECT_QUERY.formatted(JdbcUtils.getSchemaName(context), ID_RANGE_INS_WHERE_CLAUSE,
+      ID_RANGE_SUBJ_WHERE_CLAUSE + " AND s.last_updated_date > ?");
+  }
+
   @Override
   protected RowMapper<Map<String, Object>> rowToMapMapper() {
     return (rs, rowNum) -> buildSubjectMap(rs);
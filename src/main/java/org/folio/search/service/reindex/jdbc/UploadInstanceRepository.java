@@ -61,6 +61,11 @@ public class UploadInstanceRepository extends UploadRangeRepository {
     """;
 
   private static final String IDS_RANGE_WHERE_CLAUSE = "%1$s >= ?::uuid AND %1$s <= ?::uuid";
+  private static final String UPDATED_SINCE_WHERE_CLAUSE = """
+     AND (i.last_updated_date > ?
+            OR EXISTS (SELECT 1 FROM %1$s uh WHERE uh.instance_id = i.id AND uh.last_updated_date > ?)
+            OR EXISTS (SELECT 1 FROM %2$s uit WHERE uit.instance_id = i.id AND uit.last_updated_date > ?))""";
+
   private static final String INSTANCE_IDS_WHERE_CLAUSE = "%s IN (%s)";
   private static final String ITEM_NOT_DELETED_FILTER = " AND it.is_deleted = false";
   private static final String INSTANCE_NOT_DELETED_FILTER = "i.is_deleted = false AND ";
@@ -99,6 +104,31 @@ public class UploadInstanceRepository extends UploadRangeRepository {
                  combined.is_bound_with, combined.json
         """;
 
+  private static final String WEIGHTED_RANGE_BOUNDARIES_SQL = """
+        WITH holding_weight AS (
+          SELECT instance_id, SUM(pg_column_size(json)) AS weight
+          FROM %2$s
+          GROUP BY instance_id
+        ),
+        item_weight AS (
+          SELECT instance_id, SUM(pg_column_size(json)) AS weight
+          FROM %3$s
+          GROUP BY instance_id
+        ),
+        weighted_instance AS (
+          SELECT i.id,
+                 COALESCE(SUM(pg_column_size(i.json) + COALESCE(hw.weight, 0) + COALESCE(iw.weight, 0))
+                   OVER (ORDER BY i.id ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0) / ?::bigint AS bucket
+          FROM %1$s i
+          LEFT JOIN holding_weight hw ON hw.instance_id = i.id
+          LEFT JOIN item_weight iw ON iw.instance_id = i.id
+        )
+        SELECT DISTINCT ON (bucket) id::text AS lower_id
+        FROM weighted_instance
+        WHERE bucket > 0
+        ORDER BY bucket, id;
+    """;
+
   private final ConsortiumTenantService consortiumTenantService;
 
   protected UploadInstanceRepository(JdbcTemplate jdbcTemplate, JsonConverter jsonConverter,
@@ -224,8 +254,12 @@ public class UploadInstanceRepository extends UploadRangeRepository {
     }
 
     // Full reindex: Standard fetch from main tables
-    var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper, lower, upper, lower, upper);
+    return super.fetchByIdRange(lower, upper);
+  }
+
+  @Override
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper, lower, upper, lower, upper};
   }
 
   @Override
@@ -241,6 +275,29 @@ public class UploadInstanceRepository extends UploadRangeRepository {
       instanceWhereClause);
   }
 
+  /**
+   * Returns the range query limited to instances changed after the given time, or having holdings or items changed
+   * after it, so the instance document is uploaded with the changed holdings and items.
+   */
+  @Override
+  protected String getFetchUpdatedSinceSql() {
+    var holdingTable = getFullTableName(context, "holding");
+    var itemTable = getFullTableName(context, "item");
+    var instanceWhereClause = IDS_RANGE_WHERE_CLAUSE.formatted("i.id") + " "
+                              + UPDATED_SINCE_WHERE_CLAUSE.formatted(holdingTable, itemTable);
+    return SELECT_SQL_TEMPLATE.formatted(getFullTableName(context, entityTable()),
+      holdingTable,
+      itemTable,
+      IDS_RANGE_WHERE_CLAUSE.formatted("h.instance_id"),
+      IDS_RANGE_WHERE_CLAUSE.formatted("it.instance_id"),
+      instanceWhereClause);
+  }
+
+  @Override
+  protected Object[] getFetchUpdatedSinceArgs(String lower, String upper, Timestamp updatedSince) {
+    return new Object[] {lower, upper, lower, upper, lower, upper, updatedSince, updatedSince, updatedSince};
+  }
+
   @Override
   protected RowMapper<Map<String, Object>> rowToMapMapper() {
     return (rs, rowNum) -> jsonConverter.fromJsonToMap(rs.getString("json"));
@@ -248,11 +305,33 @@ public class UploadInstanceRepository extends UploadRangeRepository {
 
   @Override
   protected List<RangeGenerator.Range> createRanges() {
+    var targetBytes = reindexConfig.getUploadRangeTargetBytes();
+    if (targetBytes > 0) {
+      return createWeightedRanges(targetBytes);
+    }
+
     var uploadRangeSize = reindexConfig.getUploadRangeSize();
     var rangesCount = (int) Math.ceil((double) countEntities() / uploadRangeSize);
     return RangeGenerator.createUuidRanges(rangesCount);
   }
 
+  /**
+   * Creates instance ranges of (approximately) equal stored size: instances are ordered by id and accumulated with the
+   * size of their holdings and items, a new range is started each time the accumulated size reaches the target.
+   * The first range always starts at "00...0", so the first bucket doesn't produce a boundary of its own.
+   */
+  @SuppressWarnings("java:S2077")
+  private List<RangeGenerator.Range> createWeightedRanges(long targetBytes) {
+    var sql = WEIGHTED_RANGE_BOUNDARIES_SQL.formatted(getFullTableName(context, entityTable()),
+      getFullTableName(context, "holding"),
+      getFullTableName(context, "item"));
+    var boundaries = jdbcTemplate.queryForList(sql, String.class, targetBytes);
+    var ranges = RangeGenerator.createUuidRanges(boundaries);
+    log.info("createWeightedRanges:: created instance ranges [targetBytes: {}, ranges: {}]",
+      targetBytes, ranges.size());
+    return ranges;
+  }
+
   @Override
   public List<Map<String, Object>> fetchByIdRangeWithTimestamp(String lower, String upper, Timestamp timestamp) {
     // Instances are not child resources and don't need timestamp filtering for member tenant reindex
@@ -13,9 +13,12 @@ import static org.folio.search.utils.JdbcUtils.getFullTableName;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.ArrayUtils;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.model.reindex.UploadRangeEntity;
 import org.folio.search.model.types.ReindexEntityType;
@@ -23,8 +26,10 @@ import org.folio.search.model.types.ReindexRangeStatus;
 import org.folio.search.service.reindex.RangeGenerator;
 import org.folio.search.utils.JsonConverter;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
 
 public abstract class UploadRangeRepository extends ReindexJdbcRepository {
 
@@ -73,16 +78,74 @@ public abstract class UploadRangeRepository extends ReindexJdbcRepository {
 
   public List<Map<String, Object>> fetchByIdRange(String lower, String upper) {
     var sql = getFetchBySql();
-    return jdbcTemplate.query(sql, rowToMapMapper(), lower, upper);
+    return jdbcTemplate.query(sql, rowToMapMapper(), getFetchByArgs(lower, upper));
+  }
+
+  /**
+   * Streams records of the given id range in chunks. Records are read through a server-side cursor with the
+   * configured fetch size, so at most one chunk of records is held in memory at once.
+   *
+   * @param lower         - lower bound of the id range
+   * @param upper         - upper bound of the id range
+   * @param chunkSize     - maximum number of records passed to the consumer at once
+   * @param chunkConsumer - consumer of record chunks
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S2077")
+  public void streamByIdRange(String lower, String upper, int chunkSize,
+                              Consumer<List<Map<String, Object>>> chunkConsumer) {
+    var rowMapper = rowToMapMapper();
+    var argsSetter = new ArgumentPreparedStatementSetter(getFetchByArgs(lower, upper));
+    var fetchSize = reindexConfig.getUploadRangeFetchSize();
+    var chunk = new ArrayList<Map<String, Object>>(chunkSize);
+    var rowNum = new int[1];
+
+    jdbcTemplate.query(getFetchBySql(), statement -> {
+      statement.setFetchSize(fetchSize);
+      argsSetter.setValues(statement);
+    }, resultSet -> {
+      chunk.add(rowMapper.mapRow(resultSet, rowNum[0]++));
+      if (chunk.size() >= chunkSize) {
+        chunkConsumer.accept(List.copyOf(chunk));
+        chunk.clear();
+      }
+    });
+
+    if (!chunk.isEmpty()) {
+      chunkConsumer.accept(List.copyOf(chunk));
+    }
   }
 
   public abstract List<Map<String, Object>> fetchByIdRangeWithTimestamp(String lower, String upper,
                                                                         Timestamp timestamp);
 
+  /**
+   * Fetches records of the given id range that were changed after the given time.
+   *
+   * @param lower        - lower bound of the id range
+   * @param upper        - upper bound of the id range
+   * @param updatedSince - records with last update time before or equal to this time are skipped
+   * @return list of record maps
+   */
+  public List<Map<String, Object>> fetchByIdRangeUpdatedSince(String lower, String upper, Timestamp updatedSince) {
+    return jdbcTemplate.query(getFetchUpdatedSinceSql(), rowToMapMapper(),
+      getFetchUpdatedSinceArgs(lower, upper, updatedSince));
+  }
+
   protected String getFetchBySql() {
     return SELECT_RECORD_SQL.formatted(getFullTableName(context, entityTable()));
   }
 
+  protected Object[] getFetchByArgs(String lower, String upper) {
+    return new Object[] {lower, upper};
+  }
+
+  protected abstract String getFetchUpdatedSinceSql();
+
+  protected Object[] getFetchUpdatedSinceArgs(String lower, String upper, Timestamp updatedSince) {
+    return ArrayUtils.add(getFetchByArgs(lower, upper), updatedSince);
+  }
+
   @Override
   protected String rangeTable() {
     return UPLOAD_RANGE_TABLE;
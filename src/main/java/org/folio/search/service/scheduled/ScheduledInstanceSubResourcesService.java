@@ -6,9 +6,13 @@ import static org.apache.commons.collections4.MapUtils.getString;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
@@ -30,6 +34,7 @@ import org.folio.search.service.reindex.jdbc.SubResourceResult;
 import org.folio.search.service.reindex.jdbc.SubResourcesLockRepository;
 import org.folio.search.service.reindex.jdbc.TenantRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -48,6 +53,9 @@ public class ScheduledInstanceSubResourcesService {
   private final EgressExecutionContextService executionService;
   private final int subResourceBatchSize;
   private final long staleLockThresholdMs;
+  private final SubResourceIndexBuffer indexBuffer;
+  private final int processingParallelism;
+  private final ExecutorService processingExecutor;
   private InstanceChildrenResourceService instanceChildrenResourceService;
 
   public ScheduledInstanceSubResourcesService(ResourceService resourceService,
@@ -58,7 +66,9 @@ public class ScheduledInstanceSubResourcesService {
                                               EgressExecutionContextService executionService,
                                               MergeInstanceRepository instanceRepository,
                                               ItemRepository itemRepository,
-                                              SearchConfigurationProperties searchConfigurationProperties) {
+                                              SearchConfigurationProperties searchConfigurationProperties,
+                                              @Qualifier("subResourceProcessingExecutor")
+                                              ExecutorService processingExecutor) {
     this.resourceService = resourceService;
     this.tenantRepository = tenantRepository;
     this.repositories = buildRepositoriesMap(repositories, instanceRepository, itemRepository);
@@ -67,6 +77,9 @@ public class ScheduledInstanceSubResourcesService {
     this.executionService = executionService;
     this.subResourceBatchSize = searchConfigurationProperties.getIndexing().getSubResourceBatchSize();
     this.staleLockThresholdMs = searchConfigurationProperties.getIndexing().getStaleLockThresholdMs();
+    this.indexBuffer = new SubResourceIndexBuffer(searchConfigurationProperties.getIndexing());
+    this.processingParallelism = searchConfigurationProperties.getIndexing().getSubResourceProcessingParallelism();
+    this.processingExecutor = processingExecutor;
     this.instanceChildrenResourceService = null;
   }
 
@@ -79,11 +92,12 @@ public class ScheduledInstanceSubResourcesService {
   public void persistChildren() {
     log.info("persistChildren::Starting instance children processing");
     try {
-      tenantRepository.fetchDataTenantIds()
-        .forEach(tenant -> executionService.execute(tenant, () -> {
-          processAllEntityTypes(tenant);
-          return null;
-        }));
+      var tenants = tenantRepository.fetchDataTenantIds();
+      if (processingParallelism > 1) {
+        processTenantsInParallel(tenants);
+      } else {
+        tenants.forEach(tenant -> processEntityTypes(tenant, repositories.keySet()));
+      }
 
       log.debug("persistChildren::Finished instance children processing");
     } catch (BadSqlGrammarException e) {
@@ -111,8 +125,43 @@ public class ScheduledInstanceSubResourcesService {
     return repositoriesMap;
   }
 
-  private void processAllEntityTypes(String tenant) {
-    repositories.keySet().forEach(entityType -> processEntityTypeWithLock(entityType, tenant));
+  /**
+   * Processes tenants concurrently on the bounded sub-resource executor, which limits global concurrency.
+   *
+   * <p>Instances and items of a tenant are processed first, then each child entity type becomes a separate unit,
+   * the same order the sequential cycle uses, so child locks are not requested while the parent lock is held. All
+   * tenants are submitted before any child unit, and a tenant never has more units in flight than it has child entity
+   * types, so a slow tenant cannot take over the executor.</p>
+   */
+  private void processTenantsInParallel(List<String> tenants) {
+    var parentTypes = repositories.keySet().stream().filter(this::isInstanceOrItemEntity).toList();
+    var childTypes = repositories.keySet().stream().filter(type -> !isInstanceOrItemEntity(type)).toList();
+    var futures = tenants.stream()
+      .map(tenant -> runAsync(tenant, parentTypes)
+        .thenCompose(ignored -> CompletableFuture.allOf(childTypes.stream()
+          .map(childType -> runAsync(tenant, List.of(childType)))
+          .toArray(CompletableFuture[]::new))))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<Void> runAsync(String tenant, Collection<ReindexEntityType> entityTypes) {
+    return CompletableFuture.runAsync(() -> processEntityTypes(tenant, entityTypes), processingExecutor);
+  }
+
+  private void processEntityTypes(String tenant, Collection<ReindexEntityType> entityTypes) {
+    executionService.execute(tenant, () -> {
+      entityTypes.forEach(entityType -> processEntityTypeWithLock(entityType, tenant));
+      return null;
+    });
   }
 
   private void processEntityTypeWithLock(ReindexEntityType entityType, String tenant) {
@@ -163,13 +212,18 @@ public class ScheduledInstanceSubResourcesService {
 
   private void processSubResources(ReindexEntityType entityType, String tenant, Timestamp timestamp) {
     var loopResult = new ProcessingLoopResult();
+    loopResult.startTimestamp = timestamp;
     try {
       runProcessingLoop(entityType, tenant, timestamp, loopResult);
+      flushBufferedSubResources(entityType, tenant);
     } catch (Exception e) {
       log.error("processSubResources::Error processing {} entities", entityType, e);
     } finally {
       if (!loopResult.preempted) {
-        releaseProcessingLock(entityType, tenant, timestamp, loopResult.lastResult, loopResult.fencingToken);
+        releaseProcessingLock(entityType, tenant, loopResult.startTimestamp, loopResult.lastResult,
+          loopResult.fencingToken);
+      } else if (isBuffered(entityType)) {
+        indexBuffer.discard(tenant, entityType);
       }
     }
   }
@@ -179,6 +233,14 @@ public class ScheduledInstanceSubResourcesService {
     String lastId = null;
     Timestamp lastTimestamp = timestamp;
     loopResult.fencingToken = timestamp;
+    if (isBuffered(entityType)) {
+      var cursor = indexBuffer.resumeCursor(tenant, entityType, timestamp);
+      if (cursor != null) {
+        lastId = cursor.id();
+        lastTimestamp = cursor.timestamp();
+        loopResult.startTimestamp = cursor.timestamp();
+      }
+    }
 
     do {
       var batchResult = fetchSubResourceBatch(entityType, tenant, timestamp, lastId, lastTimestamp);
@@ -217,6 +279,8 @@ public class ScheduledInstanceSubResourcesService {
   private void processBatch(ReindexEntityType entityType, String tenant, SubResourceResult result) {
     if (isInstanceOrItemEntity(entityType)) {
       processInstanceOrItemEntities(entityType, tenant, result);
+    } else if (isBuffered(entityType)) {
+      indexBuffer.add(tenant, entityType, result.records(), result.lastUpdateDate());
     } else {
       processChildResourceEntities(entityType, tenant, result);
     }
@@ -231,6 +295,27 @@ public class ScheduledInstanceSubResourcesService {
     resourceService.indexResources(events);
   }
 
+  private boolean isBuffered(ReindexEntityType entityType) {
+    return indexBuffer.isEnabled() && !isInstanceOrItemEntity(entityType);
+  }
+
+  private void flushBufferedSubResources(ReindexEntityType entityType, String tenant) {
+    if (!isBuffered(entityType)) {
+      return;
+    }
+
+    var flushed = indexBuffer.flushIfReady(tenant, entityType, subResourceBatchSize,
+      records -> resourceService.indexResources(mapToResourceEvents(records, entityType, tenant)));
+    if (flushed > 0) {
+      log.debug("flushBufferedSubResources::Indexed {} buffered {} entities for tenant {}",
+        flushed, entityType, tenant);
+    }
+  }
+
+  private Timestamp holdBackWatermark(ReindexEntityType entityType, String tenant, Timestamp watermark) {
+    return isBuffered(entityType) ? indexBuffer.holdBack(tenant, entityType, watermark) : watermark;
+  }
+
   private boolean hasMoreBatches(SubResourceResult result) {
     return result.records().size() == subResourceBatchSize;
   }
@@ -238,9 +323,13 @@ public class ScheduledInstanceSubResourcesService {
   private Timestamp updateLockForNextBatch(ReindexEntityType entityType, String tenant,
                                            SubResourceResult result, Timestamp lastTimestamp,
                                            Timestamp fencingToken) {
-    var currentTimestamp = result.lastUpdateDate() != null ? result.lastUpdateDate() : lastTimestamp;
+    var currentTimestamp = holdBackWatermark(entityType, tenant,
+      result.lastUpdateDate() != null ? result.lastUpdateDate() : lastTimestamp);
     var refreshed = subResourcesLockRepository.updateLockTimestampFenced(entityType, currentTimestamp, tenant,
       fencingToken);
+    if (refreshed && isBuffered(entityType)) {
+      indexBuffer.onWatermarkPersisted(tenant, entityType, currentTimestamp);
+    }
     return refreshed ? currentTimestamp : null;
   }
 
@@ -251,9 +340,12 @@ public class ScheduledInstanceSubResourcesService {
 
   private void releaseProcessingLock(ReindexEntityType entityType, String tenant,
                                      Timestamp timestamp, SubResourceResult result, Timestamp fencingToken) {
-    var lastUpdatedDate = determineLastUpdatedDate(timestamp, result);
+    var lastUpdatedDate = holdBackWatermark(entityType, tenant, determineLastUpdatedDate(timestamp, result));
     var released = subResourcesLockRepository.unlockSubResourceFenced(entityType, lastUpdatedDate, tenant,
       fencingToken);
+    if (released && isBuffered(entityType)) {
+      indexBuffer.onWatermarkPersisted(tenant, entityType, lastUpdatedDate);
+    }
     if (!released) {
       log.warn("releaseProcessingLock::Lock for entity type {} in tenant {} was preempted "
                + "(reindex started). Skipping unlock.", entityType, tenant);
@@ -387,6 +479,10 @@ public class ScheduledInstanceSubResourcesService {
      * ({@code forceLockAllForReindex} bumps the timestamp so this token goes stale).
      */
     private Timestamp fencingToken;
+    /**
+     * The timestamp the scan started from: the lock watermark or the in-memory cursor of the index buffer.
+     */
+    private Timestamp startTimestamp;
     private boolean preempted;
   }
 }
@@ -0,0 +1,220 @@
+package org.folio.search.service.scheduled;
+
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
+import org.folio.search.model.types.ReindexEntityType;
+
+/**
+ * In-memory write-behind buffer for sub-resource documents (subjects, contributors, classifications, etc.).
+ *
+ * <p>Documents fetched by the scheduled timestamp scan are coalesced by (tenant, entity type, id): a document
+ * fetched again before the buffer is flushed replaces the previous version, so frequently updated sub-resources are
+ * indexed once per flush instead of once per scheduler cycle. The buffer is flushed when it reaches the configured
+ * size or when the oldest document exceeds the configured delay, using batches sized to the amount of pending
+ * documents.</p>
+ *
+ * <p>The database timestamp watermark stays the source of truth: the watermark persisted in the sub-resource lock is
+ * held back to the earliest pending document, so buffered documents lost on restart are fetched again by the next
+ * scan. The in-memory scan cursor is used only while the persisted watermark is the one written by this instance.</p>
+ */
+public class SubResourceIndexBuffer {
+
+  private static final String LAST_UPDATED_DATE_FIELD = "lastUpdatedDate";
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final long maxDelayMs;
+  private final int maxBatchSize;
+  private final LongSupplier clock;
+  private final Map<BufferKey, BufferState> states = new ConcurrentHashMap<>();
+
+  public SubResourceIndexBuffer(IndexingSettings indexingSettings) {
+    this(indexingSettings, System::currentTimeMillis);
+  }
+
+  SubResourceIndexBuffer(IndexingSettings indexingSettings, LongSupplier clock) {
+    this.enabled = indexingSettings.isSubResourceBufferEnabled();
+    this.maxSize = Math.max(1, indexingSettings.getSubResourceBufferMaxSize());
+    this.maxDelayMs = Math.max(0L, indexingSettings.getSubResourceBufferMaxDelayMs());
+    this.maxBatchSize = Math.max(1, indexingSettings.getSubResourceBufferMaxBatchSize());
+    this.clock = clock;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the in-memory scan cursor if the persisted watermark was written by this buffer, otherwise drops the
+   * buffered state for the tenant and entity type, because another instance has already scanned those records.
+   *
+   * @param tenant        - tenant id
+   * @param entityType    - sub-resource entity type
+   * @param lockTimestamp - watermark returned by the sub-resource lock
+   * @return scan cursor to continue from, null if the scan must start from the lock watermark
+   */
+  public ScanCursor resumeCursor(String tenant, ReindexEntityType entityType, Timestamp lockTimestamp) {
+    var key = new BufferKey(tenant, entityType);
+    var state = states.get(key);
+    if (state == null) {
+      return null;
+    }
+    synchronized (state) {
+      if (!Objects.equals(state.persistedWatermark, lockTimestamp)) {
+        states.remove(key);
+        return null;
+      }
+      return state.cursor;
+    }
+  }
+
+  /**
+   * Adds fetched sub-resource records to the buffer and moves the scan cursor to the last record.
+   *
+   * @param tenant     - tenant id
+   * @param entityType - sub-resource entity type
+   * @param records    - records ordered by last updated date and id
+   * @param lastUpdate - last updated date of the last record
+   */
+  public void add(String tenant, ReindexEntityType entityType, List<Map<String, Object>> records,
+                  Timestamp lastUpdate) {
+    if (records.isEmpty()) {
+      return;
+    }
+    var state = states.computeIfAbsent(new BufferKey(tenant, entityType), key -> new BufferState());
+    synchronized (state) {
+      for (var recordMap : records) {
+        var id = getString(recordMap, ID_FIELD);
+        var pending = state.pending.get(id);
+        var firstSeen = pending != null ? pending.firstSeen() : lastUpdateOf(recordMap, lastUpdate);
+        state.pending.put(id, new PendingRecord(recordMap, firstSeen));
+      }
+      if (state.firstAddedAt == null) {
+        state.firstAddedAt = clock.getAsLong();
+      }
+      state.cursor = new ScanCursor(lastUpdate, getString(records.getLast(), ID_FIELD));
+    }
+  }
+
+  /**
+   * Returns the watermark that can be persisted without skipping buffered records.
+   *
+   * @param tenant     - tenant id
+   * @param entityType - sub-resource entity type
+   * @param watermark  - watermark reached by the scan
+   * @return the given watermark or a timestamp right before the earliest buffered record
+   */
+  public Timestamp holdBack(String tenant, ReindexEntityType entityType, Timestamp watermark) {
+    var state = states.get(new BufferKey(tenant, entityType));
+    if (state == null) {
+      return watermark;
+    }
+    synchronized (state) {
+      var earliest = state.pending.values().stream()
+        .map(PendingRecord::firstSeen)
+        .filter(Objects::nonNull)
+        .min(Timestamp::compareTo)
+        .orElse(null);
+      if (earliest == null || watermark != null && watermark.before(earliest)) {
+        return watermark;
+      }
+      return new Timestamp(earliest.getTime() - 1);
+    }
+  }
+
+  /**
+   * Remembers the watermark persisted to the sub-resource lock, so the next cycle can resume from the cursor.
+   */
+  public void onWatermarkPersisted(String tenant, ReindexEntityType entityType, Timestamp watermark) {
+    var state = states.get(new BufferKey(tenant, entityType));
+    if (state != null) {
+      synchronized (state) {
+        state.persistedWatermark = watermark;
+      }
+    }
+  }
+
+  /**
+   * Flushes buffered records if the size or delay threshold is reached. Records are removed from the buffer only
+   * after the consumer processed their batch, so a failed flush is retried in the next cycle.
+   *
+   * @param tenant     - tenant id
+   * @param entityType - sub-resource entity type
+   * @param minBatch   - minimal flush batch size
+   * @param consumer   - consumer indexing a batch of records
+   * @return number of flushed records
+   */
+  public int flushIfReady(String tenant, ReindexEntityType entityType, int minBatch,
+                          Consumer<List<Map<String, Object>>> consumer) {
+    var state = states.get(new BufferKey(tenant, entityType));
+    if (state == null) {
+      return 0;
+    }
+    synchronized (state) {
+      if (!isReady(state)) {
+        return 0;
+      }
+
+      var records = new ArrayList<Map<String, Object>>(state.pending.size());
+      state.pending.values().forEach(pending -> records.add(pending.data()));
+      var flushed = 0;
+      for (var batch : ListUtils.partition(records, getBatchSize(records.size(), minBatch))) {
+        consumer.accept(batch);
+        batch.forEach(recordMap -> state.pending.remove(getString(recordMap, ID_FIELD)));
+        flushed += batch.size();
+      }
+      state.firstAddedAt = null;
+      return flushed;
+    }
+  }
+
+  /**
+   * Drops buffered state for the tenant and entity type, e.g. when the lock was preempted by a reindex.
+   */
+  public void discard(String tenant, ReindexEntityType entityType) {
+    states.remove(new BufferKey(tenant, entityType));
+  }
+
+  int size(String tenant, ReindexEntityType entityType) {
+    var state = states.get(new BufferKey(tenant, entityType));
+    return state == null ? 0 : state.pending.size();
+  }
+
+  private boolean isReady(BufferState state) {
+    return !state.pending.isEmpty()
+      && (state.pending.size() >= maxSize || clock.getAsLong() - state.firstAddedAt >= maxDelayMs);
+  }
+
+  private int getBatchSize(int pendingSize, int minBatch) {
+    return Math.min(maxBatchSize, Math.max(minBatch, pendingSize));
+  }
+
+  private static Timestamp lastUpdateOf(Map<String, Object> recordMap, Timestamp defaultValue) {
+    return recordMap.get(LAST_UPDATED_DATE_FIELD) instanceof Timestamp timestamp ? timestamp : defaultValue;
+  }
+
+  public record ScanCursor(Timestamp timestamp, String id) { }
+
+  private record BufferKey(String tenant, ReindexEntityType entityType) { }
+
+  private record PendingRecord(Map<String, Object> data, Timestamp firstSeen) { }
+
+  private static final class BufferState {
+    private final Map<String, PendingRecord> pending = new LinkedHashMap<>();
+    private ScanCursor cursor;
+    private Timestamp persistedWatermark;
+    private Long firstAddedAt;
+  }
+}
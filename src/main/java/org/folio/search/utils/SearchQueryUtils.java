@@ -57,7 +57,7 @@ public class SearchQueryUtils {
       if (!isFilterQuery(innerQuery, check)) {
         return false;
       }
-      var currentFieldName = ((TermQueryBuilder) innerQuery).fieldName();
+      var currentFieldName = getFilterFieldName(innerQuery);
       if (baseFieldName == null) {
         baseFieldName = currentFieldName;
       }
@@ -81,6 +81,16 @@ public class SearchQueryUtils {
       || query instanceof RangeQueryBuilder rangeQueryBuilder && check.test(rangeQueryBuilder.fieldName());
   }
 
+  private static String getFilterFieldName(QueryBuilder query) {
+    if (query instanceof TermsQueryBuilder termsQueryBuilder) {
+      return termsQueryBuilder.fieldName();
+    }
+    if (query instanceof RangeQueryBuilder rangeQueryBuilder) {
+      return rangeQueryBuilder.fieldName();
+    }
+    return ((TermQueryBuilder) query).fieldName();
+  }
+
   /**
    * Creates subject count query from given subject list.
    *
@@ -241,17 +241,30 @@ public class SearchUtils {
    * @return created multi-language value as {@link Map}
    */
   public static Map<String, Object> getMultilangValue(String key, Object value, List<String> languages) {
-    var multilangValueMap = new LinkedHashMap<String, Object>(languages.size(), CONST_SIZE_LOAD_FACTOR);
+    var resultMap = new LinkedHashMap<String, Object>(2, CONST_SIZE_LOAD_FACTOR);
+    putMultilangValue(resultMap, key, PLAIN_FULLTEXT_PREFIX + key, value, languages);
+    return resultMap;
+  }
+
+  /**
+   * Puts multi-language field value and its plain value to the given target map.
+   *
+   * @param target    target map to put values in
+   * @param key       name of multi-language field as {@link String} object
+   * @param plainKey  name of the plain field for multi-language value as {@link String} object
+   * @param value     multi-language field value as {@link Object} object
+   * @param languages list of languages for multilang field
+   */
+  public static void putMultilangValue(Map<String, Object> target, String key, String plainKey, Object value,
+                                       List<String> languages) {
+    var multilangValueMap = new LinkedHashMap<String, Object>(languages.size() + 1, CONST_SIZE_LOAD_FACTOR);
     var multilangValue = getMultilangValueObject(value);
 
     languages.forEach(language -> multilangValueMap.put(language, multilangValue));
     multilangValueMap.put(MULTILANG_SOURCE_SUBFIELD, multilangValue);
 
-    var resultMap = new LinkedHashMap<String, Object>(2, CONST_SIZE_LOAD_FACTOR);
-    resultMap.put(key, multilangValueMap);
-    resultMap.put(PLAIN_FULLTEXT_PREFIX + key, getPlainValueObject(value));
-
-    return resultMap;
+    target.put(key, multilangValueMap);
+    target.put(plainKey, getPlainValueObject(value));
   }
 
   /**
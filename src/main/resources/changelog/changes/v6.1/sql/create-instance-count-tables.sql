@@ -0,0 +1,60 @@
+-- aggregate count tables
+CREATE TABLE IF NOT EXISTS instance_subject_count
+(
+    subject_id     VARCHAR(40)  NOT NULL,
+    tenant_id      VARCHAR(100) NOT NULL,
+    shared         BOOLEAN      NOT NULL,
+    instance_count BIGINT       NOT NULL,
+    CONSTRAINT instance_subject_count_pk PRIMARY KEY (subject_id, tenant_id, shared)
+);
+
+CREATE TABLE IF NOT EXISTS instance_classification_count
+(
+    classification_id VARCHAR(40)  NOT NULL,
+    tenant_id         VARCHAR(100) NOT NULL,
+    shared            BOOLEAN      NOT NULL,
+    instance_count    BIGINT       NOT NULL,
+    CONSTRAINT instance_classification_count_pk PRIMARY KEY (classification_id, tenant_id, shared)
+);
+
+CREATE TABLE IF NOT EXISTS instance_contributor_count
+(
+    contributor_id VARCHAR(40)  NOT NULL,
+    tenant_id      VARCHAR(100) NOT NULL,
+    shared         BOOLEAN      NOT NULL,
+    instance_count BIGINT       NOT NULL,
+    CONSTRAINT instance_contributor_count_pk PRIMARY KEY (contributor_id, tenant_id, shared)
+);
+
+-- relation counts per contributor type, used to keep the list of contributor type ids
+CREATE TABLE IF NOT EXISTS instance_contributor_type_count
+(
+    contributor_id VARCHAR(40)  NOT NULL,
+    tenant_id      VARCHAR(100) NOT NULL,
+    shared         BOOLEAN      NOT NULL,
+    type_id        VARCHAR(40)  NOT NULL,
+    relation_count BIGINT       NOT NULL,
+    CONSTRAINT instance_contributor_type_count_pk PRIMARY KEY (contributor_id, tenant_id, shared, type_id)
+);
+
+-- initial counts
+INSERT INTO instance_subject_count (subject_id, tenant_id, shared, instance_count)
+SELECT subject_id, tenant_id, shared, COUNT(1)
+FROM instance_subject
+GROUP BY subject_id, tenant_id, shared;
+
+INSERT INTO instance_classification_count (classification_id, tenant_id, shared, instance_count)
+SELECT classification_id, tenant_id, shared, COUNT(1)
+FROM instance_classification
+GROUP BY classification_id, tenant_id, shared;
+
+INSERT INTO instance_contributor_count (contributor_id, tenant_id, shared, instance_count)
+SELECT contributor_id, tenant_id, shared, COUNT(DISTINCT instance_id)
+FROM instance_contributor
+GROUP BY contributor_id, tenant_id, shared;
+
+INSERT INTO instance_contributor_type_count (contributor_id, tenant_id, shared, type_id, relation_count)
+SELECT contributor_id, tenant_id, shared, type_id, COUNT(1)
+FROM instance_contributor
+WHERE type_id <> ''
+GROUP BY contributor_id, tenant_id, shared, type_id;
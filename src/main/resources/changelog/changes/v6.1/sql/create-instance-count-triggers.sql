@@ -0,0 +1,279 @@
+-- subject counts
+-- count rows are always locked in key order to avoid deadlocks between concurrent statements
+CREATE OR REPLACE FUNCTION instance_subject_count_insert_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO instance_subject_count AS c (subject_id, tenant_id, shared, instance_count)
+    SELECT subject_id, tenant_id, shared, COUNT(1)
+    FROM new_relations
+    GROUP BY subject_id, tenant_id, shared
+    ORDER BY subject_id, tenant_id, shared
+    ON CONFLICT (subject_id, tenant_id, shared)
+        DO UPDATE SET instance_count = c.instance_count + EXCLUDED.instance_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_subject_count_delete_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM 1
+    FROM instance_subject_count c
+    WHERE (c.subject_id, c.tenant_id, c.shared) IN (SELECT subject_id, tenant_id, shared FROM old_relations)
+    ORDER BY c.subject_id, c.tenant_id, c.shared
+    FOR UPDATE;
+
+    UPDATE instance_subject_count c
+    SET instance_count = c.instance_count - d.instance_count
+    FROM (SELECT subject_id, tenant_id, shared, COUNT(1) AS instance_count
+          FROM old_relations
+          GROUP BY subject_id, tenant_id, shared) d
+    WHERE c.subject_id = d.subject_id AND c.tenant_id = d.tenant_id AND c.shared = d.shared;
+
+    DELETE
+    FROM instance_subject_count c
+    WHERE c.instance_count <= 0
+      AND (c.subject_id, c.tenant_id, c.shared) IN (SELECT subject_id, tenant_id, shared FROM old_relations);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_subject_count_truncate_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    TRUNCATE instance_subject_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS instance_subject_count_insert ON instance_subject CASCADE;
+CREATE TRIGGER instance_subject_count_insert
+    AFTER INSERT
+    ON instance_subject
+    REFERENCING NEW TABLE AS new_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_subject_count_insert_trigger();
+
+DROP TRIGGER IF EXISTS instance_subject_count_delete ON instance_subject CASCADE;
+CREATE TRIGGER instance_subject_count_delete
+    AFTER DELETE
+    ON instance_subject
+    REFERENCING OLD TABLE AS old_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_subject_count_delete_trigger();
+
+DROP TRIGGER IF EXISTS instance_subject_count_truncate ON instance_subject CASCADE;
+CREATE TRIGGER instance_subject_count_truncate
+    AFTER TRUNCATE
+    ON instance_subject
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_subject_count_truncate_trigger();
+
+-- classification counts
+CREATE OR REPLACE FUNCTION instance_classification_count_insert_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO instance_classification_count AS c (classification_id, tenant_id, shared, instance_count)
+    SELECT classification_id, tenant_id, shared, COUNT(1)
+    FROM new_relations
+    GROUP BY classification_id, tenant_id, shared
+    ORDER BY classification_id, tenant_id, shared
+    ON CONFLICT (classification_id, tenant_id, shared)
+        DO UPDATE SET instance_count = c.instance_count + EXCLUDED.instance_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_classification_count_delete_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM 1
+    FROM instance_classification_count c
+    WHERE (c.classification_id, c.tenant_id, c.shared) IN
+          (SELECT classification_id, tenant_id, shared FROM old_relations)
+    ORDER BY c.classification_id, c.tenant_id, c.shared
+    FOR UPDATE;
+
+    UPDATE instance_classification_count c
+    SET instance_count = c.instance_count - d.instance_count
+    FROM (SELECT classification_id, tenant_id, shared, COUNT(1) AS instance_count
+          FROM old_relations
+          GROUP BY classification_id, tenant_id, shared) d
+    WHERE c.classification_id = d.classification_id AND c.tenant_id = d.tenant_id AND c.shared = d.shared;
+
+    DELETE
+    FROM instance_classification_count c
+    WHERE c.instance_count <= 0
+      AND (c.classification_id, c.tenant_id, c.shared) IN
+          (SELECT classification_id, tenant_id, shared FROM old_relations);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_classification_count_truncate_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    TRUNCATE instance_classification_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS instance_classification_count_insert ON instance_classification CASCADE;
+CREATE TRIGGER instance_classification_count_insert
+    AFTER INSERT
+    ON instance_classification
+    REFERENCING NEW TABLE AS new_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_classification_count_insert_trigger();
+
+DROP TRIGGER IF EXISTS instance_classification_count_delete ON instance_classification CASCADE;
+CREATE TRIGGER instance_classification_count_delete
+    AFTER DELETE
+    ON instance_classification
+    REFERENCING OLD TABLE AS old_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_classification_count_delete_trigger();
+
+DROP TRIGGER IF EXISTS instance_classification_count_truncate ON instance_classification CASCADE;
+CREATE TRIGGER instance_classification_count_truncate
+    AFTER TRUNCATE
+    ON instance_classification
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_classification_count_truncate_trigger();
+
+-- contributor counts
+-- an instance is counted once per contributor, so the distinct instance count changes only when the first
+-- relation of the instance is inserted or the last one is deleted
+CREATE OR REPLACE FUNCTION instance_contributor_count_insert_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    -- the count rows are created or locked first: a concurrent statement inserting relations of the same contributor
+    -- waits for this transaction, and its first relation check below then sees the relations committed by it
+    INSERT INTO instance_contributor_count AS c (contributor_id, tenant_id, shared, instance_count)
+    SELECT DISTINCT contributor_id, tenant_id, shared, 0
+    FROM new_relations
+    ORDER BY contributor_id, tenant_id, shared
+    ON CONFLICT (contributor_id, tenant_id, shared)
+        DO UPDATE SET instance_count = c.instance_count;
+
+    UPDATE instance_contributor_count c
+    SET instance_count = c.instance_count + d.instance_count
+    FROM (SELECT n.contributor_id, n.tenant_id, n.shared, COUNT(1) AS instance_count
+          FROM (SELECT contributor_id, instance_id, tenant_id, shared, COUNT(1) AS relation_count
+                FROM new_relations
+                GROUP BY contributor_id, instance_id, tenant_id, shared) n
+          WHERE n.relation_count = (SELECT COUNT(1)
+                                    FROM instance_contributor ic
+                                    WHERE ic.contributor_id = n.contributor_id
+                                      AND ic.instance_id = n.instance_id
+                                      AND ic.tenant_id = n.tenant_id)
+          GROUP BY n.contributor_id, n.tenant_id, n.shared) d
+    WHERE c.contributor_id = d.contributor_id AND c.tenant_id = d.tenant_id AND c.shared = d.shared;
+
+    DELETE
+    FROM instance_contributor_count c
+    WHERE c.instance_count <= 0
+      AND (c.contributor_id, c.tenant_id, c.shared) IN (SELECT contributor_id, tenant_id, shared FROM new_relations);
+
+    INSERT INTO instance_contributor_type_count AS c (contributor_id, tenant_id, shared, type_id, relation_count)
+    SELECT contributor_id, tenant_id, shared, type_id, COUNT(1)
+    FROM new_relations
+    WHERE type_id <> ''
+    GROUP BY contributor_id, tenant_id, shared, type_id
+    ORDER BY contributor_id, tenant_id, shared, type_id
+    ON CONFLICT (contributor_id, tenant_id, shared, type_id)
+        DO UPDATE SET relation_count = c.relation_count + EXCLUDED.relation_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_contributor_count_delete_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM 1
+    FROM instance_contributor_count c
+    WHERE (c.contributor_id, c.tenant_id, c.shared) IN (SELECT contributor_id, tenant_id, shared FROM old_relations)
+    ORDER BY c.contributor_id, c.tenant_id, c.shared
+    FOR UPDATE;
+
+    UPDATE instance_contributor_count c
+    SET instance_count = c.instance_count - d.instance_count
+    FROM (SELECT o.contributor_id, o.tenant_id, o.shared, COUNT(1) AS instance_count
+          FROM (SELECT DISTINCT contributor_id, instance_id, tenant_id, shared FROM old_relations) o
+          WHERE NOT EXISTS (SELECT 1
+                            FROM instance_contributor ic
+                            WHERE ic.contributor_id = o.contributor_id
+                              AND ic.instance_id = o.instance_id
+                              AND ic.tenant_id = o.tenant_id)
+          GROUP BY o.contributor_id, o.tenant_id, o.shared) d
+    WHERE c.contributor_id = d.contributor_id AND c.tenant_id = d.tenant_id AND c.shared = d.shared;
+
+    DELETE
+    FROM instance_contributor_count c
+    WHERE c.instance_count <= 0
+      AND (c.contributor_id, c.tenant_id, c.shared) IN (SELECT contributor_id, tenant_id, shared FROM old_relations);
+
+    PERFORM 1
+    FROM instance_contributor_type_count c
+    WHERE (c.contributor_id, c.tenant_id, c.shared, c.type_id) IN
+          (SELECT contributor_id, tenant_id, shared, type_id FROM old_relations)
+    ORDER BY c.contributor_id, c.tenant_id, c.shared, c.type_id
+    FOR UPDATE;
+
+    UPDATE instance_contributor_type_count c
+    SET relation_count = c.relation_count - d.relation_count
+    FROM (SELECT contributor_id, tenant_id, shared, type_id, COUNT(1) AS relation_count
+          FROM old_relations
+          WHERE type_id <> ''
+          GROUP BY contributor_id, tenant_id, shared, type_id) d
+    WHERE c.contributor_id = d.contributor_id AND c.tenant_id = d.tenant_id AND c.shared = d.shared
+      AND c.type_id = d.type_id;
+
+    DELETE
+    FROM instance_contributor_type_count c
+    WHERE c.relation_count <= 0
+      AND (c.contributor_id, c.tenant_id, c.shared, c.type_id) IN
+          (SELECT contributor_id, tenant_id, shared, type_id FROM old_relations);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION instance_contributor_count_truncate_trigger()
+    RETURNS TRIGGER AS
+$$
+BEGIN
+    TRUNCATE instance_contributor_count, instance_contributor_type_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS instance_contributor_count_insert ON instance_contributor CASCADE;
+CREATE TRIGGER instance_contributor_count_insert
+    AFTER INSERT
+    ON instance_contributor
+    REFERENCING NEW TABLE AS new_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_contributor_count_insert_trigger();
+
+DROP TRIGGER IF EXISTS instance_contributor_count_delete ON instance_contributor CASCADE;
+CREATE TRIGGER instance_contributor_count_delete
+    AFTER DELETE
+    ON instance_contributor
+    REFERENCING OLD TABLE AS old_relations
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_contributor_count_delete_trigger();
+
+DROP TRIGGER IF EXISTS instance_contributor_count_truncate ON instance_contributor CASCADE;
+CREATE TRIGGER instance_contributor_count_truncate
+    AFTER TRUNCATE
+    ON instance_contributor
+    FOR EACH STATEMENT
+EXECUTE FUNCTION instance_contributor_count_truncate_trigger();
@@ -1,19 +1,28 @@
 package org.folio.search.controller;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.folio.support.TestConstants.INDEX_NAME;
 import static org.folio.support.TestConstants.TENANT_ID;
 import static org.folio.support.utils.TestUtils.randomId;
 import static org.folio.support.utils.TestUtils.searchResult;
 import static org.folio.support.utils.TestUtils.searchServiceRequest;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.stream.Stream;
+import org.folio.search.converter.RawSearchResultHttpMessageConverter;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.LinkedDataHub;
@@ -26,6 +35,7 @@ import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.config.TestNoOpCacheConfig;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -41,7 +51,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
 @WebMvcTest(SearchController.class)
-@Import({ApiExceptionHandler.class, TestNoOpCacheConfig.class})
+@Import({ApiExceptionHandler.class, RawSearchResultHttpMessageConverter.class, TestNoOpCacheConfig.class})
 class SearchControllerTest {
 
   @MockitoBean
@@ -82,6 +92,30 @@ class SearchControllerTest {
       .andExpect(jsonPath(jsonDataPath).exists());
   }
 
+  @Test
+  void searchInstances_positive_rawSourceResponse() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var expectedSearchRequest = searchServiceRequest(Instance.class, TENANT_ID, cqlQuery, true, 100);
+    var searchResult = "{\"totalRecords\":1,\"instances\":[{\"id\":\"id1\"}]}";
+    when(searchService.isRawSourceResponseSupported(expectedSearchRequest)).thenReturn(true);
+    when(searchService.searchRaw(expectedSearchRequest, "instances"))
+      .thenReturn(output -> writeBytes(output, searchResult.getBytes(UTF_8)));
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .queryParam("expandAll", "true")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(jsonPath("$.instances[0].id", is("id1")));
+    verify(searchService, never()).search(any());
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {
     "/search/instances",
@@ -207,6 +241,14 @@ class SearchControllerTest {
       .andExpect(jsonPath("$.errors[0].code", is("service_error")));
   }
 
+  private static void writeBytes(OutputStream output, byte[] bytes) {
+    try {
+      output.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private static Stream<Arguments> provideSearchPaths() {
     return Stream.of(
       Arguments.of(Instance.class, "/search/instances", false, 100, "$.instances"),
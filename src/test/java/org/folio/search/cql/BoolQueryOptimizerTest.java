@@ -0,0 +1,139 @@
+package org.folio.search.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.existsQuery;
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
+
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BoolQueryOptimizerTest {
+
+  private final BoolQueryOptimizer optimizer = new BoolQueryOptimizer();
+
+  @Test
+  void optimize_positive_nonBoolQueryIsNotChanged() {
+    var query = termQuery("f1", "v1");
+    assertThat(optimizer.optimize(query)).isSameAs(query);
+  }
+
+  @Test
+  void optimize_positive_sameFieldTermQueriesAreFolded() {
+    var query = boolQuery()
+      .should(termQuery("f1", "v1"))
+      .should(termQuery("f2", "v2"))
+      .should(termQuery("f1", "v3"))
+      .should(termsQuery("f1", "v4", "v1"));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery()
+      .should(termsQuery("f1", "v1", "v3", "v4"))
+      .should(termQuery("f2", "v2")));
+  }
+
+  @Test
+  void optimize_positive_singleFieldDisjunctionIsReplacedByTermsQuery() {
+    var query = boolQuery()
+      .should(termQuery("f1", "v1"))
+      .should(boolQuery().should(termQuery("f1", "v2")).should(termQuery("f1", "v3")));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(termsQuery("f1", "v1", "v2", "v3"));
+  }
+
+  @Test
+  void optimize_positive_boostedDisjunctionIsKept() {
+    var query = boolQuery().should(termQuery("f1", "v1")).should(termQuery("f1", "v2")).boost(2.0f);
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery().should(termsQuery("f1", "v1", "v2")).boost(2.0f));
+  }
+
+  @Test
+  void optimize_positive_duplicateClausesAreRemoved() {
+    var query = boolQuery()
+      .must(matchQuery("f1", "v1"))
+      .must(matchQuery("f1", "v1"))
+      .mustNot(termQuery("f2", "v2"))
+      .mustNot(termQuery("f2", "v2"));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery().must(matchQuery("f1", "v1")).mustNot(termQuery("f2", "v2")));
+  }
+
+  @Test
+  void optimize_positive_commonClausesAreHoisted() {
+    var query = boolQuery()
+      .should(boolQuery().must(termQuery("f1", "v1")).must(matchQuery("f2", "v2")))
+      .should(boolQuery().must(termQuery("f1", "v1")).must(matchQuery("f2", "v3")));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery()
+      .must(termQuery("f1", "v1"))
+      .must(boolQuery().should(matchQuery("f2", "v2")).should(matchQuery("f2", "v3"))));
+  }
+
+  @Test
+  void optimize_positive_remainingTermQueriesAreFoldedAfterHoisting() {
+    var query = boolQuery()
+      .should(boolQuery().must(matchQuery("f1", "v1")).must(termQuery("id", "1")))
+      .should(boolQuery().must(matchQuery("f1", "v1")).must(termQuery("id", "2")));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery()
+      .must(matchQuery("f1", "v1"))
+      .filter(termsQuery("id", "1", "2")));
+  }
+
+  @Test
+  void optimize_positive_alwaysTrueDisjunctionIsDropped() {
+    var query = boolQuery()
+      .should(boolQuery().must(matchQuery("f1", "v1")).must(matchQuery("f2", "v2")))
+      .should(boolQuery().must(matchQuery("f1", "v1")));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery().must(matchQuery("f1", "v1")));
+  }
+
+  @Test
+  void optimize_positive_commonRangeClausesAreNotHoisted() {
+    var query = boolQuery()
+      .should(boolQuery().must(rangeQuery("f1").gt(1)).must(matchQuery("f2", "v2")))
+      .should(boolQuery().must(rangeQuery("f1").gt(1)).must(matchQuery("f2", "v3")));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery()
+      .should(boolQuery().must(rangeQuery("f1").gt(1)).must(matchQuery("f2", "v2")))
+      .should(boolQuery().must(rangeQuery("f1").gt(1)).must(matchQuery("f2", "v3"))));
+  }
+
+  @Test
+  void optimize_positive_constantScoreClausesAreMovedToFilter() {
+    var query = boolQuery()
+      .must(matchQuery("f1", "v1"))
+      .must(existsQuery("f2"))
+      .must(rangeQuery("f3").gt(1))
+      .must(termsQuery("f4", "v4", "v5"));
+
+    var actual = optimizer.optimize(query);
+
+    assertThat(actual).isEqualTo(boolQuery()
+      .must(matchQuery("f1", "v1"))
+      .must(rangeQuery("f3").gt(1))
+      .filter(existsQuery("f2"))
+      .filter(termsQuery("f4", "v4", "v5")));
+  }
+}
@@ -14,6 +14,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.MultiMatchQueryBuilder.Type.CROSS_FIELDS;
 import static org.opensearch.index.query.MultiMatchQueryBuilder.Type.PHRASE;
@@ -27,12 +29,15 @@ import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
 import static org.opensearch.search.sort.SortBuilders.fieldSort;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverterTest.ConverterTestConfiguration;
 import org.folio.search.cql.searchterm.SearchTermProcessor;
 import org.folio.search.exception.RequestValidationException;
@@ -49,6 +54,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.index.query.MatchQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -70,6 +76,12 @@ class CqlSearchQueryConverterTest {
 
   @Autowired
   private CqlSearchQueryConverter cqlSearchQueryConverter;
+  @Autowired
+  private CqlQueryParser cqlQueryParser;
+  @Autowired
+  private CqlTermQueryConverter cqlTermQueryConverter;
+  @Autowired
+  private BoolQueryOptimizer boolQueryOptimizer;
   @MockitoBean
   private LocalSearchFieldProvider searchFieldProvider;
   @MockitoBean
@@ -210,6 +222,34 @@ class CqlSearchQueryConverterTest {
     assertThat(actual).isEqualTo(searchSource().query(matchQuery(FIELD, "1 23").operator(AND)));
   }
 
+  @Test
+  void convert_positive_cachedQueryIsCopied() {
+    when(searchFieldProvider.getFields(UNKNOWN, FIELD)).thenReturn(emptyList());
+    when(searchFieldProvider.getPlainFieldByPath(UNKNOWN, FIELD)).thenReturn(Optional.of(keywordField()));
+    var converter = cachingConverter();
+
+    var first = converter.convert(FIELD + " all value", UNKNOWN);
+    ((MatchQueryBuilder) first.query()).operator(OR);
+    var second = converter.convert(" " + FIELD + " all value ", UNKNOWN);
+
+    assertThat(second).isEqualTo(searchSource().query(matchQuery(FIELD, "value").operator(AND)));
+    verify(searchFieldProvider, times(2)).getModifiedField(FIELD, UNKNOWN);
+  }
+
+  @Test
+  void convert_positive_tenantSpecificSearchTermIsNotCached() {
+    when(searchFieldProvider.getFields(UNKNOWN, FIELD)).thenReturn(emptyList());
+    when(searchFieldProvider.getPlainFieldByPath(UNKNOWN, FIELD)).thenReturn(
+      Optional.of(keywordFieldWithProcessor("tenantSearchTermProcessor")));
+    var converter = cachingConverter();
+
+    converter.convert(FIELD + " = value", UNKNOWN);
+    var actual = converter.convert(FIELD + " = value", UNKNOWN);
+
+    assertThat(actual).isEqualTo(searchSource().query(matchQuery(FIELD, "VALUE").operator(AND)));
+    verify(searchFieldProvider, times(4)).getModifiedField(FIELD, UNKNOWN);
+  }
+
   @Test
   void convert_positive_boolQueryWithFilters() {
     doReturn(Optional.of(keywordField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "title");
@@ -312,6 +352,38 @@ class CqlSearchQueryConverterTest {
       .filter(boolQuery().should(termQuery("f1", "v3")).should(termQuery("f1", "v4")))));
   }
 
+  @Test
+  void convert_positive_mixedFieldDisjunctionFilterQuery() {
+    doReturn(Optional.of(filterField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "source");
+    doReturn(Optional.of(filterField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "languages");
+
+    var actual = optimizingConverter().convert("source==MARC or source==FOLIO or languages==eng", UNKNOWN);
+
+    assertThat(actual).isEqualTo(searchSource().query(boolQuery()
+      .should(termsQuery("source", "MARC", "FOLIO"))
+      .should(termQuery("languages", "eng"))));
+  }
+
+  @Test
+  void convert_positive_sameFieldDisjunctionIsFoldedToTermsQuery() {
+    doReturn(Optional.of(keywordField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "id");
+    var ids = IntStream.range(0, 300).mapToObj(i -> "id" + i).toArray(String[]::new);
+
+    var actual = optimizingConverter().convert("id==(" + String.join(" or ", ids) + ")", UNKNOWN);
+
+    assertThat(actual).isEqualTo(searchSource().query(termsQuery("id", ids)));
+  }
+
+  @Test
+  void convert_positive_sameFieldDisjunctionIsNotFoldedWhenOptimizationDisabled() {
+    doReturn(Optional.of(keywordField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "id");
+
+    var actual = cqlSearchQueryConverter.convert("id==(id1 or id2)", UNKNOWN);
+
+    assertThat(actual).isEqualTo(searchSource().query(
+      boolQuery().should(termQuery("id", "id1")).should(termQuery("id", "id2"))));
+  }
+
   @Test
   void convert_positive_boolQueryWithRangeCondition() {
     doReturn(Optional.of(filterField())).when(searchFieldProvider).getPlainFieldByPath(UNKNOWN, "f1");
@@ -480,6 +552,20 @@ class CqlSearchQueryConverterTest {
     return QueryBuilders.wildcardQuery(field, query).rewrite("constant_score");
   }
 
+  private CqlSearchQueryConverter cachingConverter() {
+    var config = new SearchQueryConfigurationProperties();
+    config.setQueryCacheEnabled(true);
+    return new CqlSearchQueryConverter(cqlQueryParser, cqlSortProvider, searchFieldProvider, cqlTermQueryConverter,
+      consortiumSearchHelper, boolQueryOptimizer, config);
+  }
+
+  private CqlSearchQueryConverter optimizingConverter() {
+    var config = new SearchQueryConfigurationProperties();
+    config.setBoolQueryOptimizationEnabled(true);
+    return new CqlSearchQueryConverter(cqlQueryParser, cqlSortProvider, searchFieldProvider, cqlTermQueryConverter,
+      consortiumSearchHelper, boolQueryOptimizer, config);
+  }
+
   private static PlainFieldDescription keywordFieldWithProcessor(String processorName) {
     var fieldDescription = keywordField();
     fieldDescription.setSearchTermProcessor(processorName);
@@ -491,7 +577,8 @@ class CqlSearchQueryConverterTest {
   }
 
   @TestConfiguration
-  @Import({CqlTermQueryConverter.class, CqlQueryParser.class})
+  @Import({CqlTermQueryConverter.class, CqlQueryParser.class, BoolQueryOptimizer.class,
+           SearchQueryConfigurationProperties.class})
   @ComponentScan("org.folio.search.cql.builders")
   static class ConverterTestConfiguration {
 
@@ -504,5 +591,20 @@ class CqlSearchQueryConverterTest {
     SearchTermProcessor oclcSearchTermProcessor() {
       return inputTerm -> inputTerm.replaceAll("0", "");
     }
+
+    @Bean
+    SearchTermProcessor tenantSearchTermProcessor() {
+      return new SearchTermProcessor() {
+        @Override
+        public Object getSearchTerm(String inputTerm) {
+          return inputTerm.toUpperCase();
+        }
+
+        @Override
+        public boolean isCacheable() {
+          return false;
+        }
+      };
+    }
   }
 }
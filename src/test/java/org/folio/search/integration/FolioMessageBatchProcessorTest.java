@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.integration.message.FolioMessageBatchProcessor;
 import org.folio.search.model.Pair;
 import org.folio.spring.testing.type.UnitTest;
@@ -30,8 +31,9 @@ class FolioMessageBatchProcessorTest {
   private final RetryTemplate retryTemplate = spy(getRetryTemplate(3));
   private final RetryTemplate customRetryTemplate = spy(getRetryTemplate(5));
 
+  private final SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
   private final FolioMessageBatchProcessor folioMessageBatchProcessor = new FolioMessageBatchProcessor(
-    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate);
+    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate, searchConfigurationProperties);
 
   @Test
   void consumeBatchWithFallback_positive() {
@@ -123,6 +125,50 @@ class FolioMessageBatchProcessorTest {
     });
   }
 
+  @Test
+  void consumeBatchWithFallback_positive_bisectFailedBatch() {
+    searchConfigurationProperties.getIndexing().setBatchFallbackBisectEnabled(true);
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    var batchSizes = new ArrayList<Integer>();
+    folioMessageBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3, 4, 5, 6, 7, 8), null,
+      values -> {
+        batchSizes.add(values.size());
+        if (values.contains(6)) {
+          throw new RuntimeException("error");
+        }
+        consumedMessages.addAll(values);
+      }, (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(1, 2, 3, 4, 5, 7, 8);
+    assertThat(failedMessages).hasSize(1).satisfies(list -> verifyFailedMessage(list.getFirst(), 6));
+    assertThat(batchSizes).containsExactly(8, 8, 8, 8, 4, 4, 2, 1, 1, 1, 1, 1, 1, 2);
+  }
+
+  @Test
+  void consumeBatchWithFallback_positive_bisectDownToMinBatchSize() {
+    searchConfigurationProperties.getIndexing().setBatchFallbackBisectEnabled(true);
+    searchConfigurationProperties.getIndexing().setBatchFallbackMinBatchSize(4);
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    folioMessageBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3, 4, 5, 6, 7, 8), null,
+      values -> {
+        if (values.contains(2)) {
+          throw new RuntimeException("error");
+        }
+        consumedMessages.addAll(values);
+      }, (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(1, 3, 4, 5, 6, 7, 8);
+    assertThat(failedMessages).hasSize(1).satisfies(list -> verifyFailedMessage(list.getFirst(), 2));
+  }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var properties = new SearchConfigurationProperties();
+    properties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    return properties;
+  }
+
   private static RetryTemplate getRetryTemplate(int maxRetries) {
     return new RetryTemplate(RetryPolicy.builder().maxRetries(maxRetries).delay(Duration.ofMillis(1)).build());
   }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -36,9 +37,12 @@ import org.folio.search.configuration.kafka.InstanceResourceEventKafkaConfigurat
 import org.folio.search.configuration.kafka.InstanceSharingCompleteEventKafkaConfiguration;
 import org.folio.search.configuration.kafka.ResourceEventKafkaConfiguration;
 import org.folio.search.configuration.properties.OpensearchProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.integration.KafkaMessageListenerIT.KafkaListenerTestConfiguration;
 import org.folio.search.integration.message.FolioMessageBatchProcessor;
+import org.folio.search.integration.message.IndexInstanceEventCompactor;
+import org.folio.search.integration.message.KeyOrderedBatchExecutor;
 import org.folio.search.integration.message.InstanceEventMapper;
 import org.folio.search.integration.message.KafkaMessageListener;
 import org.folio.search.integration.message.interceptor.ResourceEventBatchInterceptor;
@@ -215,7 +219,8 @@ class KafkaMessageListenerIT {
   @EnableResilientMethods(proxyTargetClass = true)
   @Import({
     InstanceResourceEventKafkaConfiguration.class, ResourceEventKafkaConfiguration.class,
-    KafkaAutoConfiguration.class, FolioMessageBatchProcessor.class,
+    KafkaAutoConfiguration.class, FolioMessageBatchProcessor.class, IndexInstanceEventCompactor.class,
+    KeyOrderedBatchExecutor.class,
     RetryTemplateConfiguration.class, ResourceEventBatchInterceptor.class,
     InstanceSharingCompleteEventKafkaConfiguration.class
   })
@@ -225,5 +230,17 @@ class KafkaMessageListenerIT {
     FolioExecutionContext folioExecutionContext() {
       return new DefaultFolioExecutionContext(null, Map.of(TENANT, List.of(TENANT_ID)));
     }
+
+    @Bean("kafkaKeyOrderedExecutor")
+    Executor kafkaKeyOrderedExecutor() {
+      return Runnable::run;
+    }
+
+    @Bean
+    SearchConfigurationProperties searchConfigurationProperties() {
+      var properties = new SearchConfigurationProperties();
+      properties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+      return properties;
+    }
   }
 }
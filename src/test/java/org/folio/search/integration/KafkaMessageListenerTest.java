@@ -36,15 +36,21 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.LinkedDataAuthority;
 import org.folio.search.domain.dto.LinkedDataHub;
 import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.integration.message.FolioMessageBatchProcessor;
+import org.folio.search.integration.message.InstanceEventMapper;
+import org.folio.search.integration.message.IndexInstanceEventCompactor;
 import org.folio.search.integration.message.KafkaMessageListener;
+import org.folio.search.integration.message.KeyOrderedBatchExecutor;
 import org.folio.search.model.event.IndexInstanceEvent;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.service.EgressExecutionContextService;
@@ -63,6 +69,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.retry.RetryTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -70,10 +77,18 @@ class KafkaMessageListenerTest {
 
   @Spy
   private final FolioMessageBatchProcessor batchProcessor =
-    new FolioMessageBatchProcessor(emptyMap(), new RetryTemplate());
+    new FolioMessageBatchProcessor(emptyMap(), new RetryTemplate(), searchConfigurationProperties());
   @Spy
   @SuppressWarnings("unused")
   private final JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
+  @Spy
+  @SuppressWarnings("unused")
+  private final IndexInstanceEventCompactor instanceEventCompactor =
+    new IndexInstanceEventCompactor(searchConfigurationProperties());
+  @Spy
+  @SuppressWarnings("unused")
+  private final KeyOrderedBatchExecutor keyOrderedBatchExecutor =
+    new KeyOrderedBatchExecutor(searchConfigurationProperties(), Runnable::run);
   @InjectMocks
   private KafkaMessageListener messageListener;
   @Mock
@@ -82,6 +97,12 @@ class KafkaMessageListenerTest {
   private ConfigSynchronizationService configSynchronizationService;
   @Mock
   private EgressExecutionContextService executionService;
+  @Mock
+  private InstanceEventMapper instanceEventMapper;
+  @Mock
+  private KafkaTemplate<String, IndexInstanceEvent> instanceEventProducer;
+  @Spy
+  private final SearchConfigurationProperties searchConfigurationProperties = searchConfigurationProperties();
 
   @BeforeEach
   void setUp() {
@@ -119,6 +140,37 @@ class KafkaMessageListenerTest {
     verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
   }
 
+  @Test
+  void handleInstanceEvents_positive_directInstanceIndexing() {
+    searchConfigurationProperties.getIndexing().setDirectInstanceIndexingEnabled(true);
+    var event = new IndexInstanceEvent(TENANT_ID, RESOURCE_ID);
+    var resourceEvent = resourceEvent(RESOURCE_ID, ResourceType.INSTANCE, emptyMap()).tenant(TENANT_ID);
+    var consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, RESOURCE_ID, resourceEvent);
+    when(instanceEventMapper.mapToProducerRecords(consumerRecord))
+      .thenReturn(List.of(new ProducerRecord<>("index-topic", RESOURCE_ID, event)));
+
+    messageListener.handleInstanceEvents(List.of(consumerRecord, consumerRecord));
+
+    verify(resourceService).indexInstanceEvents(List.of(event));
+    verify(instanceEventProducer, never()).send(any(ProducerRecord.class));
+  }
+
+  @Test
+  void handleInstanceEvents_negative_directInstanceIndexingFallsBackToTopic() {
+    searchConfigurationProperties.getIndexing().setDirectInstanceIndexingEnabled(true);
+    var event = new IndexInstanceEvent(TENANT_ID, RESOURCE_ID);
+    var producerRecord = new ProducerRecord<>("index-topic", RESOURCE_ID, event);
+    var resourceEvent = resourceEvent(RESOURCE_ID, ResourceType.INSTANCE, emptyMap()).tenant(TENANT_ID);
+    var consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, RESOURCE_ID, resourceEvent);
+    when(instanceEventMapper.mapToProducerRecords(consumerRecord)).thenReturn(List.of(producerRecord));
+    when(resourceService.indexInstanceEvents(List.of(event))).thenThrow(new RuntimeException("failed to save"));
+    when(instanceEventProducer.send(producerRecord)).thenReturn(CompletableFuture.completedFuture(null));
+
+    messageListener.handleInstanceEvents(List.of(consumerRecord));
+
+    verify(instanceEventProducer).send(producerRecord);
+  }
+
   @Test
   void handleIndexInstanceEvents_negative_shouldLogFailedEvent() {
     var event = new IndexInstanceEvent(TENANT_ID, RESOURCE_ID);
@@ -321,4 +373,10 @@ class KafkaMessageListenerTest {
     };
     return new ConsumerRecord<>(topic, 0, 0, RESOURCE_ID, event);
   }
+
+  private static SearchConfigurationProperties searchConfigurationProperties() {
+    var properties = new SearchConfigurationProperties();
+    properties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    return properties;
+  }
 }
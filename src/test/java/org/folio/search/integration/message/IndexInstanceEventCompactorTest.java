@@ -0,0 +1,92 @@
+package org.folio.search.integration.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestConstants.TENANT_ID;
+import static org.folio.support.utils.TestUtils.randomId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.model.event.IndexInstanceEvent;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class IndexInstanceEventCompactorTest {
+
+  private final AtomicLong clock = new AtomicLong(1_000);
+
+  @Test
+  void compact_positive_disabledReturnsAllEvents() {
+    var compactor = new IndexInstanceEventCompactor(new IndexingSettings(), clock::get);
+    var event = new IndexInstanceEvent(TENANT_ID, randomId());
+    var indexed = new ArrayList<List<IndexInstanceEvent>>();
+
+    compactor.recording(events -> record(indexed, events)).accept(List.of(event));
+    var actual = compactor.compact(List.of(consumerRecord(event, 0), consumerRecord(event, 1)));
+
+    assertThat(actual).containsExactly(event, event);
+  }
+
+  @Test
+  void compact_positive_removesDuplicatesWithinPoll() {
+    var compactor = enabledCompactor();
+    var event1 = new IndexInstanceEvent(TENANT_ID, randomId());
+    var event2 = new IndexInstanceEvent(TENANT_ID, randomId());
+
+    var actual = compactor.compact(List.of(
+      consumerRecord(event1, 900), consumerRecord(event2, 900), consumerRecord(event1, 950)));
+
+    assertThat(actual).containsExactly(event1, event2);
+  }
+
+  @Test
+  void compact_positive_dropsEventsProducedBeforeLastIndexing() {
+    var compactor = enabledCompactor();
+    var event = new IndexInstanceEvent(TENANT_ID, randomId());
+    var indexed = new ArrayList<List<IndexInstanceEvent>>();
+
+    compactor.recording(events -> record(indexed, events)).accept(List.of(event));
+
+    assertThat(compactor.compact(List.of(consumerRecord(event, 900)))).isEmpty();
+    assertThat(compactor.compact(List.of(consumerRecord(event, 901)))).containsExactly(event);
+    assertThat(indexed).containsExactly(List.of(event));
+  }
+
+  @Test
+  void recording_negative_failedIndexingIsNotRemembered() {
+    var compactor = enabledCompactor();
+    var event = new IndexInstanceEvent(TENANT_ID, randomId());
+
+    compactor.recording(events -> new FolioIndexOperationResponse()
+      .status(FolioIndexOperationResponse.StatusEnum.ERROR)).accept(List.of(event));
+
+    assertThat(compactor.compact(List.of(consumerRecord(event, 0)))).containsExactly(event);
+  }
+
+  private IndexInstanceEventCompactor enabledCompactor() {
+    var settings = new IndexingSettings();
+    settings.setInstanceEventCompactionWindowMs(60_000);
+    settings.setInstanceEventCompactionClockSkewMs(100);
+    settings.setInstanceEventCompactionMaxSize(10);
+    return new IndexInstanceEventCompactor(settings, clock::get);
+  }
+
+  private static FolioIndexOperationResponse record(List<List<IndexInstanceEvent>> indexed,
+                                                    List<IndexInstanceEvent> events) {
+    indexed.add(events);
+    return new FolioIndexOperationResponse().status(FolioIndexOperationResponse.StatusEnum.SUCCESS);
+  }
+
+  private static ConsumerRecord<String, IndexInstanceEvent> consumerRecord(IndexInstanceEvent event,
+                                                                           long timestamp) {
+    return new ConsumerRecord<>("test-topic", 0, 0, timestamp, TimestampType.CREATE_TIME, 0, 0,
+      event.instanceId(), event, new RecordHeaders(), Optional.empty());
+  }
+}
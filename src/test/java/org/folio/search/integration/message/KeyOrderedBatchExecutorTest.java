@@ -0,0 +1,84 @@
+package org.folio.search.integration.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KeyOrderedBatchExecutorTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void execute_positive_sequentialWhenParallelismIsOne() {
+    var lanes = new ArrayList<List<String>>();
+    keyOrderedBatchExecutor(1).execute(List.of("a1", "b1", "a2"), key(), lanes::add);
+
+    assertThat(lanes).containsExactly(List.of("a1", "b1", "a2"));
+  }
+
+  @Test
+  void execute_positive_preservesOrderPerKey() {
+    var lanes = Collections.synchronizedList(new ArrayList<List<String>>());
+    var values = List.of("a1", "b1", "c1", "a2", "d1", "b2", "a3", "c2");
+
+    keyOrderedBatchExecutor(4).execute(values, key(), lanes::add);
+
+    assertThat(lanes).hasSizeGreaterThan(1).allSatisfy(lane -> {
+      assertThat(lane).isSortedAccordingTo(String::compareTo);
+      lane.stream().map(key()).distinct().forEach(laneKey -> assertThat(lanes)
+        .filteredOn(otherLane -> otherLane.stream().map(key()).anyMatch(laneKey::equals))
+        .hasSize(1));
+    });
+    assertThat(lanes.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(values);
+  }
+
+  @Test
+  void execute_negative_rethrowsLaneFailureAfterAllLanesCompleted() {
+    var processed = Collections.synchronizedList(new ArrayList<String>());
+    var values = List.of("a1", "b1", "c1", "d1");
+
+    assertThatThrownBy(() -> keyOrderedBatchExecutor(4).execute(values, key(), lane -> {
+      if (lane.contains("a1")) {
+        throw new IllegalStateException("failed");
+      }
+      processed.addAll(lane);
+    })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+    assertThat(processed).doesNotContain("a1").isNotEmpty();
+  }
+
+  @Test
+  void execute_positive_emptyBatch() {
+    var lanes = new ArrayList<List<String>>();
+    keyOrderedBatchExecutor(4).execute(List.of(), key(), lanes::add);
+
+    assertThat(lanes).isEmpty();
+  }
+
+  private KeyOrderedBatchExecutor keyOrderedBatchExecutor(int parallelism) {
+    var properties = new SearchConfigurationProperties();
+    properties.setIndexing(new SearchConfigurationProperties.IndexingSettings());
+    properties.getIndexing().setKafkaKeyOrderedParallelism(parallelism);
+    return new KeyOrderedBatchExecutor(properties, executor);
+  }
+
+  private static Function<String, String> key() {
+    return value -> value.substring(0, 1);
+  }
+}
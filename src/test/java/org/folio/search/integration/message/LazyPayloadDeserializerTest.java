@@ -0,0 +1,60 @@
+package org.folio.search.integration.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.model.event.LazyJsonPayload;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class LazyPayloadDeserializerTest {
+
+  private static final String EVENT = """
+    {"id":"id1","type":"UPDATE","tenant":"tenant","resourceName":"instance",
+     "new":{"id":"id1","isBoundWith":true,"version":3,"title":"title","subjects":[{"value":"s1"}]},
+     "old":null,"unknown":1}""";
+
+  @Test
+  void deserialize_positive_payloadIsNotMaterializedForScalarFields() {
+    var event = readEvent();
+
+    assertThat(event.getId()).isEqualTo("id1");
+    assertThat(event.getType()).isEqualTo(ResourceEventType.UPDATE);
+    assertThat(event.getOld()).isNull();
+
+    var payload = (LazyJsonPayload) event.getNew();
+    assertThat(payload.get("id")).isEqualTo("id1");
+    assertThat(payload.getOrDefault("isBoundWith", false)).isEqualTo(true);
+    assertThat(payload.get("version")).isEqualTo(3);
+    assertThat(payload.containsKey("missing")).isFalse();
+    assertThat(payload.getRawJson())
+      .isEqualTo("{\"id\":\"id1\",\"isBoundWith\":true,\"version\":3,\"title\":\"title\",\"subjects\":[{\"value\":\"s1\"}]}");
+  }
+
+  @Test
+  void deserialize_positive_nestedAccessMaterializesPayload() {
+    var payload = (LazyJsonPayload) readEvent().getNew();
+
+    assertThat(payload.get("subjects")).isEqualTo(List.of(Map.of("value", "s1")));
+    assertThat(payload.getRawJson()).isNull();
+    assertThat(payload).containsEntry("title", "title").hasSize(5);
+  }
+
+  @Test
+  void deserialize_positive_modificationMaterializesPayload() {
+    var payload = (LazyJsonPayload) readEvent().getNew();
+
+    payload.put("title", "new title");
+
+    assertThat(payload.getRawJson()).isNull();
+    assertThat(payload.get("title")).isEqualTo("new title");
+  }
+
+  private static ResourceEvent readEvent() {
+    return LazyPayloadDeserializer.resourceEventMapper().readValue(EVENT, ResourceEvent.class);
+  }
+}
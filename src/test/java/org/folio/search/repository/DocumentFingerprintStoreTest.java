@@ -0,0 +1,111 @@
+package org.folio.search.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.support.TestConstants.RESOURCE_ID;
+import static org.folio.support.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import java.util.List;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.model.types.IndexActionType;
+import org.folio.search.model.types.IndexingDataFormat;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.bytes.BytesArray;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class DocumentFingerprintStoreTest {
+
+  private static final String INDEX_NAME = "folio_instance_test_tenant";
+
+  @Mock
+  private IndexNameProvider indexNameProvider;
+  private DocumentFingerprintStore fingerprintStore;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn(INDEX_NAME);
+    var config = new IndexManagementConfigurationProperties();
+    config.setDocumentFingerprintEnabled(true);
+    fingerprintStore = new DocumentFingerprintStore(indexNameProvider, config);
+  }
+
+  @Test
+  void filterUnchanged_positive_skipsDocumentIndexedWithSameBody() {
+    index(document("v1"));
+
+    var batch = fingerprintStore.newBatch();
+    assertThat(batch.filterUnchanged(List.of(document("v1")))).isEmpty();
+    assertThat(batch.filterUnchanged(List.of(document("v2")))).hasSize(1);
+  }
+
+  @Test
+  void filterUnchanged_positive_disabledStoreReturnsAllDocuments() {
+    var store = new DocumentFingerprintStore(indexNameProvider, new IndexManagementConfigurationProperties());
+    var documents = List.of(document("v1"));
+    store.newBatch().complete(getSuccessIndexOperationResponse());
+
+    var batch = store.newBatch();
+    batch.filterUnchanged(documents);
+    batch.complete(getSuccessIndexOperationResponse());
+
+    assertThat(store.newBatch().filterUnchanged(documents)).isSameAs(documents);
+  }
+
+  @Test
+  void filterUnchanged_negative_failedIndexingIsNotRemembered() {
+    index(document("v1"));
+
+    var batch = fingerprintStore.newBatch();
+    assertThat(batch.filterUnchanged(List.of(document("v2")))).hasSize(1);
+    batch.complete(getErrorIndexOperationResponse("failed"));
+
+    assertThat(fingerprintStore.newBatch().filterUnchanged(List.of(document("v1")))).hasSize(1);
+    assertThat(fingerprintStore.newBatch().filterUnchanged(List.of(document("v2")))).hasSize(1);
+  }
+
+  @Test
+  void filterUnchanged_positive_deleteRemovesFingerprint() {
+    index(document("v1"));
+
+    var delete = SearchDocumentBody.of(null, IndexingDataFormat.SMILE, event(), IndexActionType.DELETE);
+    assertThat(fingerprintStore.newBatch().filterUnchanged(List.of(delete))).containsExactly(delete);
+
+    assertThat(fingerprintStore.newBatch().filterUnchanged(List.of(document("v1")))).hasSize(1);
+  }
+
+  @Test
+  void invalidateIndex_positive() {
+    index(document("v1"));
+
+    fingerprintStore.invalidateIndex(INDEX_NAME);
+
+    assertThat(fingerprintStore.newBatch().filterUnchanged(List.of(document("v1")))).hasSize(1);
+  }
+
+  private void index(SearchDocumentBody document) {
+    var batch = fingerprintStore.newBatch();
+    assertThat(batch.filterUnchanged(List.of(document))).containsExactly(document);
+    batch.complete(getSuccessIndexOperationResponse());
+  }
+
+  private static SearchDocumentBody document(String body) {
+    return SearchDocumentBody.of(new BytesArray(body.getBytes(UTF_8)), IndexingDataFormat.SMILE, event(),
+      IndexActionType.INDEX);
+  }
+
+  private static ResourceEvent event() {
+    return new ResourceEvent().id(RESOURCE_ID).tenant(TENANT_ID).resourceName("instance");
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.search.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestConstants.TENANT_ID;
+import static org.folio.support.utils.TestUtils.searchDocumentBody;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
+import org.folio.search.model.types.ResourceType;
+import org.folio.search.service.consortium.TenantProvider;
+import org.folio.search.service.reindex.ReindexContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class IndexNameProviderTest {
+
+  @Mock
+  private TenantProvider tenantProvider;
+  @Mock
+  private IndexRepository indexRepository;
+
+  private IndexNameProvider indexNameProvider;
+  private String indexName;
+
+  @BeforeEach
+  void setUp() {
+    var indexManagementConfig = new IndexManagementConfigurationProperties();
+    indexManagementConfig.setBlueGreenReindexEnabled(true);
+    when(tenantProvider.getTenant(any())).thenReturn(TENANT_ID);
+    indexNameProvider = new IndexNameProvider(tenantProvider, indexRepository, indexManagementConfig);
+    indexName = indexNameProvider.getIndexName(ResourceType.UNKNOWN, TENANT_ID);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReindexContext.clear();
+  }
+
+  @Test
+  void getIndexName_positive_uploadModeIgnoresCachedBuildState() {
+    var buildAlias = IndexNameProvider.getBuildAlias(indexName);
+    when(indexRepository.getAliasIndices(buildAlias)).thenReturn(Set.of());
+    assertThat(indexNameProvider.getMirrorIndexName(indexName)).isEmpty();
+
+    when(indexRepository.getAliasIndices(buildAlias)).thenReturn(Set.of(indexName + "_2"));
+    when(indexRepository.getAliasIndices(indexName)).thenReturn(Set.of(indexName + "_1"));
+    ReindexContext.setUploadMode(true);
+
+    assertThat(indexNameProvider.getIndexName(searchDocumentBody())).isEqualTo(buildAlias);
+  }
+
+  @Test
+  void getIndexName_positive_uploadModeWithoutBuild() {
+    when(indexRepository.getAliasIndices(IndexNameProvider.getBuildAlias(indexName))).thenReturn(Set.of());
+    ReindexContext.setUploadMode(true);
+
+    assertThat(indexNameProvider.getIndexName(searchDocumentBody())).isEqualTo(indexName);
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.search.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.folio.search.utils.SearchResponseHelper.getErrorFolioCreateIndexResponse;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateIndexResponse;
@@ -16,6 +17,8 @@ import static org.opensearch.client.RequestOptions.DEFAULT;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.spring.testing.type.UnitTest;
@@ -25,17 +28,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.client.IndicesClient;
+import org.opensearch.client.GetAliasesResponse;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.opensearch.core.rest.RestStatus;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -194,4 +202,47 @@ class IndexRepositoryTest {
 
     assertThat(refreshRequest.getValue().indices()).containsExactly(INDEX_NAME);
   }
+
+  @Test
+  void getAliasIndices_positive() throws IOException {
+    var response = mock(GetAliasesResponse.class);
+    when(response.status()).thenReturn(RestStatus.OK);
+    when(response.getAliases()).thenReturn(Map.of(INDEX_NAME + "_1", Set.of()));
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.getAlias(any(GetAliasesRequest.class), eq(DEFAULT))).thenReturn(response);
+
+    var actual = indexRepository.getAliasIndices(INDEX_NAME);
+
+    assertThat(actual).containsExactly(INDEX_NAME + "_1");
+  }
+
+  @Test
+  void getAliasIndices_positive_aliasNotFound() throws IOException {
+    var response = mock(GetAliasesResponse.class);
+    when(response.status()).thenReturn(RestStatus.NOT_FOUND);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.getAlias(any(GetAliasesRequest.class), eq(DEFAULT))).thenReturn(response);
+
+    assertThat(indexRepository.getAliasIndices(INDEX_NAME)).isEmpty();
+  }
+
+  @Test
+  void switchAlias_positive() throws IOException {
+    var aliasesResponse = mock(GetAliasesResponse.class);
+    var requestCaptor = ArgumentCaptor.forClass(IndicesAliasesRequest.class);
+    when(aliasesResponse.status()).thenReturn(RestStatus.OK);
+    when(aliasesResponse.getAliases()).thenReturn(Map.of(INDEX_NAME + "_1", Set.of()));
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.getAlias(any(GetAliasesRequest.class), eq(DEFAULT))).thenReturn(aliasesResponse);
+    when(indices.updateAliases(requestCaptor.capture(), eq(DEFAULT))).thenReturn(new AcknowledgedResponse(true));
+
+    indexRepository.switchAlias(INDEX_NAME, INDEX_NAME + "_2", List.of(INDEX_NAME));
+
+    assertThat(requestCaptor.getValue().getAliasActions())
+      .extracting(AliasActions::actionType, action -> action.indices()[0])
+      .containsExactly(
+        tuple(AliasActions.Type.REMOVE, INDEX_NAME + "_1"),
+        tuple(AliasActions.Type.ADD, INDEX_NAME + "_2"),
+        tuple(AliasActions.Type.REMOVE_INDEX, INDEX_NAME));
+  }
 }
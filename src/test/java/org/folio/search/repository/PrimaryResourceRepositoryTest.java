@@ -12,13 +12,22 @@ import static org.folio.support.utils.TestUtils.searchDocumentBody;
 import static org.folio.support.utils.TestUtils.searchDocumentBodyToDelete;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
@@ -31,11 +40,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -52,6 +64,10 @@ class PrimaryResourceRepositoryTest {
   private IndexNameProvider indexNameProvider;
   @Mock
   private IndexManagementConfigurationProperties indexManagementConfig;
+  @Mock
+  private DocumentFingerprintStore documentFingerprintStore;
+  @Mock
+  private SearchResultCache searchResultCache;
 
   @BeforeEach
   void setUp() {
@@ -77,6 +93,36 @@ class PrimaryResourceRepositoryTest {
     });
   }
 
+  @Test
+  void indexResources_positive_mirrorsDocumentsToIndexBuild() throws IOException {
+    var documentBody = searchDocumentBody();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(indexNameProvider.getMirrorIndexName("index_name")).thenReturn(Optional.of("index_name_build"));
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().requests())
+      .extracting(DocWriteRequest::index)
+      .containsExactly("index_name", "index_name_build");
+  }
+
+  @Test
+  void indexResources_positive_searchResultsInvalidatedAfterBulkRequest() throws IOException {
+    var bulkResponse = mock(BulkResponse.class);
+    when(restHighLevelClient.bulk(any(BulkRequest.class), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    resourceRepository.indexResources(List.of(searchDocumentBody()));
+
+    var inOrder = inOrder(restHighLevelClient, searchResultCache);
+    inOrder.verify(restHighLevelClient).bulk(any(BulkRequest.class), eq(DEFAULT));
+    inOrder.verify(searchResultCache).invalidateIndex("index_name");
+  }
+
   @Test
   void indexResources_positive_emptyList() {
     var response = resourceRepository.indexResources(emptyList());
@@ -142,5 +188,98 @@ class PrimaryResourceRepositoryTest {
       .hasCauseExactlyInstanceOf(IOException.class)
       .hasMessage("Failed to perform elasticsearch request "
         + "[index=folio_instance_test_tenant, type=deleteByQueryApi, message: delete error]");
+    verify(searchResultCache).invalidateIndex(INDEX_NAME);
+  }
+
+  @Test
+  void indexResources_positive_bulkPipelineEnabled() {
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    var bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(indexManagementConfig.getBulkPipelineEnabled()).thenReturn(true);
+    when(indexManagementConfig.getBulkFlushMaxActions()).thenReturn(1);
+    when(indexManagementConfig.getBulkFlushMaxBytes()).thenReturn(1024L * 1024);
+    when(indexManagementConfig.getBulkMaxInFlightRequests()).thenReturn(2);
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(bulkResponse);
+      return null;
+    }).when(restHighLevelClient).bulkAsync(bulkRequestCaptor.capture(), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResources(List.of(searchDocumentBody(), searchDocumentBodyToDelete()));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2)
+      .allSatisfy(request -> assertThat(request.numberOfActions()).isEqualTo(1));
+    verify(searchResultCache, times(2)).invalidateIndex("index_name");
+  }
+
+  @Test
+  void indexResources_negative_bulkPipelineItemFailure() {
+    var failedItem = mock(BulkItemResponse.class);
+    when(failedItem.isFailed()).thenReturn(true);
+    when(failedItem.getId()).thenReturn("id");
+    when(failedItem.getIndex()).thenReturn("index_name");
+    when(failedItem.getFailureMessage()).thenReturn("mapping error");
+    var bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.hasFailures()).thenReturn(true);
+    when(bulkResponse.getItems()).thenReturn(new BulkItemResponse[] {failedItem});
+    when(indexManagementConfig.getBulkPipelineEnabled()).thenReturn(true);
+    when(indexManagementConfig.getBulkFlushMaxActions()).thenReturn(100);
+    when(indexManagementConfig.getBulkFlushMaxBytes()).thenReturn(1024L * 1024);
+    when(indexManagementConfig.getBulkMaxInFlightRequests()).thenReturn(1);
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(bulkResponse);
+      return null;
+    }).when(restHighLevelClient).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResources(List.of(searchDocumentBody()));
+
+    assertThat(response).isEqualTo(
+      getErrorIndexOperationResponse("[0]: index [index_name], id [id], message [mapping error]"));
+  }
+
+  @Test
+  void indexResources_negative_bulkPipelineRequestFailure() {
+    when(indexManagementConfig.getBulkPipelineEnabled()).thenReturn(true);
+    when(indexManagementConfig.getBulkFlushMaxActions()).thenReturn(100);
+    when(indexManagementConfig.getBulkFlushMaxBytes()).thenReturn(1024L * 1024);
+    when(indexManagementConfig.getBulkMaxInFlightRequests()).thenReturn(2);
+    doAnswer(invocation -> {
+      invocation.<ActionListener<BulkResponse>>getArgument(2).onFailure(new IOException("err"));
+      return null;
+    }).when(restHighLevelClient).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+    var documentBodies = List.of(searchDocumentBody());
+
+    assertThatThrownBy(() -> resourceRepository.indexResources(documentBodies))
+      .isInstanceOf(SearchOperationException.class)
+      .hasCauseExactlyInstanceOf(IOException.class)
+      .hasMessage("Failed to perform elasticsearch request "
+        + "[index=index_name, type=bulkApi, message: err]");
+    verify(searchResultCache).invalidateIndex("index_name");
+  }
+
+  @Test
+  void indexResources_positive_bulkPipelineSendsSameDocumentAfterInFlightRequest() {
+    var bulkResponse = mock(BulkResponse.class);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(indexManagementConfig.getBulkPipelineEnabled()).thenReturn(true);
+    when(indexManagementConfig.getBulkFlushMaxActions()).thenReturn(1);
+    when(indexManagementConfig.getBulkFlushMaxBytes()).thenReturn(1024L * 1024);
+    when(indexManagementConfig.getBulkMaxInFlightRequests()).thenReturn(2);
+    var bulkEvents = Collections.synchronizedList(new ArrayList<String>());
+    doAnswer(invocation -> {
+      var opType = invocation.<BulkRequest>getArgument(0).requests().getFirst().opType();
+      bulkEvents.add("sent " + opType);
+      CompletableFuture.runAsync(() -> {
+        bulkEvents.add("completed " + opType);
+        invocation.<ActionListener<BulkResponse>>getArgument(2).onResponse(bulkResponse);
+      }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+      return null;
+    }).when(restHighLevelClient).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResources(List.of(searchDocumentBody(), searchDocumentBodyToDelete()));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkEvents).containsExactly("sent INDEX", "completed INDEX", "sent DELETE", "completed DELETE");
   }
 }
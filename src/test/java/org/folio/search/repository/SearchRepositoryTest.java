@@ -1,6 +1,7 @@
 package org.folio.search.repository;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.model.service.CqlResourceIdsRequest.INSTANCE_ID_PATH;
@@ -16,19 +17,25 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.search.SearchHit.createFromMap;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.ResourceRequest;
@@ -39,6 +46,7 @@ import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.ClearScrollRequest;
@@ -50,6 +58,9 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.RestClient;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -79,7 +90,8 @@ class SearchRepositoryTest {
   @SuppressWarnings({"rawtypes", "unchecked"})
   @BeforeEach
   void setUp() {
-    searchRepository = new SearchRepository(esClient, retryTemplate, searchRetryTemplate, indexNameProvider);
+    searchRepository = new SearchRepository(esClient, retryTemplate, searchRetryTemplate, indexNameProvider,
+      new SearchResultCache(new SearchQueryConfigurationProperties()));
     lenient().when(indexNameProvider.getIndexName(any(ResourceRequest.class)))
       .thenAnswer(invocation -> SearchUtils.getIndexName(invocation.<ResourceRequest>getArgument(0)));
     lenient().when(searchRetryTemplate.invoke(any(Supplier.class)))
@@ -98,6 +110,47 @@ class SearchRepositoryTest {
     assertThat(actual).isEqualTo(searchResponse);
   }
 
+  @Test
+  void search_positive_cachedResponse() throws IOException {
+    var config = new SearchQueryConfigurationProperties();
+    config.setResultCacheEnabled(true);
+    var cache = new SearchResultCache(config);
+    var repository = new SearchRepository(esClient, retryTemplate, searchRetryTemplate, indexNameProvider, cache);
+    var searchSource = searchSource().query(matchAllQuery()).size(10);
+    var esSearchRequest = new SearchRequest().indices(INDEX_NAME).source(searchSource);
+    when(esClient.search(esSearchRequest, DEFAULT)).thenReturn(searchResponse);
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    assertThat(repository.search(searchRequest, searchSource)).isEqualTo(searchResponse);
+    assertThat(repository.search(searchRequest, searchSource)).isEqualTo(searchResponse);
+    verify(esClient).search(esSearchRequest, DEFAULT);
+
+    cache.invalidateIndex(INDEX_NAME);
+    assertThat(repository.search(searchRequest, searchSource)).isEqualTo(searchResponse);
+    verify(esClient, times(2)).search(esSearchRequest, DEFAULT);
+  }
+
+  @Test
+  void search_positive_rawResponse() throws IOException {
+    var lowLevelClient = mock(RestClient.class);
+    var response = mock(Response.class);
+    when(esClient.getLowLevelClient()).thenReturn(lowLevelClient);
+    when(lowLevelClient.performRequest(any(Request.class))).thenReturn(response);
+    when(response.getEntity()).thenReturn(new StringEntity("{\"hits\":{}}"));
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = new ArrayList<String>();
+    searchRepository.search(searchRequest, searchSource(), "preference",
+      content -> actual.add(new BufferedReader(new InputStreamReader(content)).lines().collect(joining())));
+
+    assertThat(actual).containsExactly("{\"hits\":{}}");
+    var requestCaptor = ArgumentCaptor.forClass(Request.class);
+    verify(lowLevelClient).performRequest(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().getMethod()).isEqualTo("POST");
+    assertThat(requestCaptor.getValue().getEndpoint()).isEqualTo("/" + INDEX_NAME + "/_search");
+    assertThat(requestCaptor.getValue().getParameters()).containsEntry("preference", "preference");
+  }
+
   @Test
   @SuppressWarnings({"rawtypes", "unchecked"})
   void streamResourceIds_positive() throws Throwable {
@@ -0,0 +1,116 @@
+package org.folio.search.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchResponse;
+
+@UnitTest
+class SearchResultCacheTest {
+
+  private static final String INDEX_NAME = "folio_instance_test_tenant";
+  private static final String OTHER_INDEX_NAME = "folio_instance_other_tenant";
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private SearchResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    var config = new SearchQueryConfigurationProperties();
+    config.setResultCacheEnabled(true);
+    cache = new SearchResultCache(config);
+  }
+
+  @Test
+  void search_positive_returnsCachedResponseForSameRequest() {
+    var source = searchSource().query(matchAllQuery()).from(0).size(10);
+
+    var first = cache.search(INDEX_NAME, source, null, loader());
+    var second = cache.search(INDEX_NAME, searchSource().query(matchAllQuery()).from(0).size(10), null, loader());
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void search_positive_differentPagingIndexOrPreferenceIsNotCached() {
+    cache.search(INDEX_NAME, searchSource().from(0).size(10), null, loader());
+    cache.search(INDEX_NAME, searchSource().from(10).size(10), null, loader());
+    cache.search(OTHER_INDEX_NAME, searchSource().from(0).size(10), null, loader());
+    cache.search(INDEX_NAME, searchSource().from(0).size(10), "preference", loader());
+
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  void search_positive_invalidatedIndexIsLoadedAgain() {
+    var source = searchSource().size(10);
+    cache.search(INDEX_NAME, source, null, loader());
+    cache.search(OTHER_INDEX_NAME, source, null, loader());
+
+    cache.invalidateIndex(INDEX_NAME);
+    cache.search(INDEX_NAME, source, null, loader());
+    cache.search(OTHER_INDEX_NAME, source, null, loader());
+
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void search_positive_disabledCacheAlwaysLoadsResponse() {
+    var disabledCache = new SearchResultCache(new SearchQueryConfigurationProperties());
+    var source = searchSource().size(10);
+
+    disabledCache.search(INDEX_NAME, source, null, loader());
+    disabledCache.search(INDEX_NAME, source, null, loader());
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void msearch_positive_returnsCachedResponseForSameRequests() {
+    var sources = List.of(searchSource().size(1), searchSource().size(2));
+    Supplier<MultiSearchResponse> loader = () -> {
+      loads.incrementAndGet();
+      return new MultiSearchResponse(new MultiSearchResponse.Item[0], 1L);
+    };
+
+    var first = cache.msearch(INDEX_NAME, sources, loader);
+    var second = cache.msearch(INDEX_NAME, sources, loader);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void search_negative_failedRequestIsNotCached() {
+    var source = searchSource().size(10);
+    Supplier<SearchResponse> failingLoader = () -> {
+      throw new SearchServiceException("error");
+    };
+
+    assertThatThrownBy(() -> cache.search(INDEX_NAME, source, null, failingLoader))
+      .isInstanceOf(SearchServiceException.class);
+    cache.search(INDEX_NAME, source, null, loader());
+
+    assertThat(loads).hasValue(1);
+  }
+
+  private Supplier<SearchResponse> loader() {
+    return () -> {
+      loads.incrementAndGet();
+      return mock(SearchResponse.class);
+    };
+  }
+}
@@ -27,6 +27,7 @@ import static org.folio.support.utils.TestUtils.secondaryResourceDescription;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.lenient;
@@ -40,6 +41,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.folio.search.client.ResourceReindexClient;
@@ -50,8 +52,10 @@ import org.folio.search.domain.dto.ReindexRequest;
 import org.folio.search.domain.dto.ReindexRequest.ResourceNameEnum;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.types.ResourceType;
+import org.folio.search.repository.DocumentFingerprintStore;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.SearchResultCache;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.es.SearchMappingsHelper;
 import org.folio.search.service.es.SearchSettingsHelper;
@@ -95,6 +99,10 @@ class IndexServiceTest {
 
   @Mock
   private TenantProvider tenantProvider;
+  @Mock
+  private DocumentFingerprintStore documentFingerprintStore;
+  @Mock
+  private SearchResultCache searchResultCache;
 
   @BeforeEach
   void setUp() {
@@ -393,6 +401,81 @@ class IndexServiceTest {
     verify(indexRepository).dropIndex(INDEX_NAME);
   }
 
+  @Test
+  void dropIndex_positive_dropsIndexGenerationsBehindAlias() {
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(indexRepository.getAliasIndices(INDEX_NAME)).thenReturn(Set.of(INDEX_NAME + "_1"));
+
+    indexService.dropIndex(INSTANCE, TENANT_ID);
+
+    verify(indexRepository).dropAliasIndices(INDEX_NAME);
+    verify(indexRepository, never()).dropIndex(INDEX_NAME);
+  }
+
+  @Test
+  @SneakyThrows
+  void createIndexGeneration_positive() {
+    var buildAlias = IndexNameProvider.getBuildAlias(INDEX_NAME);
+    var staleGeneration = INDEX_NAME + "_1";
+    var expectedResponse = getSuccessFolioCreateIndexResponse(List.of(INDEX_NAME));
+    var indexSettingsMock = MAPPER.readTree(getIndexSettingsJsonString(4, 2, "1s"));
+
+    when(resourceDescriptionService.find(INSTANCE)).thenReturn(Optional.of(resourceDescription(INSTANCE)));
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(settingsHelper.getSettingsJson(INSTANCE)).thenReturn(indexSettingsMock);
+    when(mappingsHelper.getMappings(INSTANCE)).thenReturn(EMPTY_OBJECT);
+    when(indexRepository.createIndex(startsWith(INDEX_NAME + "_"),
+      eq(getIndexSettingsJsonString(4, 0, "-1")), eq(EMPTY_OBJECT))).thenReturn(expectedResponse);
+    when(indexRepository.getAliasIndices(buildAlias)).thenReturn(Set.of(staleGeneration));
+
+    var actual = indexService.createIndexGeneration(INSTANCE, TENANT_ID, null);
+
+    assertThat(actual).isEqualTo(expectedResponse);
+    verify(indexRepository).switchAlias(eq(buildAlias), startsWith(INDEX_NAME + "_"), eq(Set.of(staleGeneration)));
+    verify(indexNameProvider).invalidateIndexBuild(INDEX_NAME);
+  }
+
+  @Test
+  void createIndexGeneration_positive_createsIndexWhenNotExist() {
+    when(resourceDescriptionService.find(INSTANCE)).thenReturn(Optional.of(resourceDescription(INSTANCE)));
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(false);
+    when(settingsHelper.getSettingsJson(INSTANCE)).thenReturn(EMPTY_JSON_OBJECT);
+    when(mappingsHelper.getMappings(INSTANCE)).thenReturn(EMPTY_OBJECT);
+
+    indexService.createIndexGeneration(INSTANCE, TENANT_ID, null);
+
+    verify(indexRepository).createIndex(INDEX_NAME, EMPTY_OBJECT, EMPTY_OBJECT);
+    verify(indexRepository, never()).switchAlias(any(), any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void promoteIndexGeneration_positive_replacesConcreteIndex() {
+    var generation = INDEX_NAME + "_1";
+    var dynamicSettings = getIndexDynamicSettingsJsonString(2, "1s");
+    when(indexRepository.getAliasIndices(IndexNameProvider.getBuildAlias(INDEX_NAME))).thenReturn(Set.of(generation));
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(settingsHelper.getDynamicSettings()).thenReturn(MAPPER.readTree(dynamicSettings));
+
+    indexService.promoteIndexGeneration(INSTANCE, TENANT_ID);
+
+    verify(indexRepository).updateIndexSettings(generation, dynamicSettings);
+    verify(indexRepository).refreshIndices(generation);
+    verify(indexRepository).switchAlias(INDEX_NAME, generation, Set.of(INDEX_NAME));
+    verify(documentFingerprintStore).invalidateIndex(INDEX_NAME);
+  }
+
+  @Test
+  void promoteIndexGeneration_negative_generationAlreadyPromoted() {
+    var generation = INDEX_NAME + "_1";
+    when(indexRepository.getAliasIndices(IndexNameProvider.getBuildAlias(INDEX_NAME))).thenReturn(Set.of(generation));
+    when(indexRepository.getAliasIndices(INDEX_NAME)).thenReturn(Set.of(generation));
+
+    indexService.promoteIndexGeneration(INSTANCE, TENANT_ID);
+
+    verify(indexRepository, never()).switchAlias(any(), any(), any());
+  }
+
   @Test
   void shouldNotDropIndexWhenNotExist() {
     when(indexRepository.indexExists(INDEX_NAME)).thenReturn(false);
@@ -31,12 +31,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.event.IndexInstanceEvent;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.ResourceIndexingConfiguration;
+import org.folio.search.repository.DocumentFingerprintStore;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
 import org.folio.search.repository.PrimaryResourceRepository;
@@ -53,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -83,6 +86,9 @@ class ResourceServiceTest {
   private Map<String, ResourceRepository> resourceRepositoryBeans;
   @Mock
   private InventoryEntityPersistenceService inventoryEntityPersistenceService;
+  @Spy
+  private DocumentFingerprintStore documentFingerprintStore =
+    new DocumentFingerprintStore(null, new IndexManagementConfigurationProperties());
   @InjectMocks
   private ResourceService indexService;
 
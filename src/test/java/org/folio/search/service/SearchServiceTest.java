@@ -10,15 +10,23 @@ import static org.folio.support.TestConstants.TENANT_ID;
 import static org.folio.support.utils.TestUtils.array;
 import static org.folio.support.utils.TestUtils.searchResult;
 import static org.folio.support.utils.TestUtils.searchServiceRequest;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
 import org.folio.search.exception.RequestValidationException;
@@ -118,4 +126,45 @@ class SearchServiceTest {
     var actual = searchService.search(searchRequest);
     assertThat(actual).isEqualTo(expectedSearchResult);
   }
+
+  @Test
+  void isRawSourceResponseSupported_positive() {
+    when(searchQueryConfig.isRawSourceResponseEnabled()).thenReturn(true);
+
+    assertThat(searchService.isRawSourceResponseSupported(
+      searchServiceRequest(TestResource.class, SEARCH_QUERY, true))).isTrue();
+    assertThat(searchService.isRawSourceResponseSupported(
+      searchServiceRequest(TestResource.class, SEARCH_QUERY, false))).isFalse();
+  }
+
+  @Test
+  void isRawSourceResponseSupported_negative_disabled() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY, true);
+    assertThat(searchService.isRawSourceResponseSupported(searchRequest)).isFalse();
+  }
+
+  @Test
+  void searchRaw_positive() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY, true);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0).trackTotalHits(true)
+      .timeout(new TimeValue(1000, MILLISECONDS)).fetchSource(array("id", "plain_title"), null);
+    var response = new ByteArrayInputStream(new byte[0]);
+    var output = new ByteArrayOutputStream();
+
+    when(searchFieldProvider.getAllSourceFields(UNKNOWN)).thenReturn(array("id", "plain_title"));
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, UNKNOWN, false))
+      .thenReturn(searchSource().query(ES_TERM_QUERY));
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+    doAnswer(invocation -> {
+      invocation.<Consumer<InputStream>>getArgument(3).accept(response);
+      return null;
+    }).when(searchRepository).search(eq(searchRequest), eq(expectedSourceBuilder), eq("test"), any());
+
+    var writer = searchService.searchRaw(searchRequest, "records");
+    verifyNoInteractions(searchRepository);
+
+    writer.accept(output);
+    verify(documentConverter).writeSearchResult(response, output, "records");
+  }
 }
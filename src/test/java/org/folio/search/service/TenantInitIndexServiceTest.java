@@ -0,0 +1,63 @@
+package org.folio.search.service;
+
+import static org.folio.search.model.types.ResourceType.INSTANCE;
+import static org.folio.search.utils.SearchUtils.getIndexName;
+import static org.folio.support.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.verify;
+
+import org.folio.search.client.ResourceReindexClient;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
+import org.folio.search.repository.DocumentFingerprintStore;
+import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.SearchResultCache;
+import org.folio.search.service.consortium.SimpleTenantProvider;
+import org.folio.search.service.es.SearchSettingsHelper;
+import org.folio.search.service.es.TenantInitMappingsHelper;
+import org.folio.search.service.metadata.ResourceDescriptionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantInitIndexServiceTest {
+
+  @Mock
+  private IndexRepository indexRepository;
+  @Mock
+  private TenantInitMappingsHelper mappingHelper;
+  @Mock
+  private SearchSettingsHelper settingsHelper;
+  @Mock
+  private ResourceReindexClient resourceReindexClient;
+  @Mock
+  private ResourceDescriptionService resourceDescriptionService;
+  @Mock
+  private LocationService locationService;
+  @Mock
+  private DocumentFingerprintStore documentFingerprintStore;
+  @Mock
+  private SearchResultCache searchResultCache;
+
+  private TenantInitIndexService indexService;
+
+  @BeforeEach
+  void setUp() {
+    indexService = new TenantInitIndexService(indexRepository, mappingHelper, settingsHelper, resourceReindexClient,
+      resourceDescriptionService, new SimpleTenantProvider(), locationService, documentFingerprintStore,
+      searchResultCache, new IndexManagementConfigurationProperties());
+  }
+
+  @Test
+  void dropIndex_positive_invalidatesCachesOfTenantIndex() {
+    var indexName = getIndexName(INSTANCE, TENANT_ID);
+
+    indexService.dropIndex(INSTANCE, TENANT_ID);
+
+    verify(documentFingerprintStore).invalidateIndex(indexName);
+    verify(searchResultCache).invalidateIndex(indexName);
+  }
+}
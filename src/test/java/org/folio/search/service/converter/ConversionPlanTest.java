@@ -0,0 +1,63 @@
+package org.folio.search.service.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestConstants.RESOURCE_ID;
+import static org.folio.support.TestConstants.TENANT_ID;
+import static org.folio.support.utils.TestUtils.keywordField;
+import static org.folio.support.utils.TestUtils.mapOf;
+import static org.folio.support.utils.TestUtils.multilangField;
+import static org.folio.support.utils.TestUtils.objectField;
+import static org.folio.support.utils.TestUtils.plainField;
+import static org.folio.support.utils.TestUtils.standardFulltextField;
+
+import java.util.List;
+import java.util.Map;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ConversionPlanTest {
+
+  @Test
+  void convert_positive() {
+    var tenantField = keywordField();
+    tenantField.setTenantField(true);
+    var plan = ConversionPlan.compile(mapOf(
+      "id", keywordField(),
+      "tenantId", tenantField,
+      "title", multilangField(),
+      "notes", standardFulltextField(),
+      "ignored", plainField(PlainFieldDescription.NONE_FIELD_TYPE),
+      "items", objectField(mapOf("id", keywordField(), "metadata", objectField(mapOf("createdBy", keywordField()))))));
+    var ctx = ConversionContext.of(null, null, List.of("eng"), TENANT_ID);
+
+    var actual = plan.convert(mapOf(
+      "id", RESOURCE_ID,
+      "title", "title",
+      "notes", List.of("note"),
+      "ignored", "value",
+      "items", List.of(mapOf("id", "item1", "metadata", mapOf("updatedBy", "user")), mapOf("hrid", "hrid"), "str")),
+      ctx);
+
+    assertThat(actual).isEqualTo(mapOf(
+      "id", RESOURCE_ID,
+      "tenantId", TENANT_ID,
+      "title", mapOf("eng", "title", "src", "title"),
+      "plain_title", "title",
+      "notes", List.of("note"),
+      "plain_notes", List.of("note"),
+      "items", List.of(mapOf("id", "item1"))));
+  }
+
+  @Test
+  void convert_negative_noIndexableValues() {
+    var plan = ConversionPlan.compile(mapOf("id", keywordField(), "ignored", plainField("none")));
+    var ctx = ConversionContext.of(null, null, List.of(), TENANT_ID);
+
+    var actual = plan.convert(Map.of("ignored", "value"), ctx);
+
+    assertThat(actual).isNull();
+  }
+}
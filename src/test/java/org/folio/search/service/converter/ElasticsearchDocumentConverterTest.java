@@ -1,5 +1,6 @@
 package org.folio.search.service.converter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -11,11 +12,15 @@ import static org.folio.support.utils.TestUtils.array;
 import static org.folio.support.utils.TestUtils.mapOf;
 import static org.folio.support.utils.TestUtils.searchResult;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -42,6 +47,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import tools.jackson.databind.ObjectMapper;
@@ -84,6 +90,55 @@ class ElasticsearchDocumentConverterTest {
     assertThat(actual).isEqualTo(searchResult(TestResource.of(RESOURCE_ID)));
   }
 
+  @Test
+  void convertToSearchResult_positive_jsonSourceIsReadWithoutIntermediateMap() {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("""
+      {"id":"id","title":{"eng":"title value","src":"title value"},"plain_title":"title value",
+       "contributors":[{"plain_name":"John","name":{"src":"John"}},null],
+       "series":[{"value":"series1","plain_value":"series1"}],"metadata":{"updatedByUserId":"userId"}}"""));
+
+    var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, Instance.class);
+
+    assertThat(actual).isEqualTo(SearchResult.of(1, List.of(instance(instance -> instance.id("id")
+      .title("title value")
+      .contributors(List.of(new Contributor().name("John")))
+      .series(List.of(seriesItem("series1")))
+      .metadata(metadata())))));
+    verify(searchHit, never()).getSourceAsMap();
+    verify(objectMapper, never()).convertValue(any(), eq(Instance.class));
+  }
+
+  @Test
+  void writeSearchResult_positive() {
+    var response = """
+      {"took":1,"timed_out":false,"hits":{"total":{"value":2,"relation":"eq"},"max_score":1.0,"hits":[
+       {"_index":"instance","_id":"1","_source":{"id":"1","plain_title":"title1","title":{"src":"title1"},
+        "notes":[],"subjects":[{"plain_value":"s1","value":{"src":"s1"}},null],"editions":null,"source":""}},
+       {"_index":"instance","_id":"2","_source":{"id":"2","metadata":{"updatedByUserId":"userId"}}}]}}""";
+    var output = new ByteArrayOutputStream();
+
+    elasticsearchDocumentConverter.writeSearchResult(
+      new ByteArrayInputStream(response.getBytes(UTF_8)), output, "instances");
+
+    assertThat(output.toString(UTF_8)).isEqualTo("""
+      {"totalRecords":2,"instances":[{"id":"1","title":"title1","subjects":[{"value":"s1"}]},\
+      {"id":"2","metadata":{"updatedByUserId":"userId"}}]}""");
+  }
+
+  @Test
+  void writeSearchResult_positive_noHits() {
+    var response = "{\"hits\":{\"total\":{\"value\":0},\"hits\":[]}}";
+    var output = new ByteArrayOutputStream();
+
+    elasticsearchDocumentConverter.writeSearchResult(
+      new ByteArrayInputStream(response.getBytes(UTF_8)), output, "instances");
+
+    assertThat(output.toString(UTF_8)).isEqualTo("{\"totalRecords\":0}");
+  }
+
   @Test
   void convertToSearchResult_negative_searchHitsIsNull() {
     when(searchResponse.getHits()).thenReturn(null);
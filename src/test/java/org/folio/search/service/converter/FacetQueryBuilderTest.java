@@ -17,6 +17,7 @@ import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 
@@ -183,6 +184,20 @@ class FacetQueryBuilderTest {
       terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(2).includeExclude(include));
   }
 
+  @Test
+  void getFacetAggregations_positive_termsFilterQuery() {
+    var query = boolQuery().filter(termsQuery(FIELD, "v1", "v2"));
+    when(searchFieldProvider.getPlainFieldByPath(UNKNOWN, FIELD)).thenReturn(of(keywordField(FACET)));
+
+    var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD), query);
+
+    var include = new IncludeExclude(array("v1", "v2"), null);
+    var exclude = new IncludeExclude(null, array("v1", "v2"));
+    assertThat(actual).containsExactly(
+      terms(FIELD).field(FIELD).size(MAX_VALUE - 2).includeExclude(exclude),
+      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(2).includeExclude(include));
+  }
+
   @Test
   void getFacetAggregations_positive_disjunctionFilterQueryWithTermMoreThanSize() {
     var filterQuery = boolQuery();
@@ -24,8 +24,10 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import lombok.SneakyThrows;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.index.SearchDocumentBody;
@@ -65,6 +67,8 @@ class MultiTenantSearchDocumentConverterTest {
   private ResourceDescriptionService resourceDescriptionService;
   @Mock
   private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private ReindexConfigurationProperties reindexConfigurationProperties;
 
   @Test
   void convert_positive() {
@@ -242,6 +246,36 @@ class MultiTenantSearchDocumentConverterTest {
     verifyNoInteractions(executionService, folioExecutionContext);
   }
 
+  @Test
+  void convertForReindex_positive_parallelConversionKeepsOrder() {
+    var events = List.of(
+      resourceEvent(TENANT_ID, UNKNOWN, ResourceEventType.UPDATE, mapOf("id", randomId())),
+      resourceEvent(TENANT_ID, UNKNOWN, ResourceEventType.DELETE, mapOf("id", randomId())),
+      resourceEvent(TENANT_ID, UNKNOWN, ResourceEventType.UPDATE, mapOf("id", randomId())),
+      resourceEvent(TENANT_ID, UNKNOWN, ResourceEventType.UPDATE, mapOf("id", randomId())),
+      resourceEvent(TENANT_ID, UNKNOWN, ResourceEventType.DELETE, mapOf("id", randomId())));
+
+    when(reindexConfigurationProperties.getUploadConversionParallelism()).thenReturn(2);
+    when(reindexConfigurationProperties.getUploadConversionChunkSize()).thenReturn(2);
+    when(resourceDescriptionService.find(UNKNOWN)).thenReturn(of(resourceDescription(UNKNOWN)));
+    var expected = events.stream()
+      .map(event -> searchDocument(event, event.getType() == ResourceEventType.DELETE ? DELETE : INDEX))
+      .toList();
+    for (int i = 0; i < events.size(); i++) {
+      when(searchDocumentConverter.convert(events.get(i))).thenReturn(of(expected.get(i)));
+    }
+
+    try (var executor = Executors.newFixedThreadPool(2)) {
+      var converter = new MultiTenantSearchDocumentConverter(searchDocumentConverter, resourceDescriptionService,
+        eventPreProcessorBeans, executionService, folioExecutionContext, reindexConfigurationProperties, executor);
+
+      var actual = converter.convertForReindex(events);
+
+      assertThat(actual).containsExactlyElementsOf(expected);
+    }
+    verifyNoInteractions(executionService, folioExecutionContext);
+  }
+
   @SneakyThrows
   private static SearchDocumentBody searchDocument(ResourceEvent event, IndexActionType type) {
     return SearchDocumentBody.of(type == INDEX ? new BytesArray(SMILE_MAPPER.writeValueAsBytes(event.getNew())) : null,
@@ -96,7 +96,7 @@ class SearchDocumentConverterTest {
     searchConfig.getIndexing().setDataFormat(IndexingDataFormat.JSON);
     configurationPropertiesSpy = spy(searchConfig);
     documentMapper = new SearchDocumentConverter(searchFieldsProcessor,
-      languageConfigService, descriptionService, searchConfig, jsonConverter::toJsonBytes);
+      languageConfigService, descriptionService, searchConfig, jsonConverter::toJsonBytes, null);
 
     when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
     when(descriptionService.get(UNKNOWN)).thenReturn(
@@ -307,6 +307,47 @@ class SearchDocumentConverterTest {
     assertThat(actual).isEqualTo(expectedSearchDocument(event, expectedJson));
   }
 
+  @Test
+  void convert_positive_streamingConversion() {
+    var searchConfig = getSearchConfigurationProperties();
+    searchConfig.getIndexing().setStreamingConversionEnabled(true);
+    documentMapper = new SearchDocumentConverter(searchFieldsProcessor, languageConfigService, descriptionService,
+      searchConfig, smileConverter::toSmile, new StreamingSearchDocumentWriter(OBJECT_MAPPER, SMILE_MAPPER,
+        searchConfig));
+
+    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+    when(descriptionService.get(UNKNOWN)).thenReturn(
+      resourceDescription(resourceDescriptionFields(), List.of("$.language")));
+    var resourceEvent = resourceEvent(UNKNOWN, testResourceBody());
+
+    var actual = documentMapper.convert(resourceEvent);
+
+    assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedSearchDocumentBody()));
+  }
+
+  @Test
+  void convert_positive_streamingConversionSkipsEmptyObjects() {
+    var searchConfig = getSearchConfigurationProperties();
+    searchConfig.getIndexing().setStreamingConversionEnabled(true);
+    documentMapper = new SearchDocumentConverter(searchFieldsProcessor, languageConfigService, descriptionService,
+      searchConfig, smileConverter::toSmile, new StreamingSearchDocumentWriter(OBJECT_MAPPER, SMILE_MAPPER,
+        searchConfig));
+
+    when(descriptionService.get(UNKNOWN)).thenReturn(resourceDescription(mapOf(
+      "id", keywordField(), "tenantId", keywordField(),
+      "metadata", objectField(mapOf("createdAt", keywordField())),
+      "alternativeTitle", objectField(mapOf("value", multilangField())))));
+    var resourceEvent = resourceEvent(UNKNOWN, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID,
+      "metadata", mapOf("updatedAt", "ignored"),
+      "alternativeTitle", List.of(mapOf("value", "title1"), mapOf("value", null), emptyMap(), "title3")));
+
+    var actual = documentMapper.convert(resourceEvent);
+
+    ObjectNode expectedJson = jsonObject("id", RESOURCE_ID, "tenantId", TENANT_ID,
+      "alternativeTitle", jsonArray(jsonObject("value", jsonObject("src", "title1"), "plain_value", "title1")));
+    assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedJson));
+  }
+
   private static Map<String, FieldDescription> resourceDescriptionFields() {
     return mapOf(
       "id", keywordField(),
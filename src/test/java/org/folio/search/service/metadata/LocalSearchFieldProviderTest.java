@@ -98,6 +98,14 @@ class LocalSearchFieldProviderTest {
       "title2.sub3.plain_sub5", "source", "plain_allItems");
   }
 
+  @Test
+  void getAllSourceFields_positive() {
+    var actual = getSearchFieldProvider().getAllSourceFields(INSTANCE);
+    assertThat(actual).containsExactlyInAnyOrder("id", "plain_allInstance", "plain_allItems", "plain_allHoldings",
+      "contributors.plain_name", "plain_title1", "title2.sub1", "title2.plain_sub2", "title2.sub3.sub4",
+      "title2.sub3.plain_sub5", "source", "oldFieldName");
+  }
+
   @Test
   void getSourceFields_positive_nonExistingResource() {
     var actual = getSearchFieldProvider().getSourceFields(UNKNOWN, List.of());
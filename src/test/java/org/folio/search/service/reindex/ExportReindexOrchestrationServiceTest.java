@@ -4,21 +4,35 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.folio.search.model.event.ReindexRecordType.INSTANCE;
 import static org.folio.search.model.types.ReindexRangeStatus.FAIL;
 import static org.folio.search.model.types.ReindexRangeStatus.SUCCESS;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.support.TestConstants.MEMBER_TENANT_ID;
+import static org.folio.support.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import org.folio.s3.client.FolioS3Client;
 import org.folio.s3.exception.S3ClientException;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
@@ -32,6 +46,7 @@ import org.folio.search.model.types.IndexActionType;
 import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.search.model.types.ReindexEntityType;
 import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.search.repository.BulkIndexWriter;
 import org.folio.search.repository.PrimaryResourceRepository;
 import org.folio.search.service.converter.MultiTenantSearchDocumentConverter;
 import org.folio.search.service.reindex.jdbc.RawLine;
@@ -101,6 +116,56 @@ class ExportReindexOrchestrationServiceTest {
     verify(reindexStatusService).addProcessedUploadRanges(event.getEntityType(), 1);
   }
 
+  @Test
+  void process_shouldCompleteIndexBuild_whenRangeCompletesUpload() {
+    var event = reindexEvent();
+    when(uploadRangeService.fetchRecordRange(event)).thenReturn(List.of());
+    when(elasticRepository.indexResources(any())).thenReturn(getSuccessIndexOperationResponse());
+    when(reindexStatusService.addProcessedUploadRanges(event.getEntityType(), 1)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+
+    service.process(event);
+
+    verify(reindexService).completeIndexBuild(event.getEntityType(), TENANT_ID);
+  }
+
+  @Test
+  void process_shouldNotCompleteIndexBuild_whenUploadInProgress() {
+    var event = reindexEvent();
+    when(uploadRangeService.fetchRecordRange(event)).thenReturn(List.of());
+    when(elasticRepository.indexResources(any())).thenReturn(getSuccessIndexOperationResponse());
+
+    service.process(event);
+
+    verify(reindexService, never()).completeIndexBuild(any(), any());
+  }
+
+  @Test
+  void process_shouldStreamRangeRecords_whenStreamingEnabled() {
+    var event = reindexEvent();
+    var resourceEvent = new ResourceEvent();
+    var document = SearchDocumentBody.of(null, IndexingDataFormat.JSON, resourceEvent, IndexActionType.INDEX);
+    var bulkWriter = mock(BulkIndexWriter.class);
+
+    when(uploadRangeService.isStreamingEnabled(event)).thenReturn(true);
+    when(elasticRepository.openBulkWriter()).thenReturn(bulkWriter);
+    when(bulkWriter.getMaxActions()).thenReturn(100);
+    doAnswer(invocation -> {
+      invocation.<Consumer<List<ResourceEvent>>>getArgument(2).accept(List.of(resourceEvent));
+      return null;
+    }).when(uploadRangeService).streamRecordRange(eq(event), eq(100), any());
+    when(documentConverter.convertForReindex(List.of(resourceEvent))).thenReturn(List.of(document));
+    when(bulkWriter.awaitCompletion()).thenReturn(getSuccessIndexOperationResponse());
+
+    boolean result = service.process(event);
+
+    assertTrue(result);
+    verify(bulkWriter).addAll(List.of(document));
+    verify(bulkWriter).close();
+    verify(uploadRangeService, never()).fetchRecordRange(event);
+    verify(uploadRangeService).updateStatus(event, ReindexRangeStatus.SUCCESS, null);
+  }
+
   @Test
   void process_shouldThrowReindexException_whenElasticSearchReportsError() {
     var event = reindexEvent();
@@ -175,6 +240,29 @@ class ExportReindexOrchestrationServiceTest {
     verify(reindexStatusService).updateReindexUploadFailed(event.getEntityType());
   }
 
+  @Test
+  void process_shouldResplitRange_whenExceptionOccursDuringIndexing() {
+    var event = reindexEvent();
+    var firstHalf = reindexEvent();
+    var secondHalf = reindexEvent();
+    var resourceEvent = new ResourceEvent();
+    var documents = List.of(SearchDocumentBody.of(null, IndexingDataFormat.JSON, resourceEvent, IndexActionType.INDEX));
+
+    when(uploadRangeService.fetchRecordRange(event)).thenThrow(new RuntimeException("Query timeout"));
+    when(uploadRangeService.splitRange(event, 0)).thenReturn(List.of(firstHalf, secondHalf));
+    when(uploadRangeService.fetchRecordRange(firstHalf)).thenReturn(List.of(resourceEvent));
+    when(uploadRangeService.fetchRecordRange(secondHalf)).thenReturn(List.of(resourceEvent));
+    when(documentConverter.convertForReindex(List.of(resourceEvent))).thenReturn(documents);
+    when(elasticRepository.indexResources(documents)).thenReturn(getSuccessIndexOperationResponse());
+
+    boolean result = service.process(event);
+
+    assertTrue(result);
+    verify(elasticRepository, times(2)).indexResources(documents);
+    verify(uploadRangeService).updateStatus(event, ReindexRangeStatus.SUCCESS, null);
+    verify(reindexStatusService).addProcessedUploadRanges(event.getEntityType(), 1);
+  }
+
   @Test
   void process_reindexRangeIndexEvent_shouldHandleMemberTenantContext() {
     var event = reindexEvent();
@@ -245,6 +333,75 @@ class ExportReindexOrchestrationServiceTest {
     verify(mergeRangeService).updateStatus(ReindexEntityType.INSTANCE, rangeId, SUCCESS, null);
   }
 
+  @Test
+  void process_positive_reindexFileReadyEvent_shouldReadGzipFile() throws IOException {
+    var rangeId = UUID.randomUUID().toString();
+    var event = getReindexFileReadyEvent(rangeId);
+    var line = "{\"id\":\"ddc29cbf-f2f5-4f6a-9411-359d6274478e\"}";
+    var inventoryRecord = Map.<String, Object>of("id", "ddc29cbf-f2f5-4f6a-9411-359d6274478e");
+    when(folioS3Client.read(event.getObjectKey())).thenReturn(new ByteArrayInputStream(gzip(line + "\n")));
+    when(jsonConverter.fromJsonToMap(line)).thenReturn(inventoryRecord);
+
+    service.process(event);
+
+    var captor = ArgumentCaptor.<List<RawLine>>captor();
+    verify(mergeRangeService).saveEntitiesRaw(eq(event.getTenantId()), eq(INSTANCE), captor.capture());
+    assertEquals(List.of(new RawLine(line, inventoryRecord)), captor.getValue());
+    verify(mergeRangeService).updateStatus(ReindexEntityType.INSTANCE, rangeId, SUCCESS, null);
+  }
+
+  @Test
+  void process_positive_reindexFileReadyEvent_shouldSaveBatchesInFileOrder_whenParsingIsConcurrent() {
+    var rangeId = UUID.randomUUID().toString();
+    var event = getReindexFileReadyEvent(rangeId);
+    var lines = List.of("{\"id\":1}", "{\"id\":2}", "{\"id\":3}", "{\"id\":4}", "{\"id\":5}");
+    configurationProperties.setMergeExportParsingParallelism(2);
+    configurationProperties.setMergeExportBatchSize(2);
+    configurationProperties.setMergeExportPipelineCapacity(1);
+    when(folioS3Client.read(event.getObjectKey()))
+      .thenReturn(new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(UTF_8)));
+    when(jsonConverter.fromJsonToMap(anyString()))
+      .thenAnswer(invocation -> Map.of("line", invocation.getArgument(0)));
+    var savedLines = new ArrayList<String>();
+    doAnswer(invocation -> {
+      invocation.<List<RawLine>>getArgument(2).forEach(rawLine -> savedLines.add(rawLine.rawJson()));
+      return null;
+    }).when(mergeRangeService).saveEntitiesRaw(eq(event.getTenantId()), eq(INSTANCE), any());
+
+    var executor = Executors.newFixedThreadPool(3);
+    try {
+      concurrentService(executor).process(event);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(lines, savedLines);
+    verify(mergeRangeService, times(3)).saveEntitiesRaw(eq(event.getTenantId()), eq(INSTANCE), any());
+    verify(mergeRangeService).updateStatus(ReindexEntityType.INSTANCE, rangeId, SUCCESS, null);
+  }
+
+  @Test
+  void process_negative_reindexFileReadyEvent_shouldFailMerge_whenConcurrentParsingFails() {
+    var rangeId = UUID.randomUUID().toString();
+    var event = getReindexFileReadyEvent(rangeId);
+    var failCause = "invalid json";
+    configurationProperties.setMergeExportParsingParallelism(2);
+    when(reindexStatusService.getTargetTenantId()).thenReturn(MEMBER_TENANT_ID);
+    when(folioS3Client.read(event.getObjectKey())).thenReturn(new ByteArrayInputStream("{\n".getBytes(UTF_8)));
+    when(jsonConverter.fromJsonToMap("{")).thenThrow(new IllegalArgumentException(failCause));
+
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      assertTrue(concurrentService(executor).process(event));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(mergeRangeService, never()).saveEntitiesRaw(any(), any(), any());
+    verify(reindexStatusService).updateReindexMergeFailed(ReindexEntityType.INSTANCE);
+    verify(mergeRangeService).updateStatus(ReindexEntityType.INSTANCE, rangeId, FAIL, failCause);
+  }
+
   @Test
   void process_negative_reindexFileReadyEvent_shouldFailMergeOnException() {
     var rangeId = UUID.randomUUID().toString();
@@ -294,6 +451,20 @@ class ExportReindexOrchestrationServiceTest {
     verifyNoMoreInteractions(reindexStatusService, mergeRangeService);
   }
 
+  private ExportReindexOrchestrationService concurrentService(ExecutorService executor) {
+    return new ExportReindexOrchestrationService(uploadRangeService, configurationProperties, mergeRangeService,
+      reindexStatusService, elasticRepository, reindexService, documentConverter, context, jsonConverter,
+      folioS3Client, s3ReadRetryTemplate, executor, executor);
+  }
+
+  private static byte[] gzip(String value) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    try (var gzipStream = new GZIPOutputStream(outputStream)) {
+      gzipStream.write(value.getBytes(UTF_8));
+    }
+    return outputStream.toByteArray();
+  }
+
   private ReindexFileReadyEvent getReindexFileReadyEvent(String rangeId) {
     return new ReindexFileReadyEvent("diku", INSTANCE, rangeId, UUID.randomUUID().toString(),
       "bucket", "object-key", "2026-03-02T00:00:00.000Z");
@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import org.folio.search.service.reindex.RangeGenerator.Range;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -44,4 +47,31 @@ class RangeGeneratorTest {
       .startsWith(tuple(repeat("0", length), repeat("0", length - 1) + "1"))
       .endsWith(tuple(repeat("f", length), repeat("x", length)));
   }
+
+  @Test
+  void shouldCreateUuidRangesFromBoundaries() {
+    var ranges = RangeGenerator.createUuidRanges(List.of(
+      "40000000-0000-0000-0000-000000000000", "c0000000-0000-0000-0000-000000000000"));
+
+    assertThat(ranges).containsExactly(
+      new Range(repeat("0", 32), "3" + repeat("F", 31)),
+      new Range("4" + repeat("0", 31), "B" + repeat("F", 31)),
+      new Range("C" + repeat("0", 31), repeat("F", 32)));
+  }
+
+  @Test
+  void shouldSplitUuidRange() {
+    var ranges = RangeGenerator.splitUuidRange(new Range(repeat("0", 32), repeat("F", 32)), 2);
+
+    assertThat(ranges).containsExactly(
+      new Range(repeat("0", 32), "7" + repeat("F", 31)),
+      new Range("8" + repeat("0", 31), repeat("F", 32)));
+  }
+
+  @Test
+  void shouldNotSplitNonUuidRange() {
+    var range = new Range("00a", "00b");
+
+    assertThat(RangeGenerator.splitUuidRange(range, 2)).containsExactly(range);
+  }
 }
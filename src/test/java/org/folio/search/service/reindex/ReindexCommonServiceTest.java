@@ -1,5 +1,6 @@
 package org.folio.search.service.reindex;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.model.types.ReindexEntityType.CALL_NUMBER;
 import static org.folio.search.model.types.ReindexEntityType.CLASSIFICATION;
 import static org.folio.search.model.types.ReindexEntityType.CONTRIBUTOR;
@@ -9,15 +10,20 @@ import static org.folio.search.model.types.ReindexEntityType.ITEM;
 import static org.folio.search.model.types.ReindexEntityType.SUBJECT;
 import static org.folio.support.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import org.folio.search.configuration.properties.IndexManagementConfigurationProperties;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.IndexSettings;
@@ -62,6 +68,8 @@ class ReindexCommonServiceTest {
   private IndexService indexService;
   @Mock
   private PrimaryResourceRepository resourceRepository;
+  private final IndexManagementConfigurationProperties indexManagementConfig =
+    new IndexManagementConfigurationProperties();
 
   @BeforeEach
   void setUp() {
@@ -78,7 +86,7 @@ class ReindexCommonServiceTest {
       subjectRepository, contributorRepository, classificationRepository, callNumberRepository
     );
 
-    service = new ReindexCommonService(repositories, indexService, resourceRepository);
+    service = new ReindexCommonService(repositories, indexService, resourceRepository, indexManagementConfig);
   }
 
   @Test
@@ -192,6 +200,75 @@ class ReindexCommonServiceTest {
     verify(indexService).createIndex(ResourceType.INSTANCE, TENANT_ID, null);
   }
 
+  @Test
+  void recreateIndex_blueGreenEnabled_shouldCreateIndexGeneration() {
+    // Arrange
+    var indexSettings = new IndexSettings();
+    indexManagementConfig.setBlueGreenReindexEnabled(true);
+    service = new ReindexCommonService(List.of(instanceRepository), indexService, resourceRepository,
+      indexManagementConfig);
+
+    // Act
+    service.recreateIndex(INSTANCE, TENANT_ID, indexSettings);
+
+    // Assert
+    verify(indexService).createIndexGeneration(ResourceType.INSTANCE, TENANT_ID, indexSettings);
+    verify(indexService, never()).dropIndex(any(), any());
+  }
+
+  @Test
+  void awaitIndexBuildMirroring_blueGreenEnabled_shouldWaitIndexAliasCacheTtl() {
+    // Arrange
+    indexManagementConfig.setBlueGreenReindexEnabled(true);
+    indexManagementConfig.setIndexAliasCacheTtlSeconds(1);
+    service = new ReindexCommonService(List.of(instanceRepository), indexService, resourceRepository,
+      indexManagementConfig);
+    var startTime = System.nanoTime();
+
+    // Act
+    service.awaitIndexBuildMirroring();
+
+    // Assert
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void awaitIndexBuildMirroring_blueGreenDisabled_shouldNotWait() {
+    var startTime = System.nanoTime();
+
+    service.awaitIndexBuildMirroring();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void promoteIndex_whenExceptionOccurs_shouldPropagateException() {
+    // Arrange
+    doThrow(new RuntimeException("Test exception"))
+      .when(indexService).promoteIndexGeneration(any(), any());
+
+    // Act & Assert
+    var exception = assertThrows(RuntimeException.class, () -> service.promoteIndex(INSTANCE, TENANT_ID));
+    assertEquals("Test exception", exception.getMessage());
+    verify(indexService).promoteIndexGeneration(ResourceType.INSTANCE, TENANT_ID);
+  }
+
+  @Test
+  void prepareIncrementalUploadIndex_blueGreenEnabled_shouldDropIndexGenerationFirst() {
+    // Arrange
+    indexManagementConfig.setBlueGreenReindexEnabled(true);
+    service = new ReindexCommonService(List.of(instanceRepository), indexService, resourceRepository,
+      indexManagementConfig);
+
+    // Act
+    service.prepareIncrementalUploadIndex(INSTANCE, TENANT_ID);
+
+    // Assert
+    var inOrder = inOrder(indexService);
+    inOrder.verify(indexService).dropIndexGeneration(ResourceType.INSTANCE, TENANT_ID);
+    inOrder.verify(indexService).createIndexIfNotExist(ResourceType.INSTANCE, TENANT_ID);
+  }
+
   @Test
   void ensureIndexExists_shouldCallCreateIndexIfNotExist() {
     // Arrange
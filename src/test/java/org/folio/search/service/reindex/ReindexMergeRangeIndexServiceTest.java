@@ -219,6 +219,21 @@ class ReindexMergeRangeIndexServiceTest {
       List.of(data));
   }
 
+  @EnumSource(value = ReindexRecordType.class)
+  @ParameterizedTest
+  void saveEntitiesRaw_positive_copyEnabled(ReindexRecordType recordType) {
+    var rawJson = "{\"id\":\"" + UUID.randomUUID() + "\"}";
+    var data = Map.<String, Object>of("id", UUID.randomUUID().toString());
+    var rawLine = new RawLine(rawJson, data);
+    when(config.isMergeCopyEnabled()).thenReturn(true);
+
+    service.saveEntitiesRaw(TENANT_ID, recordType, List.of(rawLine));
+
+    var repository = repositoryMap.get(recordType.getEntityType());
+    verify(repository).copyEntitiesRaw(TENANT_ID, List.of(rawLine));
+    verify(repository, never()).saveEntitiesRaw(any(), any());
+  }
+
   @EnumSource(value = ReindexRecordType.class)
   @ParameterizedTest
   void saveEntitiesRaw_positive_withoutInstanceChildrenResourceService(ReindexRecordType recordType) {
@@ -257,4 +272,15 @@ class ReindexMergeRangeIndexServiceTest {
 
     verify(stagingMigrationService).migrateAllStagingTables(TENANT_ID);
   }
+
+  @Test
+  void performStagingMigration_positive_concurrentMigration() {
+    when(config.getMigrationParallelism()).thenReturn(4);
+    when(stagingMigrationService.migrateAllStagingTablesConcurrently(TENANT_ID)).thenReturn(new MigrationResult());
+
+    service.performStagingMigration(TENANT_ID);
+
+    verify(stagingMigrationService).migrateAllStagingTablesConcurrently(TENANT_ID);
+    verify(stagingMigrationService, never()).migrateAllStagingTables(any());
+  }
 }
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.when;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -108,6 +110,7 @@ class ReindexServiceTest {
     verify(statusService).recreateMergeStatusRecords(null);
     verify(reindexCommonService, times(ReindexEntityType.supportUploadTypes().size()))
       .recreateIndex(any(), eq(tenant), eq(indexSettings));
+    verify(reindexCommonService).awaitIndexBuildMirroring();
     verify(mergeRangeService).saveMergeRanges(anyList());
     verify(statusService, times(expectedCallsCount))
       .updateReindexMergeStarted(any(ReindexEntityType.class), eq(1));
@@ -197,6 +200,7 @@ class ReindexServiceTest {
     verify(reindexCommonService).enableAutoVacuumEntityTables();
     verify(uploadRangeService).prepareAndSendIndexRanges(INSTANCE);
     verify(reindexCommonService, never()).recreateIndex(any(), any(), any());
+    verify(reindexCommonService, never()).awaitIndexBuildMirroring();
   }
 
   @Test
@@ -210,9 +214,11 @@ class ReindexServiceTest {
 
     verify(statusService).getTargetTenantId();
     verify(statusService).upsertUploadStatusRecord(eq(INSTANCE), any());
-    verify(reindexCommonService).recreateIndex(eq(INSTANCE), eq(TENANT_ID), any());
     verify(reindexCommonService).enableAutoVacuumEntityTables();
-    verify(uploadRangeService).prepareAndSendIndexRanges(INSTANCE);
+    var inOrder = inOrder(reindexCommonService, uploadRangeService);
+    inOrder.verify(reindexCommonService).recreateIndex(eq(INSTANCE), eq(TENANT_ID), any());
+    inOrder.verify(reindexCommonService).awaitIndexBuildMirroring();
+    inOrder.verify(uploadRangeService).prepareAndSendIndexRanges(INSTANCE);
   }
 
   @Test
@@ -230,6 +236,56 @@ class ReindexServiceTest {
     verify(uploadRangeService, never()).prepareAndSendIndexRanges(HOLDINGS);
   }
 
+  @Test
+  void submitUploadReindex_positive_incrementalFromUploadWatermark() {
+    var watermark = Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"));
+    var uploadDto = new ReindexUploadDto()
+      .entityTypes(List.of(ReindexUploadDto.EntityTypesEnum.INSTANCE))
+      .incremental(true);
+    when(consortiumService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
+    when(entityTypeMapper.convert(uploadDto.getEntityTypes())).thenReturn(List.of(INSTANCE));
+    when(statusService.getUploadWatermarks()).thenReturn(Map.of(INSTANCE, watermark));
+    doAnswer(executeRunnable()).when(reindexExecutor).execute(any());
+
+    reindexService.submitUploadReindex(TENANT_ID, uploadDto);
+
+    verify(statusService).upsertUploadStatusRecord(eq(INSTANCE), any());
+    verify(reindexCommonService).prepareIncrementalUploadIndex(INSTANCE, TENANT_ID);
+    verify(uploadRangeService).prepareAndSendIndexRanges(INSTANCE, watermark);
+    verify(reindexCommonService, never()).recreateIndex(any(), any(), any());
+  }
+
+  @Test
+  void submitUploadReindex_positive_incrementalUpdatedSince() {
+    var updatedSince = OffsetDateTime.parse("2026-02-01T10:00:00Z");
+    var uploadDto = new ReindexUploadDto()
+      .entityTypes(List.of(ReindexUploadDto.EntityTypesEnum.INSTANCE))
+      .updatedSince(updatedSince);
+    when(consortiumService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
+    when(entityTypeMapper.convert(uploadDto.getEntityTypes())).thenReturn(List.of(INSTANCE));
+    doAnswer(executeRunnable()).when(reindexExecutor).execute(any());
+
+    reindexService.submitUploadReindex(TENANT_ID, uploadDto);
+
+    verify(reindexCommonService).prepareIncrementalUploadIndex(INSTANCE, TENANT_ID);
+    verify(uploadRangeService).prepareAndSendIndexRanges(INSTANCE, Timestamp.from(updatedSince.toInstant()));
+    verify(reindexCommonService, never()).recreateIndex(any(), any(), any());
+  }
+
+  @Test
+  void submitUploadReindex_negative_incrementalWithoutUploadWatermark() {
+    var uploadDto = new ReindexUploadDto()
+      .entityTypes(List.of(ReindexUploadDto.EntityTypesEnum.INSTANCE))
+      .incremental(true);
+    when(consortiumService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
+    when(entityTypeMapper.convert(uploadDto.getEntityTypes())).thenReturn(List.of(INSTANCE));
+    when(statusService.getUploadWatermarks()).thenReturn(Map.of());
+
+    assertThrows(RequestValidationException.class, () -> reindexService.submitUploadReindex(TENANT_ID, uploadDto));
+
+    verifyNoInteractions(uploadRangeService);
+  }
+
   @Test
   void submitUploadReindex_negative_failedToPrepareUploadRangesAndSendThem() {
     when(consortiumService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
@@ -354,6 +410,7 @@ class ReindexServiceTest {
     verify(reindexCommonService, times(ReindexEntityType.supportUploadTypes().size()))
       .ensureIndexExists(any(), eq(tenant), any());
     verify(reindexCommonService, never()).recreateIndex(any(), any(), any());
+    verify(reindexCommonService, never()).awaitIndexBuildMirroring();
     verify(mergeRangeService).truncateMergeRanges();
     verify(mergeRangeService).saveMergeRanges(anyList());
     verify(statusService, times(expectedCallsCount))
@@ -423,6 +480,33 @@ class ReindexServiceTest {
     verifyNoInteractions(mergeRangeService);
   }
 
+  @Test
+  void completeIndexBuild_positive_promotesIndex() {
+    when(reindexCommonService.isBlueGreenReindexEnabled()).thenReturn(true);
+
+    reindexService.completeIndexBuild(INSTANCE, TENANT_ID);
+
+    verify(reindexCommonService).promoteIndex(INSTANCE, TENANT_ID);
+  }
+
+  @Test
+  void completeIndexBuild_negative_promotionFailed() {
+    when(reindexCommonService.isBlueGreenReindexEnabled()).thenReturn(true);
+    doThrow(new RuntimeException("alias error")).when(reindexCommonService).promoteIndex(INSTANCE, TENANT_ID);
+
+    reindexService.completeIndexBuild(INSTANCE, TENANT_ID);
+
+    verify(statusService).updateReindexUploadFailed(INSTANCE);
+  }
+
+  @Test
+  void completeIndexBuild_negative_blueGreenReindexDisabled() {
+    reindexService.completeIndexBuild(INSTANCE, TENANT_ID);
+
+    verifyNoInteractions(statusService);
+    verify(reindexCommonService, never()).promoteIndex(any(), any());
+  }
+
   private MergeRangeEntity buildMergeRangeEntity(UUID id, String tenant) {
     var bound = UUID.randomUUID().toString();
     return new MergeRangeEntity(id, null, INSTANCE, tenant, bound, bound, Timestamp.from(Instant.now()), null, null);
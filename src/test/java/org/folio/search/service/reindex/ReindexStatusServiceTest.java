@@ -155,12 +155,13 @@ class ReindexStatusServiceTest {
     // given
     var entityType = INSTANCE;
     var ranges = 5;
+    when(statusRepository.addProcessedUploadRanges(entityType, ranges)).thenReturn(true);
 
     // act
-    service.addProcessedUploadRanges(entityType, ranges);
+    var uploadCompleted = service.addProcessedUploadRanges(entityType, ranges);
 
     // assert
-    verify(statusRepository).addReindexCounts(entityType, 0, ranges);
+    assertThat(uploadCompleted).isTrue();
   }
 
   @Test
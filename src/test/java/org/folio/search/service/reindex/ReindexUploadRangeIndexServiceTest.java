@@ -5,15 +5,20 @@ import static org.folio.search.service.reindex.StagingMigrationService.RESOURCE_
 import static org.folio.support.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.support.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.assertj.core.groups.Tuple;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.event.ReindexRangeIndexEvent;
 import org.folio.search.model.reindex.UploadRangeEntity;
@@ -39,12 +44,14 @@ class ReindexUploadRangeIndexServiceTest {
   private @Mock UploadRangeRepository repository;
   private @Mock FolioMessageProducer<ReindexRangeIndexEvent> indexRangeEventProducer;
   private @Mock ReindexStatusService statusService;
+  private final ReindexConfigurationProperties reindexConfig = new ReindexConfigurationProperties();
   private ReindexUploadRangeIndexService service;
 
   @BeforeEach
   void setUp() {
     when(repository.entityType()).thenReturn(ReindexEntityType.INSTANCE);
-    service = new ReindexUploadRangeIndexService(List.of(repository), indexRangeEventProducer, statusService);
+    service = new ReindexUploadRangeIndexService(List.of(repository), indexRangeEventProducer, statusService,
+      reindexConfig);
   }
 
   @Test
@@ -94,6 +101,20 @@ class ReindexUploadRangeIndexServiceTest {
         MEMBER_TENANT_ID));
   }
 
+  @Test
+  void prepareAndSendIndexRanges_positive_incremental(@Random UploadRangeEntity uploadRange) {
+    var updatedSince = new Timestamp(1_767_225_600_000L);
+    when(repository.createUploadRanges()).thenReturn(List.of(uploadRange));
+
+    service.prepareAndSendIndexRanges(ReindexEntityType.INSTANCE, updatedSince);
+
+    var captor = ArgumentCaptor.<List<ReindexRangeIndexEvent>>captor();
+    verify(indexRangeEventProducer).sendMessages(captor.capture());
+    assertThat(captor.getValue())
+      .extracting(ReindexRangeIndexEvent::getLower, ReindexRangeIndexEvent::getUpdatedSince)
+      .containsExactly(Tuple.tuple(uploadRange.getLower(), updatedSince.getTime()));
+  }
+
   @Test
   void prepareAndSendIndexRanges_negative_shouldThrowExceptionForUnknownEntity() {
     // assert
@@ -122,6 +143,28 @@ class ReindexUploadRangeIndexServiceTest {
       .containsExactly(Tuple.tuple(recordId, TENANT_ID, mockRecord, ResourceType.INSTANCE.getName()));
   }
 
+  @Test
+  void fetchRecordRange_positive_incremental() {
+    var recordId = UUID.randomUUID().toString();
+    var updatedSince = new Timestamp(1_767_225_600_000L);
+    var indexEvent = new ReindexRangeIndexEvent();
+    indexEvent.setId(UUID.randomUUID());
+    indexEvent.setEntityType(ReindexEntityType.INSTANCE);
+    indexEvent.setTenant(TENANT_ID);
+    indexEvent.setLower("00");
+    indexEvent.setUpper("ff");
+    indexEvent.setUpdatedSince(updatedSince.getTime());
+    reindexConfig.setUploadRangeStreamingEnabled(true);
+
+    var mockRecord = Map.<String, Object>of("id", recordId, "key", "val");
+    when(repository.fetchByIdRangeUpdatedSince("00", "ff", updatedSince)).thenReturn(List.of(mockRecord));
+
+    var actual = service.fetchRecordRange(indexEvent);
+
+    assertThat(actual).extracting(ResourceEvent::getId).containsExactly(recordId);
+    assertThat(service.isStreamingEnabled(indexEvent)).isFalse();
+  }
+
   @Test
   void fetchRecordRange_positive_withMemberTenantId() {
     var recordId = UUID.randomUUID().toString();
@@ -145,6 +188,42 @@ class ReindexUploadRangeIndexServiceTest {
       .containsExactly(Tuple.tuple(recordId, TENANT_ID, mockRecord, ResourceType.INSTANCE.getName()));
   }
 
+  @Test
+  void streamRecordRange_positive() {
+    var recordId = UUID.randomUUID().toString();
+    var indexEvent = new ReindexRangeIndexEvent();
+    indexEvent.setId(UUID.randomUUID());
+    indexEvent.setEntityType(ReindexEntityType.INSTANCE);
+    indexEvent.setTenant(TENANT_ID);
+    indexEvent.setLower("00");
+    indexEvent.setUpper("ff");
+
+    var mockRecord = Map.<String, Object>of("id", recordId, "key", "val");
+    doAnswer(invocation -> {
+      invocation.<Consumer<List<Map<String, Object>>>>getArgument(3).accept(List.of(mockRecord));
+      return null;
+    }).when(repository).streamByIdRange(eq("00"), eq("ff"), eq(10), any());
+
+    var actual = new ArrayList<ResourceEvent>();
+    service.streamRecordRange(indexEvent, 10, actual::addAll);
+
+    assertThat(actual)
+      .extracting(ResourceEvent::getId, ResourceEvent::getTenant, ResourceEvent::getNew, ResourceEvent::getResourceName)
+      .containsExactly(Tuple.tuple(recordId, TENANT_ID, mockRecord, ResourceType.INSTANCE.getName()));
+  }
+
+  @Test
+  void isStreamingEnabled_positive() {
+    var indexEvent = new ReindexRangeIndexEvent();
+    assertThat(service.isStreamingEnabled(indexEvent)).isFalse();
+
+    reindexConfig.setUploadRangeStreamingEnabled(true);
+    assertThat(service.isStreamingEnabled(indexEvent)).isTrue();
+
+    indexEvent.setMemberTenantId(MEMBER_TENANT_ID);
+    assertThat(service.isStreamingEnabled(indexEvent)).isFalse();
+  }
+
   @Test
   void updateStatus_positive() {
     var eventId = UUID.randomUUID();
@@ -160,4 +239,25 @@ class ReindexUploadRangeIndexServiceTest {
       eq(ReindexRangeStatus.FAIL), eq(failCause));
     assertThat(timestampCaptor.getValue()).isNotNull();
   }
+
+  @Test
+  void splitRange_positive() {
+    reindexConfig.setUploadRangeResplitDepth(1);
+    var event = new ReindexRangeIndexEvent();
+    event.setId(UUID.randomUUID());
+    event.setEntityType(ReindexEntityType.INSTANCE);
+    event.setLower("00000000000000000000000000000000");
+    event.setUpper("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF");
+    event.setTenant(TENANT_ID);
+
+    var actual = service.splitRange(event, 0);
+
+    assertThat(actual)
+      .extracting(ReindexRangeIndexEvent::getId, ReindexRangeIndexEvent::getLower, ReindexRangeIndexEvent::getUpper,
+        ReindexRangeIndexEvent::getTenant)
+      .containsExactly(
+        Tuple.tuple(event.getId(), "00000000000000000000000000000000", "7FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF", TENANT_ID),
+        Tuple.tuple(event.getId(), "80000000000000000000000000000000", "FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF", TENANT_ID));
+    assertThat(service.splitRange(event, 1)).isEmpty();
+  }
 }
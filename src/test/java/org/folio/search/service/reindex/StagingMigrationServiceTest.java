@@ -2,6 +2,9 @@ package org.folio.search.service.reindex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.model.types.ReindexEntityType.HOLDINGS;
+import static org.folio.search.model.types.ReindexEntityType.INSTANCE;
+import static org.folio.search.model.types.ReindexEntityType.ITEM;
 import static org.folio.support.TestConstants.MEMBER_TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -17,6 +20,8 @@ import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.exception.ReindexException;
 import org.folio.spring.FolioExecutionContext;
@@ -29,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +58,10 @@ class StagingMigrationServiceTest {
   private ReindexConfigurationProperties reindexConfigurationProperties;
   @Mock
   private org.folio.spring.FolioModuleMetadata folioModuleMetadata;
+  @Mock
+  private ReindexStatusService reindexStatusService;
+  @Mock
+  private PlatformTransactionManager transactionManager;
 
   @BeforeEach
   void setUp() {
@@ -128,6 +138,59 @@ class StagingMigrationServiceTest {
     inOrder.verify(reindexCommonService).deleteAllRecords(targetTenantId);
   }
 
+  @Test
+  void migrateAllStagingTablesConcurrently_shouldMigratePhasesInChunks() {
+    // Arrange
+    var executor = Executors.newFixedThreadPool(4);
+    var service = concurrentMigrationService(executor);
+    when(reindexConfigurationProperties.getMigrationChunks()).thenReturn(2);
+    when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+    try {
+      // Act
+      var result = service.migrateAllStagingTablesConcurrently(MEMBER_TENANT_ID);
+
+      // Assert - chunked phases are migrated by 2 chunks, child resources in a single statement
+      assertThat(result.getTotalInstances()).isEqualTo(2);
+      assertThat(result.getTotalHoldings()).isEqualTo(2);
+      assertThat(result.getTotalItems()).isEqualTo(2);
+      assertThat(result.getTotalRelationships()).isEqualTo(12);
+      verify(jdbcTemplate, times(2)).update(contains("staging_instance\nWHERE id BETWEEN ?::uuid AND ?::uuid"),
+        eq(Timestamp.valueOf("2000-01-01 00:00:00")), anyString(), anyString());
+      verify(reindexStatusService).updateStagingCompleted(INSTANCE);
+      verify(reindexStatusService).updateStagingCompleted(HOLDINGS);
+      verify(reindexStatusService).updateStagingCompleted(ITEM);
+
+      var inOrder = inOrder(reindexCommonService);
+      inOrder.verify(reindexCommonService).deleteRecordsByTenantId(MEMBER_TENANT_ID);
+      inOrder.verify(reindexCommonService).deleteAllRecords(MEMBER_TENANT_ID);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void migrateAllStagingTablesConcurrently_whenChunkFails_shouldThrowReindexException() {
+    // Arrange
+    var executor = Executors.newFixedThreadPool(4);
+    var service = concurrentMigrationService(executor);
+    when(reindexConfigurationProperties.getMigrationChunks()).thenReturn(2);
+    when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new DataAccessException("SQL error") {});
+
+    try {
+      // Act & Assert
+      assertThatThrownBy(() -> service.migrateAllStagingTablesConcurrently(MEMBER_TENANT_ID))
+        .isInstanceOf(ReindexException.class)
+        .hasMessageContaining("Failed to migrate staging tables")
+        .hasCauseInstanceOf(DataAccessException.class);
+
+      // Staging tables should NOT be truncated when migration fails
+      verify(reindexCommonService, times(0)).deleteAllRecords(any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void migrateAllStagingTables_whenDatabaseError_shouldThrowReindexException() {
     // Arrange
@@ -216,5 +279,9 @@ class StagingMigrationServiceTest {
       .isInstanceOf(ReindexException.class)
       .hasMessageContaining("Failed to configure transaction settings");
   }
-}
 
+  private StagingMigrationService concurrentMigrationService(ExecutorService executor) {
+    return new StagingMigrationService(jdbcTemplate, context, reindexCommonService, reindexConfigurationProperties,
+      reindexStatusService, transactionManager, executor);
+  }
+}
@@ -143,6 +143,41 @@ class ClassificationRepositoryIT {
         tuple("number2", List.of(Map.of("count", 2, "shared", false, "tenantId", TENANT_ID))));
   }
 
+  @Test
+  void saveAll_instanceCountsMaintainedByTriggers() {
+    var instanceId = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+    repository.saveAll(new ChildResourceEntityBatch(
+      Set.of(classificationEntity("1"), classificationEntity("2")), List.of(
+        classificationRelation(instanceId, "1"),
+        classificationRelation(instanceId, "2"),
+        classificationRelation("b3bae8a9-cfb1-4afe-83d5-2cdae4580e07", "2"))));
+
+    assertThat(jdbcTemplate.queryForList(
+      "SELECT classification_id, instance_count FROM instance_classification_count ORDER BY classification_id"))
+      .extracting(row -> row.get("classification_id"), row -> row.get("instance_count"))
+      .containsExactly(tuple("1", 1L), tuple("2", 2L));
+
+    // act
+    repository.deleteByInstanceIds(List.of(instanceId), null);
+
+    // assert
+    assertThat(jdbcTemplate.queryForList(
+      "SELECT classification_id, instance_count FROM instance_classification_count ORDER BY classification_id"))
+      .extracting(row -> row.get("classification_id"), row -> row.get("instance_count"))
+      .containsExactly(tuple("2", 1L));
+  }
+
+  @Test
+  void truncateInstanceClassification_instanceCountsRemoved() {
+    repository.saveAll(new ChildResourceEntityBatch(Set.of(classificationEntity("1")),
+      List.of(classificationRelation("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11", "1"))));
+
+    jdbcTemplate.execute("TRUNCATE instance_classification");
+
+    assertThat(jdbcTemplate.queryForObject(
+      "SELECT count(*) FROM instance_classification_count", Integer.class)).isZero();
+  }
+
   @Test
   void saveAllOnReindex() {
     // save entity "1" via saveAll first, capturing its last_updated_date
@@ -120,6 +120,32 @@ class ContributorRepositoryIT {
           "typeId", List.of("b7df83a1-8b15-46c1-9a4c-9d2dbb3cf4d5")))));
   }
 
+  @Test
+  void saveAll_countsInstanceOnceForMultipleContributorTypes() {
+    var instanceId = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+    var relations = List.of(
+      contributorRelation(instanceId, "1"),
+      contributorRelation(instanceId, "1", "9ec55e4f-6a76-427c-b47b-197046f44a53"));
+
+    repository.saveAll(new ChildResourceEntityBatch(Set.of(contributorEntity("1")), relations));
+    repository.saveAll(new ChildResourceEntityBatch(Set.of(contributorEntity("1")),
+      List.of(contributorRelation("b3bae8a9-cfb1-4afe-83d5-2cdae4580e07", "1"))));
+
+    assertThat(repository.fetchByIdRange("0", "50"))
+      .extracting("name", "instances")
+      .containsExactly(tuple("name1", List.of(Map.of("count", 2, "shared", false, "tenantId", TENANT_ID,
+        "typeId", List.of("9ec55e4f-6a76-427c-b47b-197046f44a53", "b7df83a1-8b15-46c1-9a4c-9d2dbb3cf4d5")))));
+
+    // act
+    repository.deleteByInstanceIds(List.of(instanceId), null);
+
+    // assert
+    assertThat(repository.fetchByIdRange("0", "50"))
+      .extracting("name", "instances")
+      .containsExactly(tuple("name1", List.of(Map.of("count", 1, "shared", false, "tenantId", TENANT_ID,
+        "typeId", List.of("b7df83a1-8b15-46c1-9a4c-9d2dbb3cf4d5")))));
+  }
+
   @Test
   void saveAllOnReindex() {
     // save entity "1" via saveAll first, capturing its last_updated_date
@@ -218,10 +244,14 @@ class ContributorRepositoryIT {
   }
 
   private Map<String, Object> contributorRelation(String instanceId, String contributorId) {
+    return contributorRelation(instanceId, contributorId, "b7df83a1-8b15-46c1-9a4c-9d2dbb3cf4d5");
+  }
+
+  private Map<String, Object> contributorRelation(String instanceId, String contributorId, String typeId) {
     return Map.of(
       "instanceId", instanceId,
       "contributorId", contributorId,
-      CONTRIBUTOR_TYPE_FIELD, "b7df83a1-8b15-46c1-9a4c-9d2dbb3cf4d5",
+      CONTRIBUTOR_TYPE_FIELD, typeId,
       "tenantId", TENANT_ID,
       "shared", false
     );
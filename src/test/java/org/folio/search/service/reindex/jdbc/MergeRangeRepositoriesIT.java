@@ -304,9 +304,16 @@ class MergeRangeRepositoriesIT {
         .toList();
       repo.saveEntitiesRaw(tenantId, rawLines);
     };
+    SaveStrategy copyStrategy = (repo, tenantId, entities) -> {
+      var rawLines = entities.stream()
+        .map(e -> new RawLine(jsonConverter.toJson(e), e))
+        .toList();
+      repo.copyEntitiesRaw(tenantId, rawLines);
+    };
     return Stream.of(
       new Object[]{"map (saveEntities)", mapStrategy},
-      new Object[]{"raw (saveEntitiesRaw)", rawStrategy}
+      new Object[]{"raw (saveEntitiesRaw)", rawStrategy},
+      new Object[]{"copy (copyEntitiesRaw)", copyStrategy}
     );
   }
 
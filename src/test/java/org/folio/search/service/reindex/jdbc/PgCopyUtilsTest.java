@@ -0,0 +1,19 @@
+package org.folio.search.service.reindex.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PgCopyUtilsTest {
+
+  @Test
+  void appendRow_positive_escapesTextFormatCharacters() {
+    var buffer = new StringBuilder();
+
+    PgCopyUtils.appendRow(buffer, new Object[] {"id", null, true, "{\"title\":\"a\\\"b\tc\"}"});
+
+    assertThat(buffer).hasToString("id\t\\N\ttrue\t{\"title\":\"a\\\\\"b\\tc\"}\n");
+  }
+}
@@ -131,6 +131,29 @@ class ReindexStatusRepositoryIT {
         && reindexStatus.getEndTimeUpload() != null);
   }
 
+  @Test
+  @Sql("/sql/populate-reindex-status.sql")
+  void addProcessedUploadRanges_shouldReturnTrueOnlyForUpdateCompletingUpload() {
+    // act
+    var completed = repository.addProcessedUploadRanges(SUBJECT, 1);
+    var completedAgain = repository.addProcessedUploadRanges(SUBJECT, 1);
+
+    // assert
+    assertThat(completed).isTrue();
+    assertThat(completedAgain).isFalse();
+    assertThat(repository.getReindexStatuses())
+      .filteredOn(reindexStatus -> SUBJECT.equals(reindexStatus.getEntityType()))
+      .allMatch(reindexStatus -> UPLOAD_COMPLETED.equals(reindexStatus.getStatus()));
+  }
+
+  @Test
+  @Sql("/sql/populate-reindex-status.sql")
+  void addProcessedUploadRanges_shouldReturnFalseWhenUploadInProgress() {
+    repository.addReindexCounts(SUBJECT, 0, -1);
+
+    assertThat(repository.addProcessedUploadRanges(SUBJECT, 1)).isFalse();
+  }
+
   @Test
   @Sql("/sql/populate-reindex-status.sql")
   void setMergeInProgress() {
@@ -126,6 +126,19 @@ class SubjectRepositoryIT {
       );
   }
 
+  @Test
+  @Sql("/sql/populate-subjects.sql")
+  void fetchByIdRangeUpdatedSince_returnsSubjectsChangedAfterTimestamp() {
+    jdbcTemplate.update("UPDATE subject SET last_updated_date = now() - interval '1 day' WHERE id = '20'");
+    var updatedSince = new Timestamp(System.currentTimeMillis() - 60_000);
+
+    var ranges = repository.fetchByIdRangeUpdatedSince("20", "21", updatedSince);
+
+    assertThat(ranges)
+      .extracting("value")
+      .containsExactly("History");
+  }
+
   @Test
   @Sql("/sql/populate-subjects.sql")
   void deleteByInstanceIds_oneSubjectRemovedAndOneInstanceCounterDecremented() {
@@ -165,6 +178,39 @@ class SubjectRepositoryIT {
         tuple("value2", List.of(Map.of("count", 2, "shared", false, "tenantId", TENANT_ID))));
   }
 
+  @Test
+  void saveAll_instanceCountsMaintainedByTriggers() {
+    var instanceId = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+    repository.saveAll(new ChildResourceEntityBatch(Set.of(subjectEntity("1"), subjectEntity("2")), List.of(
+      subjectRelation(instanceId, "1"),
+      subjectRelation(instanceId, "2"),
+      subjectRelation("b3bae8a9-cfb1-4afe-83d5-2cdae4580e07", "2"))));
+
+    assertThat(jdbcTemplate.queryForList(
+      "SELECT subject_id, instance_count FROM instance_subject_count ORDER BY subject_id"))
+      .extracting(row -> row.get("subject_id"), row -> row.get("instance_count"))
+      .containsExactly(tuple("1", 1L), tuple("2", 2L));
+
+    // act
+    repository.deleteByInstanceIds(List.of(instanceId), null);
+
+    // assert
+    assertThat(jdbcTemplate.queryForList(
+      "SELECT subject_id, instance_count FROM instance_subject_count ORDER BY subject_id"))
+      .extracting(row -> row.get("subject_id"), row -> row.get("instance_count"))
+      .containsExactly(tuple("2", 1L));
+  }
+
+  @Test
+  void truncateInstanceSubject_instanceCountsRemoved() {
+    repository.saveAll(new ChildResourceEntityBatch(Set.of(subjectEntity("1")),
+      List.of(subjectRelation("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11", "1"))));
+
+    jdbcTemplate.execute("TRUNCATE instance_subject");
+
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM instance_subject_count", Integer.class)).isZero();
+  }
+
   @Test
   void saveAllOnReindex() {
     // save entity "1" via saveAll first, capturing its last_updated_date
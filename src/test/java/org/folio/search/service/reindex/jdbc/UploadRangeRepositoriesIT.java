@@ -1,14 +1,20 @@
 package org.folio.search.service.reindex.jdbc;
 
+import static org.apache.commons.lang3.StringUtils.repeat;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.folio.support.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.support.TestConstants.TENANT_ID;
 import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.model.reindex.UploadRangeEntity;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.service.reindex.ReindexContext;
 import org.folio.search.utils.JsonConverter;
@@ -75,6 +81,35 @@ class UploadRangeRepositoriesIT {
       .allMatch(range -> range.getStatus() == null && range.getFailCause() == null);
   }
 
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void createUploadRanges_weighted_singleBucketCoversWholeIdSpace() {
+    when(reindexConfig.getUploadRangeTargetBytes()).thenReturn(Long.MAX_VALUE);
+
+    var uploadRanges = uploadInstanceRepository.createUploadRanges();
+
+    assertThat(uploadRanges)
+      .extracting(UploadRangeEntity::getLower, UploadRangeEntity::getUpper)
+      .containsExactly(tuple(repeat("0", 32), repeat("F", 32)));
+  }
+
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void createUploadRanges_weighted_startsRangesAfterTargetSize() {
+    jdbcTemplate.update("""
+      INSERT INTO instance (id, tenant_id, shared, is_bound_with, json)
+      VALUES ('af8febd1-e96c-46c4-a5f4-84a45cc499a2', 'tenant_123', false, false, '{}'::jsonb)""");
+    when(reindexConfig.getUploadRangeTargetBytes()).thenReturn(1L);
+
+    var uploadRanges = uploadInstanceRepository.createUploadRanges();
+
+    assertThat(uploadRanges)
+      .extracting(UploadRangeEntity::getLower, UploadRangeEntity::getUpper)
+      .containsExactly(
+        tuple(repeat("0", 32), "AF8FEBD1E96C46C4A5F484A45CC499A1"),
+        tuple("AF8FEBD1E96C46C4A5F484A45CC499A2", repeat("F", 32)));
+  }
+
   // ── UploadInstanceRepository
 
   @Test
@@ -87,6 +122,16 @@ class UploadRangeRepositoriesIT {
       .hasSize(1);
   }
 
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void uploadInstance_streamByIdRange_returnsInstancesInChunks() {
+    var chunks = new ArrayList<List<Map<String, Object>>>();
+    uploadInstanceRepository.streamByIdRange(
+      "00000000000000000000000000000000", "ffffffffffffffffffffffffffffffff", 1, chunks::add);
+
+    assertThat(chunks).hasSize(1).allSatisfy(chunk -> assertThat(chunk).hasSize(1));
+  }
+
   @Test
   @Sql("/sql/populate-instances.sql")
   void uploadInstance_fetchByIdRangeWithTimestamp_delegatesToFetchByIdRange() {
@@ -98,6 +143,57 @@ class UploadRangeRepositoriesIT {
     assertThat(result).hasSize(1);
   }
 
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void uploadInstance_fetchByIdRangeUpdatedSince_returnsChangedInstances() {
+    var result = uploadInstanceRepository.fetchByIdRangeUpdatedSince(
+      "00000000000000000000000000000000", "ffffffffffffffffffffffffffffffff",
+      Timestamp.from(Instant.now().minusSeconds(60)));
+
+    assertThat(result).hasSize(1);
+  }
+
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void uploadInstance_fetchByIdRangeUpdatedSince_skipsUnchangedInstances() {
+    var result = uploadInstanceRepository.fetchByIdRangeUpdatedSince(
+      "00000000000000000000000000000000", "ffffffffffffffffffffffffffffffff",
+      Timestamp.from(Instant.now().plusSeconds(60)));
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void uploadInstance_fetchByIdRangeUpdatedSince_returnsInstancesWithChangedHoldings() {
+    jdbcTemplate.update("UPDATE instance SET last_updated_date = now() - interval '1 day'");
+    jdbcTemplate.update("""
+      INSERT INTO holding (id, tenant_id, instance_id, json)
+      VALUES ('d3ed5c4d-1f4b-4b4f-9cb2-1a7e8f0d1c11', 'tenant_123', '9f8febd1-e96c-46c4-a5f4-84a45cc499a2', '{}')""");
+    var updatedSince = Timestamp.from(Instant.now().minusSeconds(60));
+
+    var result = uploadInstanceRepository.fetchByIdRangeUpdatedSince(
+      "00000000000000000000000000000000", "ffffffffffffffffffffffffffffffff", updatedSince);
+
+    assertThat(result).hasSize(1);
+  }
+
+  @Test
+  @Sql("/sql/populate-instances.sql")
+  void uploadInstance_fetchByIdRangeUpdatedSince_returnsInstancesWithChangedItems() {
+    jdbcTemplate.update("UPDATE instance SET last_updated_date = now() - interval '1 day'");
+    jdbcTemplate.update("""
+      INSERT INTO item (id, tenant_id, instance_id, holding_id, json)
+      VALUES ('6a2b8f3e-5c1d-4e7a-9b0f-2d4c6e8a0b13', 'tenant_123', '9f8febd1-e96c-46c4-a5f4-84a45cc499a2',
+              'd3ed5c4d-1f4b-4b4f-9cb2-1a7e8f0d1c11', '{}')""");
+    var updatedSince = Timestamp.from(Instant.now().minusSeconds(60));
+
+    var result = uploadInstanceRepository.fetchByIdRangeUpdatedSince(
+      "00000000000000000000000000000000", "ffffffffffffffffffffffffffffffff", updatedSince);
+
+    assertThat(result).hasSize(1);
+  }
+
   @Test
   @Sql("/sql/populate-instances.sql")
   void uploadInstance_fetchByIdRange_fetchesForMemberTenant_whenMemberTenantIdSetInReindexContext() {
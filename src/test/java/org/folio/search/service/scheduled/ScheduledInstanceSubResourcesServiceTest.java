@@ -1,5 +1,6 @@
 package org.folio.search.service.scheduled;
 
+import static org.folio.support.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.support.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.any;
@@ -21,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.model.types.ReindexEntityType;
 import org.folio.search.service.EgressExecutionContextService;
@@ -34,6 +37,7 @@ import org.folio.search.service.reindex.jdbc.SubResourcesLockRepository;
 import org.folio.search.service.reindex.jdbc.SubjectRepository;
 import org.folio.search.service.reindex.jdbc.TenantRepository;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,6 +61,7 @@ class ScheduledInstanceSubResourcesServiceTest {
   private @Mock ItemRepository itemRepository;
   @Mock(answer = Answers.RETURNS_DEEP_STUBS)
   private SearchConfigurationProperties indexingConfig;
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
   private ScheduledInstanceSubResourcesService service;
   private Timestamp timestamp;
 
@@ -74,13 +79,19 @@ class ScheduledInstanceSubResourcesServiceTest {
       executionService,
       instanceRepository,
       itemRepository,
-      indexingConfig
+      indexingConfig,
+      executor
     );
     service.setInstanceChildrenResourceService(instanceChildrenResourceService);
 
     timestamp = new Timestamp(System.currentTimeMillis());
   }
 
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
   @Test
   void persistChildren_ShouldProcessSubResources() {
     // Arrange
@@ -106,6 +117,34 @@ class ScheduledInstanceSubResourcesServiceTest {
       eq(ReindexEntityType.SUBJECT), any(), eq(TENANT_ID), any());
   }
 
+  @Test
+  void persistChildren_shouldProcessTenantsInParallel_whenParallelismConfigured() {
+    // Arrange
+    when(indexingConfig.getIndexing().getSubResourceProcessingParallelism()).thenReturn(2);
+    var parallelService = new ScheduledInstanceSubResourcesService(resourceService, tenantRepository,
+      List.of(subjectRepository), subResourcesLockRepository, reindexStatusService, executionService,
+      instanceRepository, itemRepository, indexingConfig, executor);
+    parallelService.setInstanceChildrenResourceService(instanceChildrenResourceService);
+    doAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call())
+      .when(executionService).execute(anyString(), any(Callable.class));
+    when(subResourcesLockRepository.lockSubResource(any(), any())).thenReturn(Optional.of(timestamp));
+    when(subResourcesLockRepository.lockChildSubResource(any(), any(), any())).thenReturn(Optional.of(timestamp));
+    when(tenantRepository.fetchDataTenantIds()).thenReturn(List.of(TENANT_ID, MEMBER_TENANT_ID));
+    mockSubResourceResult(TENANT_ID, timestamp);
+    mockSubResourceResult(MEMBER_TENANT_ID, timestamp);
+
+    // Act
+    parallelService.persistChildren();
+
+    // Assert
+    verify(subjectRepository).fetchByTimestamp(TENANT_ID, timestamp, 3);
+    verify(subjectRepository).fetchByTimestamp(MEMBER_TENANT_ID, timestamp, 3);
+    verify(instanceChildrenResourceService, times(4)).persistChildren(anyString(), any(), anyList());
+    verify(resourceService, times(2)).indexResources(anyList());
+    verify(subResourcesLockRepository, times(2)).unlockSubResourceFenced(
+      eq(ReindexEntityType.SUBJECT), any(), anyString(), any());
+  }
+
   @Test
   void persistChildren_ShouldProcessSubResourcesSizeEqualsBatchSize() {
     // Arrange
@@ -0,0 +1,108 @@
+package org.folio.search.service.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.support.TestConstants.TENANT_ID;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
+import org.folio.search.model.types.ReindexEntityType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SubResourceIndexBufferTest {
+
+  private static final ReindexEntityType SUBJECT = ReindexEntityType.SUBJECT;
+
+  private final AtomicLong clock = new AtomicLong(0);
+  private SubResourceIndexBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    var settings = new IndexingSettings();
+    settings.setSubResourceBufferEnabled(true);
+    settings.setSubResourceBufferMaxSize(3);
+    settings.setSubResourceBufferMaxDelayMs(1000);
+    settings.setSubResourceBufferMaxBatchSize(2);
+    buffer = new SubResourceIndexBuffer(settings, clock::get);
+  }
+
+  @Test
+  void add_positive_coalescesRecordsById() {
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 10, "v1"), record("2", 11, "v1")), ts(11));
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 12, "v2")), ts(12));
+
+    assertThat(buffer.size(TENANT_ID, SUBJECT)).isEqualTo(2);
+
+    clock.set(1000);
+    var flushed = new ArrayList<Map<String, Object>>();
+    buffer.flushIfReady(TENANT_ID, SUBJECT, 1, flushed::addAll);
+    assertThat(flushed).containsExactly(record("1", 12, "v2"), record("2", 11, "v1"));
+  }
+
+  @Test
+  void flushIfReady_positive_waitsForThresholds() {
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 10, "v1")), ts(10));
+
+    clock.set(999);
+    assertThat(buffer.flushIfReady(TENANT_ID, SUBJECT, 1, batch -> { })).isZero();
+
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("2", 11, "v1"), record("3", 12, "v1")), ts(12));
+    var batches = new ArrayList<List<Map<String, Object>>>();
+    assertThat(buffer.flushIfReady(TENANT_ID, SUBJECT, 1, batches::add)).isEqualTo(3);
+    assertThat(batches).extracting(List::size).containsExactly(2, 1);
+    assertThat(buffer.size(TENANT_ID, SUBJECT)).isZero();
+  }
+
+  @Test
+  void flushIfReady_negative_keepsRecordsOfFailedBatch() {
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 10, "v1"), record("2", 11, "v1"),
+      record("3", 12, "v1")), ts(12));
+
+    assertThatThrownBy(() -> buffer.flushIfReady(TENANT_ID, SUBJECT, 1, batch -> {
+      if (batch.size() == 1) {
+        throw new IllegalStateException("failed");
+      }
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(buffer.size(TENANT_ID, SUBJECT)).isEqualTo(1);
+    assertThat(buffer.holdBack(TENANT_ID, SUBJECT, ts(12))).isEqualTo(ts(11));
+  }
+
+  @Test
+  void holdBack_positive_returnsTimestampBeforeEarliestPendingRecord() {
+    assertThat(buffer.holdBack(TENANT_ID, SUBJECT, ts(20))).isEqualTo(ts(20));
+
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 10, "v1")), ts(10));
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 15, "v2")), ts(15));
+
+    assertThat(buffer.holdBack(TENANT_ID, SUBJECT, ts(20))).isEqualTo(ts(9));
+    assertThat(buffer.holdBack(TENANT_ID, SUBJECT, ts(5))).isEqualTo(ts(5));
+  }
+
+  @Test
+  void resumeCursor_positive_onlyForOwnWatermark() {
+    buffer.add(TENANT_ID, SUBJECT, List.of(record("1", 10, "v1"), record("2", 11, "v1")), ts(11));
+    buffer.onWatermarkPersisted(TENANT_ID, SUBJECT, ts(9));
+
+    assertThat(buffer.resumeCursor(TENANT_ID, SUBJECT, ts(9)))
+      .isEqualTo(new SubResourceIndexBuffer.ScanCursor(ts(11), "2"));
+
+    assertThat(buffer.resumeCursor(TENANT_ID, SUBJECT, ts(30))).isNull();
+    assertThat(buffer.size(TENANT_ID, SUBJECT)).isZero();
+  }
+
+  private static Map<String, Object> record(String id, long lastUpdated, String value) {
+    return Map.of("id", id, "lastUpdatedDate", ts(lastUpdated), "value", value);
+  }
+
+  private static Timestamp ts(long millis) {
+    return new Timestamp(millis);
+  }
+}
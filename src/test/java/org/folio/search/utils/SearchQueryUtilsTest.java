@@ -83,6 +83,9 @@ class SearchQueryUtilsTest {
       arguments(boolQuery().should(termQuery(FIELD, "v1")).should(termQuery(FIELD, "v2")), true),
       arguments(boolQuery().should(termQuery).should(termQuery("f1", "v"))
         .should(termQuery("f2", "v")), false),
+      arguments(boolQuery().should(termsQuery(FIELD, "v1", "v2")).should(termQuery(FIELD, "v3")), true),
+      arguments(boolQuery().should(rangeQuery(FIELD).gt(1)).should(termQuery(FIELD, "v1")), true),
+      arguments(boolQuery().should(termsQuery(FIELD, "v1", "v2")).should(termQuery("f1", "v3")), false),
       arguments(boolQuery().should(termQuery(FIELD, "v1")).mustNot(termQuery(FIELD, "v2")), false),
       arguments(boolQuery().must(termQuery), false),
       arguments(boolQuery().must(termQuery).mustNot(termQuery), false),